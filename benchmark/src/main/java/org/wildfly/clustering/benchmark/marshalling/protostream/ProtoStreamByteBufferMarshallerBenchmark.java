@@ -0,0 +1,123 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.marshalling.protostream;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.protostream.ClassLoaderResolver;
+import org.wildfly.clustering.marshalling.protostream.ImmutableSerializationContext;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamConfiguration;
+
+/**
+ * Measures {@link ProtoStreamByteBufferMarshaller#write(Object)} and {@link ProtoStreamByteBufferMarshaller#read(ByteBuffer)} of typical session attribute graphs.
+ * @author Paul Ferraro
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProtoStreamByteBufferMarshallerBenchmark {
+
+	/**
+	 * Typical session attribute values.
+	 */
+	public enum Attribute {
+		/** A simple string, e.g. a user name */
+		STRING() {
+			@Override
+			Object create() {
+				return "user@example.com";
+			}
+		},
+		/** An opaque token */
+		TOKEN() {
+			@Override
+			Object create() {
+				return UUID.randomUUID();
+			}
+		},
+		/** A small map of mixed values, e.g. user preferences */
+		MAP() {
+			@Override
+			Object create() {
+				Map<String, Object> map = new HashMap<>();
+				map.put("locale", "en_US");
+				map.put("timezone", "UTC");
+				map.put("page-size", 25);
+				map.put("last-login", LocalDateTime.now());
+				map.put("tracking-id", UUID.randomUUID());
+				return map;
+			}
+		},
+		/** A larger collection of nested maps, e.g. a shopping cart */
+		CART() {
+			@Override
+			Object create() {
+				List<Map<String, Object>> items = new ArrayList<>(50);
+				for (int i = 0; i < 50; ++i) {
+					Map<String, Object> item = new HashMap<>();
+					item.put("sku", UUID.randomUUID().toString());
+					item.put("quantity", i % 5 + 1);
+					item.put("price", BigDecimal.valueOf(i * 100 + 99, 2));
+					item.put("added", LocalDateTime.now());
+					items.add(item);
+				}
+				return items;
+			}
+		},
+		;
+		abstract Object create();
+	}
+
+	@Param
+	private Attribute attribute;
+
+	private ByteBufferMarshaller marshaller;
+	private Object value;
+	private ByteBuffer buffer;
+
+	@Setup
+	public void setup() throws IOException {
+		ProtoStreamConfiguration configuration = ProtoStreamConfiguration.Builder.with(ClassLoaderResolver.of(this.getClass().getClassLoader())).build();
+		this.marshaller = new ProtoStreamByteBufferMarshaller(ImmutableSerializationContext.Builder.with(configuration).build());
+		this.value = this.attribute.create();
+		this.buffer = this.marshaller.write(this.value);
+	}
+
+	@Benchmark
+	public ByteBuffer write() throws IOException {
+		return this.marshaller.write(this.value);
+	}
+
+	@Benchmark
+	public Object read() throws IOException {
+		return this.marshaller.read(this.buffer.duplicate());
+	}
+}
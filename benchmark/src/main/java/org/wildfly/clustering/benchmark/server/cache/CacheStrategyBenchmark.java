@@ -0,0 +1,75 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.server.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.clustering.function.Consumer;
+import org.wildfly.clustering.server.cache.Cache;
+import org.wildfly.clustering.server.cache.CacheStrategy;
+
+/**
+ * Measures {@link Cache#computeIfAbsent(Object, java.util.function.BiFunction)} of a {@link CacheStrategy#CONCURRENT} cache under contention.
+ * A single key simulates concurrent requests for the same session; a larger key space simulates independent sessions.
+ * @author Paul Ferraro
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CacheStrategyBenchmark {
+
+	@Param({ "1", "1024" })
+	private int keys;
+
+	private Cache<Integer, Reference> cache;
+
+	@Setup
+	public void setup() {
+		this.cache = CacheStrategy.CONCURRENT.createCache(Consumer.of(), Consumer.of());
+	}
+
+	@Benchmark
+	@Threads(8)
+	public Reference computeIfAbsent() {
+		Integer key = ThreadLocalRandom.current().nextInt(this.keys);
+		Reference reference = this.cache.computeIfAbsent(key, Reference::new);
+		// Release our reference, as would Session.close()
+		reference.close();
+		return reference;
+	}
+
+	/**
+	 * A cached value that releases its cache entry on close.
+	 */
+	public static class Reference implements AutoCloseable {
+		private final Runnable closeTask;
+
+		Reference(@SuppressWarnings("unused") Integer key, Runnable closeTask) {
+			this.closeTask = closeTask;
+		}
+
+		@Override
+		public void close() {
+			this.closeTask.run();
+		}
+	}
+}
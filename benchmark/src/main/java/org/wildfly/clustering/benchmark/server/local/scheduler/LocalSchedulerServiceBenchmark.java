@@ -0,0 +1,105 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.server.local.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.clustering.function.Predicate;
+import org.wildfly.clustering.server.local.scheduler.LocalSchedulerService;
+import org.wildfly.clustering.server.local.scheduler.ScheduledEntries;
+
+/**
+ * Measures the cancel/schedule pair that session managers perform for every request against a {@link LocalSchedulerService} pre-populated with a configurable number of entries.
+ * @author Paul Ferraro
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class LocalSchedulerServiceBenchmark {
+	private static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory(LocalSchedulerServiceBenchmark.class, LocalSchedulerServiceBenchmark.class.getClassLoader());
+
+	@Param({ "10000", "1000000" })
+	private int entries;
+
+	@Param({ "sorted", "wheel" })
+	private String scheduledEntries;
+
+	private LocalSchedulerService<Integer> scheduler;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ScheduledEntries<Integer, Instant> scheduledEntries = this.scheduledEntries.equals("wheel") ? ScheduledEntries.wheel(Duration.ofSeconds(1)) : ScheduledEntries.sorted();
+		this.scheduler = new LocalSchedulerService<>(new LocalSchedulerService.Configuration<>() {
+			@Override
+			public String getName() {
+				return LocalSchedulerServiceBenchmark.class.getSimpleName();
+			}
+
+			@Override
+			public ScheduledEntries<Integer, Instant> getScheduledEntries() {
+				return scheduledEntries;
+			}
+
+			@Override
+			public Predicate<Integer> getTask() {
+				return Predicate.of(true);
+			}
+
+			@Override
+			public ThreadFactory getThreadFactory() {
+				return THREAD_FACTORY;
+			}
+		});
+		this.scheduler.start();
+		// Schedule entries far enough in the future such that they never expire during the benchmark
+		Instant now = Instant.now();
+		for (int i = 0; i < this.entries; ++i) {
+			this.scheduler.schedule(i, this.expiration(now));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.scheduler.stop();
+		this.scheduler.close();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void cancelAndSchedule() {
+		Integer key = ThreadLocalRandom.current().nextInt(this.entries);
+		// Emulates session access: cancel on request start, reschedule on request end
+		this.scheduler.cancel(key);
+		this.scheduler.schedule(key, this.expiration(Instant.now()));
+	}
+
+	private Instant expiration(Instant now) {
+		// Spread expiration times to emulate sessions with varying last-access times
+		return now.plus(Duration.ofHours(1)).plusMillis(ThreadLocalRandom.current().nextInt(1800000));
+	}
+}
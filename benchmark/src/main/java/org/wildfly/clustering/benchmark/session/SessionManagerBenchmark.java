@@ -0,0 +1,234 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.configuration.cache.ConfigurationBuilder;
+import org.infinispan.configuration.cache.StorageType;
+import org.infinispan.configuration.global.GlobalConfigurationBuilder;
+import org.infinispan.configuration.parsing.ConfigurationBuilderHolder;
+import org.infinispan.manager.DefaultCacheManager;
+import org.infinispan.manager.EmbeddedCacheManager;
+import org.infinispan.protostream.SerializationContextInitializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.clustering.cache.infinispan.embedded.EmbeddedCacheConfiguration;
+import org.wildfly.clustering.cache.infinispan.marshalling.MediaTypes;
+import org.wildfly.clustering.cache.infinispan.marshalling.UserMarshaller;
+import org.wildfly.clustering.function.Consumer;
+import org.wildfly.clustering.function.Supplier;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.protostream.ClassLoaderResolver;
+import org.wildfly.clustering.marshalling.protostream.ImmutableSerializationContext;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamConfiguration;
+import org.wildfly.clustering.server.immutable.Immutability;
+import org.wildfly.clustering.server.infinispan.dispatcher.CacheContainerCommandDispatcherFactory;
+import org.wildfly.clustering.server.infinispan.dispatcher.EmbeddedCacheManagerCommandDispatcherFactory;
+import org.wildfly.clustering.server.infinispan.dispatcher.LocalEmbeddedCacheManagerCommandDispatcherFactoryConfiguration;
+import org.wildfly.clustering.session.ImmutableSession;
+import org.wildfly.clustering.session.Session;
+import org.wildfly.clustering.session.SessionAttributePersistenceStrategy;
+import org.wildfly.clustering.session.SessionManager;
+import org.wildfly.clustering.session.SessionManagerConfiguration;
+import org.wildfly.clustering.session.SessionManagerFactory;
+import org.wildfly.clustering.session.SessionManagerFactoryConfiguration;
+import org.wildfly.clustering.session.infinispan.embedded.InfinispanSessionManagerFactory;
+
+/**
+ * Measures a typical request cycle, i.e. {@link SessionManager#findSessionAsync(String)}, attribute access, and {@link Session#close()}, of a session manager backed by a non-clustered embedded cache.
+ * Off-heap storage forces marshalling of session attributes, as would a clustered or persistent cache.
+ * @author Paul Ferraro
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SessionManagerBenchmark {
+	private static final String CONTAINER_NAME = "local";
+	private static final String DEPLOYMENT_NAME = "benchmark.war";
+	private static final String ATTRIBUTE_NAME = "attribute";
+
+	@Param
+	private SessionAttributePersistenceStrategy strategy;
+
+	@Param({ "HEAP", "OFF_HEAP" })
+	private StorageType storage;
+
+	@Param({ "1000" })
+	private int sessions;
+
+	private EmbeddedCacheManager container;
+	private Cache<?, ?> cache;
+	private SessionManagerFactory<String, Void> factory;
+	private SessionManager<Void> manager;
+	private final List<String> sessionIds = new ArrayList<>();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		ClassLoader loader = this.getClass().getClassLoader();
+		ByteBufferMarshaller marshaller = new ProtoStreamByteBufferMarshaller(ImmutableSerializationContext.Builder.with(ProtoStreamConfiguration.Builder.with(ClassLoaderResolver.of(loader)).build()).build());
+
+		GlobalConfigurationBuilder global = new GlobalConfigurationBuilder().cacheManagerName(CONTAINER_NAME).classLoader(loader);
+		global.transport().nodeName(CONTAINER_NAME);
+		// Register dummy serialization context initializer, to bypass service loading in org.infinispan.marshall.protostream.impl.SerializationContextRegistryImpl
+		global.serialization().marshaller(new UserMarshaller(MediaTypes.WILDFLY_PROTOSTREAM, marshaller)).addContextInitializer(new SerializationContextInitializer() {
+			@Override
+			public void registerSchema(org.infinispan.protostream.SerializationContext context) {
+			}
+
+			@Override
+			public void registerMarshallers(org.infinispan.protostream.SerializationContext context) {
+			}
+		});
+		this.container = new DefaultCacheManager(new ConfigurationBuilderHolder(loader, global), false);
+		this.container.start();
+
+		ConfigurationBuilder builder = new ConfigurationBuilder();
+		builder.clustering().cacheMode(CacheMode.LOCAL);
+		builder.memory().storage(this.storage);
+		this.container.defineConfiguration(DEPLOYMENT_NAME, builder.build());
+		this.cache = this.container.getCache(DEPLOYMENT_NAME);
+		this.cache.start();
+
+		EmbeddedCacheManager container = this.container;
+		Cache<?, ?> cache = this.cache;
+		SessionAttributePersistenceStrategy strategy = this.strategy;
+		CacheContainerCommandDispatcherFactory dispatcherFactory = new EmbeddedCacheManagerCommandDispatcherFactory<>(new LocalEmbeddedCacheManagerCommandDispatcherFactoryConfiguration() {
+			@Override
+			public EmbeddedCacheManager getCacheContainer() {
+				return container;
+			}
+		});
+		SessionManagerFactoryConfiguration<Void> factoryConfiguration = new SessionManagerFactoryConfiguration<>() {
+			@Override
+			public ByteBufferMarshaller getMarshaller() {
+				return marshaller;
+			}
+
+			@Override
+			public Supplier<Void> getSessionContextFactory() {
+				return Supplier.of(null);
+			}
+
+			@Override
+			public Immutability getImmutability() {
+				return Immutability.getDefault();
+			}
+
+			@Override
+			public SessionAttributePersistenceStrategy getAttributePersistenceStrategy() {
+				return strategy;
+			}
+
+			@Override
+			public String getDeploymentName() {
+				return DEPLOYMENT_NAME;
+			}
+
+			@Override
+			public String getServerName() {
+				return CONTAINER_NAME;
+			}
+
+			@Override
+			public ClassLoader getClassLoader() {
+				return loader;
+			}
+		};
+		this.factory = new InfinispanSessionManagerFactory<>(new InfinispanSessionManagerFactory.Configuration<>() {
+			@Override
+			public SessionManagerFactoryConfiguration<Void> getSessionManagerFactoryConfiguration() {
+				return factoryConfiguration;
+			}
+
+			@Override
+			public CacheContainerCommandDispatcherFactory getCommandDispatcherFactory() {
+				return dispatcherFactory;
+			}
+
+			@Override
+			public EmbeddedCacheConfiguration getCacheConfiguration() {
+				return EmbeddedCacheConfiguration.of(cache);
+			}
+		});
+		this.manager = this.factory.createSessionManager(new SessionManagerConfiguration<>() {
+			@Override
+			public Supplier<String> getIdentifierFactory() {
+				return () -> UUID.randomUUID().toString();
+			}
+
+			@Override
+			public Consumer<ImmutableSession> getExpirationListener() {
+				return Consumer.of();
+			}
+
+			@Override
+			public Optional<Duration> getMaxIdle() {
+				return Optional.of(Duration.ofMinutes(30));
+			}
+
+			@Override
+			public String getContext() {
+				return DEPLOYMENT_NAME;
+			}
+		});
+		this.manager.start();
+
+		for (int i = 0; i < this.sessions; ++i) {
+			String id = this.manager.getIdentifierFactory().get();
+			try (Session<Void> session = this.manager.createSession(id)) {
+				session.getAttributes().put(ATTRIBUTE_NAME, new ArrayList<>(List.of(UUID.randomUUID(), UUID.randomUUID())));
+				session.getMetaData().setLastAccess(session.getMetaData().getCreationTime(), Instant.now());
+			}
+			this.sessionIds.add(id);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.manager.stop();
+		this.factory.close();
+		this.cache.stop();
+		this.container.stop();
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Object findAndClose() {
+		String id = this.sessionIds.get(ThreadLocalRandom.current().nextInt(this.sessionIds.size()));
+		Instant start = Instant.now();
+		try (Session<Void> session = this.manager.findSessionAsync(id).toCompletableFuture().join()) {
+			Object value = session.getAttributes().get(ATTRIBUTE_NAME);
+			session.getMetaData().setLastAccess(start, Instant.now());
+			return value;
+		}
+	}
+}
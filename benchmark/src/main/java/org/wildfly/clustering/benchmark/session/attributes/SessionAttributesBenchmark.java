@@ -0,0 +1,126 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.benchmark.session.attributes;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wildfly.clustering.cache.CacheEntryMutator;
+import org.wildfly.clustering.cache.CacheEntryMutatorFactory;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.protostream.ClassLoaderResolver;
+import org.wildfly.clustering.marshalling.protostream.ImmutableSerializationContext;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.protostream.ProtoStreamConfiguration;
+import org.wildfly.clustering.server.immutable.Immutability;
+import org.wildfly.clustering.session.SessionAttributePersistenceStrategy;
+import org.wildfly.clustering.session.cache.attributes.SessionAttributeActivationNotifier;
+import org.wildfly.clustering.session.cache.attributes.SessionAttributes;
+import org.wildfly.clustering.session.cache.attributes.coarse.CoarseSessionAttributes;
+import org.wildfly.clustering.session.cache.attributes.fine.FineSessionAttributes;
+
+/**
+ * Measures the per-request lifecycle of {@link CoarseSessionAttributes} and {@link FineSessionAttributes}, i.e. creation, attribute access, and {@link SessionAttributes#close()}.
+ * Mutators marshal their updates, but do not write to a cache.
+ * @author Paul Ferraro
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SessionAttributesBenchmark {
+	private static final String IMMUTABLE_ATTRIBUTE_NAME = "user";
+	private static final String MUTABLE_ATTRIBUTE_NAME = "cart";
+
+	@Param
+	private SessionAttributePersistenceStrategy strategy;
+
+	@Param({ "4", "32" })
+	private int attributes;
+
+	private ByteBufferMarshaller marshaller;
+	private Immutability immutability;
+	private Map<String, Object> template;
+
+	@Setup
+	public void setup() {
+		ProtoStreamConfiguration configuration = ProtoStreamConfiguration.Builder.with(ClassLoaderResolver.of(this.getClass().getClassLoader())).build();
+		this.marshaller = new ProtoStreamByteBufferMarshaller(ImmutableSerializationContext.Builder.with(configuration).build());
+		this.immutability = Immutability.getDefault();
+		this.template = new HashMap<>();
+		this.template.put(IMMUTABLE_ATTRIBUTE_NAME, "user@example.com");
+		List<String> cart = new ArrayList<>();
+		for (int i = 0; i < 10; ++i) {
+			cart.add(UUID.randomUUID().toString());
+		}
+		this.template.put(MUTABLE_ATTRIBUTE_NAME, cart);
+		for (int i = this.template.size(); i < this.attributes; ++i) {
+			this.template.put("attribute" + i, UUID.randomUUID());
+		}
+	}
+
+	@Benchmark
+	public Object getImmutable() {
+		try (SessionAttributes attributes = this.createSessionAttributes()) {
+			return attributes.get(IMMUTABLE_ATTRIBUTE_NAME);
+		}
+	}
+
+	@Benchmark
+	public Object getMutable() {
+		try (SessionAttributes attributes = this.createSessionAttributes()) {
+			return attributes.get(MUTABLE_ATTRIBUTE_NAME);
+		}
+	}
+
+	@Benchmark
+	public Object put() {
+		try (SessionAttributes attributes = this.createSessionAttributes()) {
+			return attributes.put(IMMUTABLE_ATTRIBUTE_NAME, "user@example.org");
+		}
+	}
+
+	private SessionAttributes createSessionAttributes() {
+		// Emulate a freshly loaded attribute map
+		Map<String, Object> attributes = new HashMap<>(this.template);
+		return switch (this.strategy) {
+			case COARSE -> new CoarseSessionAttributes(attributes, () -> this.write(attributes), this.marshaller, this.immutability, SessionAttributeActivationNotifier.SILENT);
+			case FINE -> new FineSessionAttributes<>(UUID.randomUUID().toString(), attributes, new CacheEntryMutatorFactory<String, Map<String, ByteBuffer>>() {
+				@Override
+				public CacheEntryMutator createMutator(String key, Map<String, ByteBuffer> value) {
+					return CacheEntryMutator.EMPTY;
+				}
+			}, this.marshaller, this.immutability, SessionAttributeActivationNotifier.SILENT);
+		};
+	}
+
+	private ByteBuffer write(Object value) {
+		try {
+			return this.marshaller.write(value);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -21,7 +21,7 @@ public interface KeyAffinityServiceFactory {
 	KeyAffinityServiceFactory INSTANCE = new KeyAffinityServiceFactory() {
 		@Override
 		public <K> KeyAffinityService<K> createService(Cache<? extends K, ?> cache, KeyGenerator<K> generator, Predicate<Address> filter) {
-			return (cache.getAdvancedCache().getDistributionManager() != null) ? new DefaultKeyAffinityService<>(cache, generator, filter) : new SimpleKeyAffinityService<>(generator);
+			return (cache.getAdvancedCache().getDistributionManager() != null) ? new OnDemandKeyAffinityService<>(cache, generator, filter) : new SimpleKeyAffinityService<>(generator);
 		}
 	};
 
@@ -0,0 +1,164 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.cache.infinispan.embedded.affinity;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.infinispan.Cache;
+import org.infinispan.affinity.KeyAffinityService;
+import org.infinispan.affinity.KeyGenerator;
+import org.infinispan.distribution.ch.ConsistentHash;
+import org.infinispan.remoting.transport.Address;
+import org.wildfly.clustering.cache.infinispan.embedded.distribution.KeyDistribution;
+
+/**
+ * A key affinity service implementation that generates keys on demand, using the calling thread, with the following distinct characteristics (as compared to {@link DefaultKeyAffinityService}):
+ * <ul>
+ * <li>Requires no background threads nor queues of pre-generated keys.</li>
+ * <li>No CPU utilization between requests for keys, nor following topology change events.</li>
+ * <li>Only generates keys on behalf of the requested address, rather than for every address matching the filter.</li>
+ * <li>Consults the current write consistent hash for every request, thus keys never reflect a stale topology.</li>
+ * </ul>
+ * The number of keys generated per request is bounded by a multiple of the expected number of keys required to hit a primary segment of the requested address.
+ * {@link #getKeyForAddress(Address)} will return a random key if this bound is exceeded, or if the specified address does not own any primary segments.
+ * Since keys are created by an opaque {@link KeyGenerator}, keys cannot be derived to target a given segment directly, thus candidate keys are still sampled, albeit only on demand.
+ * @param <K> the cache key type
+ * @author Paul Ferraro
+ */
+public class OnDemandKeyAffinityService<K> implements KeyAffinityService<K> {
+	static final int ATTEMPTS_PER_EXPECTED_KEY = 16;
+	private static final Function<Cache<?, ?>, ConsistentHash> CURRENT_CONSISTENT_HASH = cache -> cache.getAdvancedCache().getDistributionManager().getCacheTopology().getWriteConsistentHash();
+	private static final BiFunction<Cache<?, ?>, ConsistentHash, KeyDistribution> KEY_DISTRIBUTION_FACTORY = KeyDistribution::forConsistentHash;
+
+	private static final System.Logger LOGGER = System.getLogger(OnDemandKeyAffinityService.class.getName());
+
+	private final Cache<? extends K, ?> cache;
+	private final KeyGenerator<? extends K> generator;
+	private final Predicate<Address> filter;
+	private final Function<Cache<?, ?>, ConsistentHash> currentConsistentHash;
+	private final BiFunction<Cache<?, ?>, ConsistentHash, KeyDistribution> distributionFactory;
+
+	private volatile KeyAffinityState state;
+	private volatile boolean started;
+
+	/**
+	 * Constructs a key affinity service that generates keys hashing to the members matching the specified filter.
+	 * @param cache the target cache
+	 * @param generator a key generator
+	 * @param filter a filter restricting the addresses for which the service should generate keys
+	 */
+	OnDemandKeyAffinityService(Cache<? extends K, ?> cache, KeyGenerator<? extends K> generator, Predicate<Address> filter) {
+		this(cache, generator, filter, CURRENT_CONSISTENT_HASH, KEY_DISTRIBUTION_FACTORY);
+	}
+
+	OnDemandKeyAffinityService(Cache<? extends K, ?> cache, KeyGenerator<? extends K> generator, Predicate<Address> filter, Function<Cache<?, ?>, ConsistentHash> currentConsistentHash, BiFunction<Cache<?, ?>, ConsistentHash, KeyDistribution> distributionFactory) {
+		this.cache = cache;
+		this.generator = generator;
+		this.filter = filter;
+		this.currentConsistentHash = currentConsistentHash;
+		this.distributionFactory = distributionFactory;
+	}
+
+	@Override
+	public boolean isStarted() {
+		return this.started;
+	}
+
+	@Override
+	public void start() {
+		this.started = true;
+	}
+
+	@Override
+	public void stop() {
+		this.started = false;
+		this.state = null;
+	}
+
+	@Override
+	public K getCollocatedKey(K otherKey) {
+		if (this.started) {
+			KeyAffinityState state = this.getState();
+			K key = this.generate(state, state.getDistribution().getPrimaryOwner(otherKey));
+			if (key != null) {
+				return key;
+			}
+		}
+		LOGGER.log(System.Logger.Level.DEBUG, "Could not generate key for {0} with same affinity as {1} -- generating random key", this.cache.getName(), otherKey);
+		return this.generator.getKey();
+	}
+
+	@Override
+	public K getKeyForAddress(Address address) {
+		if (!this.filter.test(address)) {
+			throw new IllegalArgumentException(address.toString());
+		}
+		if (this.started) {
+			K key = this.generate(this.getState(), address);
+			if (key != null) {
+				return key;
+			}
+		}
+		LOGGER.log(System.Logger.Level.DEBUG, "Could not generate key for {0} with affinity for {1} -- generating random key", this.cache.getName(), address);
+		return this.generator.getKey();
+	}
+
+	private K generate(KeyAffinityState state, Address address) {
+		KeyDistribution distribution = state.getDistribution();
+		int attempts = state.getAttempts(address);
+		for (int i = 0; i < attempts; ++i) {
+			K key = this.generator.getKey();
+			if (address.equals(distribution.getPrimaryOwner(key))) {
+				return key;
+			}
+		}
+		return null;
+	}
+
+	private KeyAffinityState getState() {
+		ConsistentHash hash = this.currentConsistentHash.apply(this.cache);
+		KeyAffinityState state = this.state;
+		// Recreate state if the consistent hash changed since our last request
+		if ((state == null) || (state.getConsistentHash() != hash)) {
+			state = new KeyAffinityState(hash, this.distributionFactory.apply(this.cache, hash));
+			this.state = state;
+		}
+		return state;
+	}
+
+	private static class KeyAffinityState {
+		private final ConsistentHash hash;
+		private final KeyDistribution distribution;
+		private final Map<Address, Integer> attempts = new ConcurrentHashMap<>();
+
+		KeyAffinityState(ConsistentHash hash, KeyDistribution distribution) {
+			this.hash = hash;
+			this.distribution = distribution;
+		}
+
+		ConsistentHash getConsistentHash() {
+			return this.hash;
+		}
+
+		KeyDistribution getDistribution() {
+			return this.distribution;
+		}
+
+		int getAttempts(Address address) {
+			return this.attempts.computeIfAbsent(address, this::computeAttempts);
+		}
+
+		private int computeAttempts(Address address) {
+			int segments = this.hash.getPrimarySegmentsForOwner(address).size();
+			// The expected number of generated keys required to hit a primary segment of this address is (total segments / primary segments)
+			return (segments > 0) ? ATTEMPTS_PER_EXPECTED_KEY * ((this.hash.getNumSegments() + segments - 1) / segments) : 0;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.cache.infinispan.embedded.affinity;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.infinispan.AdvancedCache;
+import org.infinispan.affinity.KeyAffinityService;
+import org.infinispan.affinity.KeyGenerator;
+import org.infinispan.distribution.ch.ConsistentHash;
+import org.infinispan.remoting.transport.Address;
+import org.junit.jupiter.api.Test;
+import org.wildfly.clustering.cache.infinispan.embedded.distribution.KeyDistribution;
+
+/**
+ * Unit test for {@link OnDemandKeyAffinityService}.
+ * @author Paul Ferraro
+ */
+public class OnDemandKeyAffinityServiceTestCase {
+
+	private static final int SEGMENTS = 3;
+	private static final int LOCAL_SEGMENT = 0;
+	private static final int REMOTE_SEGMENT = 1;
+	private static final int FILTERED_SEGMENT = 2;
+
+	@Test
+	public void test() {
+		KeyGenerator<UUID> generator = mock(KeyGenerator.class);
+		AdvancedCache<UUID, Object> cache = mock(AdvancedCache.class);
+		KeyDistribution distribution = mock(KeyDistribution.class);
+		ConsistentHash hash = mock(ConsistentHash.class);
+		Address local = mock(Address.class);
+		Address remote = mock(Address.class);
+		Address standby = mock(Address.class);
+		Address ignored = mock(Address.class);
+		KeyAffinityService<UUID> service = new OnDemandKeyAffinityService<>(cache, generator, address -> (address != ignored), c -> hash, (c, h) -> distribution);
+
+		List<Address> members = List.of(local, remote, ignored, standby);
+
+		when(hash.getNumSegments()).thenReturn(SEGMENTS);
+		when(hash.getMembers()).thenReturn(members);
+		when(hash.getPrimarySegmentsForOwner(local)).thenReturn(Set.of(LOCAL_SEGMENT));
+		when(hash.getPrimarySegmentsForOwner(remote)).thenReturn(Set.of(REMOTE_SEGMENT));
+		when(hash.getPrimarySegmentsForOwner(standby)).thenReturn(Set.of());
+		when(hash.getPrimarySegmentsForOwner(ignored)).thenReturn(Set.of(FILTERED_SEGMENT));
+
+		when(generator.getKey()).thenAnswer(invocation -> UUID.randomUUID());
+		when(distribution.getPrimaryOwner(any())).thenAnswer(invocation -> members.get(getSegment(invocation.getArgument(0))));
+
+		// This should throw IAE, since address does not pass filter
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> service.getKeyForAddress(ignored));
+
+		// Validate that service returns random key when not started
+		assertThat(service.getKeyForAddress(local)).isNotNull();
+		verify(distribution, never()).getPrimaryOwner(any());
+
+		service.start();
+
+		try {
+			for (int i = 0; i < 100; ++i) {
+				UUID key = service.getKeyForAddress(local);
+				int segment = getSegment(key);
+				assertThat(segment).isEqualTo(LOCAL_SEGMENT);
+
+				key = service.getCollocatedKey(key);
+				segment = getSegment(key);
+				assertThat(segment).isEqualTo(LOCAL_SEGMENT);
+
+				key = service.getKeyForAddress(remote);
+				segment = getSegment(key);
+				assertThat(segment).isEqualTo(REMOTE_SEGMENT);
+
+				key = service.getCollocatedKey(key);
+				segment = getSegment(key);
+				assertThat(segment).isEqualTo(REMOTE_SEGMENT);
+			}
+
+			// Verify that key generation is bounded for an address that owns no segments
+			reset(generator);
+			when(generator.getKey()).thenAnswer(invocation -> UUID.randomUUID());
+
+			// This should return a random key
+			assertThat(service.getKeyForAddress(standby)).isNotNull();
+			verify(generator).getKey();
+
+			// This should throw IAE, since address does not pass filter
+			assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> service.getKeyForAddress(ignored));
+		} finally {
+			service.stop();
+		}
+	}
+
+	@Test
+	public void bounded() {
+		KeyGenerator<UUID> generator = mock(KeyGenerator.class);
+		AdvancedCache<UUID, Object> cache = mock(AdvancedCache.class);
+		KeyDistribution distribution = mock(KeyDistribution.class);
+		ConsistentHash hash = mock(ConsistentHash.class);
+		Address local = mock(Address.class);
+		Address remote = mock(Address.class);
+		KeyAffinityService<UUID> service = new OnDemandKeyAffinityService<>(cache, generator, address -> true, c -> hash, (c, h) -> distribution);
+
+		when(hash.getNumSegments()).thenReturn(SEGMENTS);
+		when(hash.getMembers()).thenReturn(List.of(local, remote));
+		when(hash.getPrimarySegmentsForOwner(local)).thenReturn(Set.of(LOCAL_SEGMENT));
+		when(generator.getKey()).thenAnswer(invocation -> UUID.randomUUID());
+		// Simulate a generator whose keys never hash to the local member
+		when(distribution.getPrimaryOwner(any())).thenReturn(remote);
+
+		service.start();
+
+		try {
+			// This should return a random key, after a bounded number of attempts
+			assertThat(service.getKeyForAddress(local)).isNotNull();
+
+			int attempts = OnDemandKeyAffinityService.ATTEMPTS_PER_EXPECTED_KEY * SEGMENTS;
+			verify(distribution, times(attempts)).getPrimaryOwner(any());
+			verify(generator, times(attempts + 1)).getKey();
+		} finally {
+			service.stop();
+		}
+	}
+
+	private static int getSegment(UUID key) {
+		return Math.abs(key.hashCode() % SEGMENTS);
+	}
+}
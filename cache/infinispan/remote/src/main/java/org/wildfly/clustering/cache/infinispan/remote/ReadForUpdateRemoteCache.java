@@ -20,6 +20,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -50,6 +51,7 @@ import org.wildfly.clustering.cache.infinispan.transaction.IdentifiedTransaction
 import org.wildfly.clustering.cache.infinispan.transaction.TransactionContextFactory;
 import org.wildfly.clustering.context.Context;
 import org.wildfly.clustering.function.Function;
+import org.wildfly.clustering.function.Runner;
 import org.wildfly.clustering.function.Supplier;
 
 /**
@@ -71,10 +73,37 @@ public class ReadForUpdateRemoteCache<K, V> extends RemoteCacheDecorator<K, V> {
 		}
 	};
 	private static final Xid INITIAL_TX_ID = RemoteXid.create(UUID.randomUUID());
+	private static final long MIN_BACKOFF_MILLIS = 1L;
+	private static final long MAX_BACKOFF_MILLIS = 128L;
 
 	interface SynchronizationFactory extends Function<Xid, CompletableFuture<Synchronization>>, Synchronization {
 	}
 
+	/**
+	 * A read lock held, or being acquired, by a transaction of this client.
+	 */
+	private static class LocalLock {
+		private final Xid txId;
+		private final CompletableFuture<Synchronization> acquisition = new CompletableFuture<>();
+		private final CompletableFuture<Void> release = new CompletableFuture<>();
+
+		LocalLock(Xid txId) {
+			this.txId = txId;
+		}
+
+		Xid getTransactionId() {
+			return this.txId;
+		}
+
+		CompletableFuture<Synchronization> getAcquisition() {
+			return this.acquisition;
+		}
+
+		CompletableFuture<Void> getRelease() {
+			return this.release;
+		}
+	}
+
 	private final InternalRemoteCache<K, V> cache;
 	private final BiFunction<K, Transaction, CompletableFuture<Synchronization>> syncFactory;
 	private final TransactionContextFactory contextFactory;
@@ -108,17 +137,71 @@ public class ReadForUpdateRemoteCache<K, V> extends RemoteCacheDecorator<K, V> {
 			private final RemoteCache<TransactionKey<K>, Xid> putCache = (RemoteCache<TransactionKey<K>, Xid>) cache.noFlags().withFlags(Flag.FORCE_RETURN_VALUE, Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD);
 			private final RemoteCache<TransactionKey<K>, Xid> removeCache = (RemoteCache<TransactionKey<K>, Xid>) cache.noFlags().withFlags(Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD);
 			private final Duration maxTxDuration = Duration.ofMillis(cache.getRemoteCacheContainer().getConfiguration().transactionTimeout());
+			// Read locks held, or being acquired, by transactions of this client
+			private final Map<K, LocalLock> localLocks = new ConcurrentHashMap<>();
 
 			@Override
 			public CompletableFuture<Synchronization> apply(K key, Transaction suspendedTx) {
+				Xid currentTxId = (suspendedTx instanceof IdentifiedTransaction identified) ? identified.getId() : ((TransactionImpl) suspendedTx).getXid();
+				Instant timeout = Instant.now().plus(this.maxTxDuration);
+				return this.lock(key, currentTxId, timeout, new AtomicInteger(0));
+			}
+
+			private CompletableFuture<Synchronization> lock(K key, Xid currentTxId, Instant timeout, AtomicInteger retries) {
+				LocalLock lock = new LocalLock(currentTxId);
+				LocalLock existingLock = this.localLocks.putIfAbsent(key, lock);
+				if (existingLock != null) {
+					if (existingLock.getRelease().isDone()) {
+						// Existing lock was released, but not yet removed
+						this.localLocks.remove(key, existingLock);
+						return this.lock(key, currentTxId, timeout, retries);
+					}
+					if (currentTxId.equals(existingLock.getTransactionId())) {
+						LOGGER.log(System.Logger.Level.TRACE, "{0} already locked for read by {1}", key, currentTxId);
+						return existingLock.getAcquisition().thenApply(synchronization -> (synchronization == UNSUCCESSFUL) ? UNSUCCESSFUL : null);
+					}
+					// Lock is held by another transaction of this client, so a remote attempt is futile until it is released
+					if (retries.incrementAndGet() > maxRetries) {
+						LOGGER.log(System.Logger.Level.TRACE, "Failed to lock {0} for read by {1} after {2} retries", key, currentTxId, maxRetries);
+						return CompletableFuture.completedFuture(UNSUCCESSFUL);
+					}
+					long remainingMillis = Duration.between(Instant.now(), timeout).toMillis();
+					if (remainingMillis <= 0) {
+						LOGGER.log(System.Logger.Level.DEBUG, "Failed to lock {0} for read by {1} after {2} ms", key, currentTxId, this.maxTxDuration.toMillis());
+						return CompletableFuture.failedFuture(new TimeoutException());
+					}
+					LOGGER.log(System.Logger.Level.TRACE, "Awaiting release of {0} by {1} for read by {2}", key, existingLock.getTransactionId(), currentTxId);
+					return existingLock.getRelease().copy().orTimeout(remainingMillis, TimeUnit.MILLISECONDS).thenCompose(ignore -> this.lock(key, currentTxId, timeout, retries));
+				}
+				Runnable release = () -> {
+					this.localLocks.remove(key, lock);
+					lock.getRelease().complete(null);
+				};
+				// Bound the lifetime of our local lock by that of its remote lock, in case our synchronization never completes, e.g. if it was never registered with its transaction
+				lock.getRelease().completeOnTimeout(null, this.maxTxDuration.toMillis(), TimeUnit.MILLISECONDS).thenRun(() -> this.localLocks.remove(key, lock));
+				CompletableFuture<Synchronization> acquisition = this.acquire(key, currentTxId, timeout, retries, release);
+				acquisition.whenComplete((synchronization, exception) -> {
+					// Release local lock unless remote lock was acquired
+					if ((exception != null) || (synchronization == null) || (synchronization == UNSUCCESSFUL)) {
+						release.run();
+					}
+					if (exception != null) {
+						lock.getAcquisition().completeExceptionally(exception);
+					} else {
+						lock.getAcquisition().complete(synchronization);
+					}
+				});
+				return acquisition;
+			}
+
+			private CompletableFuture<Synchronization> acquire(K key, Xid currentTxId, Instant timeout, AtomicInteger retries, Runnable release) {
 				RemoteCache<TransactionKey<K>, Xid> putCache = this.putCache;
 				RemoteCache<TransactionKey<K>, Xid> removeCache = this.removeCache;
 				TransactionKey<K> currentTxKey = new TransactionKey<>(key);
-				Xid currentTxId = (suspendedTx instanceof IdentifiedTransaction identified) ? identified.getId() : ((TransactionImpl) suspendedTx).getXid();
 				long maxTxDurationMillis = this.maxTxDuration.toMillis();
-				Instant timeout = Instant.now().plus(this.maxTxDuration);
-				AtomicInteger retries = new AtomicInteger(0);
 				return new SynchronizationFactory() {
+					private int attempts;
+
 					@Override
 					public CompletableFuture<Synchronization> apply(Xid txId) {
 						if (txId == null) {
@@ -129,6 +212,7 @@ public class ReadForUpdateRemoteCache<K, V> extends RemoteCacheDecorator<K, V> {
 							}
 							return CompletableFuture.completedFuture(this);
 						}
+						long delayMillis = 0L;
 						if (txId != INITIAL_TX_ID) {
 							if (currentTxId.equals(txId)) {
 								LOGGER.log(System.Logger.Level.TRACE, "{0} already locked for read by {1}", key, currentTxId);
@@ -138,19 +222,22 @@ public class ReadForUpdateRemoteCache<K, V> extends RemoteCacheDecorator<K, V> {
 								LOGGER.log(System.Logger.Level.TRACE, "Failed to lock {0} for read by {1} after {2} retries", key, currentTxId, maxRetries);
 								return CompletableFuture.completedFuture(UNSUCCESSFUL);
 							}
-							if (Instant.now().isAfter(timeout)) {
+							long remainingMillis = Duration.between(Instant.now(), timeout).toMillis();
+							if (remainingMillis <= 0) {
 								LOGGER.log(System.Logger.Level.DEBUG, "Failed to lock {0} for read by {1} after {2} ms", key, currentTxId, maxTxDurationMillis);
 								return CompletableFuture.failedFuture(new TimeoutException());
 							}
 							if (Thread.currentThread().isInterrupted()) {
 								return CompletableFuture.failedFuture(new InterruptedException());
 							}
-							Thread.yield();
+							// Back off exponentially (with jitter) between remote attempts, but never beyond our timeout
+							delayMillis = Math.min(backoff(this.attempts++), remainingMillis);
 						} else {
 							LOGGER.log(System.Logger.Level.TRACE, "Locking {0} for read by {1}", key, currentTxId);
 						}
+						CompletableFuture<Void> delay = (delayMillis > 0L) ? CompletableFuture.runAsync(Runner.of(), CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS)) : CompletableFutures.completedNull();
 						// Create mortal tx entry for key, if possible
-						return putCache.putIfAbsentAsync(currentTxKey, currentTxId, maxTxDurationMillis, TimeUnit.MILLISECONDS).thenCompose(this);
+						return delay.thenCompose(ignore -> putCache.putIfAbsentAsync(currentTxKey, currentTxId, maxTxDurationMillis, TimeUnit.MILLISECONDS)).thenCompose(this);
 					}
 
 					@Override
@@ -163,7 +250,8 @@ public class ReadForUpdateRemoteCache<K, V> extends RemoteCacheDecorator<K, V> {
 						// Remove TX entry (outside of TX scope) without blocking
 						try (Context<Transaction> context = contextFactory.suspendWithContext()) {
 							LOGGER.log(System.Logger.Level.TRACE, "Unlocking {0} for read by {1}", key, currentTxId);
-							removeCache.removeAsync(currentTxKey, currentTxId);
+							// Release local lock only after remote lock is removed, otherwise local contenders would only collide with our remote lock
+							removeCache.removeAsync(currentTxKey, currentTxId).whenComplete((removed, exception) -> release.run());
 						}
 					}
 				}.apply(INITIAL_TX_ID);
@@ -198,7 +286,15 @@ public class ReadForUpdateRemoteCache<K, V> extends RemoteCacheDecorator<K, V> {
 			Transaction suspendedTx = suspended.get();
 			return (suspendedTx != null) ? this.syncFactory.apply(key, suspendedTx).thenCompose(synchronization -> {
 				if (synchronization == UNSUCCESSFUL) return CompletableFutures.completedNull();
-				CompletableFuture<T> result = operation.apply(this.cache, key);
+				CompletableFuture<T> result;
+				try {
+					result = operation.apply(this.cache, key);
+				} catch (RuntimeException | Error e) {
+					if (synchronization != null) {
+						synchronization.afterCompletion(Status.STATUS_NO_TRANSACTION);
+					}
+					throw e;
+				}
 				if (synchronization != null) {
 					result.whenComplete(registerWhen(Objects::nonNull, Supplier.of(suspendedTx).thenApply(this.contextFactory::resumeWithContext), synchronization));
 				}
@@ -207,6 +303,19 @@ public class ReadForUpdateRemoteCache<K, V> extends RemoteCacheDecorator<K, V> {
 		}
 	}
 
+	/**
+	 * Returns the delay preceding the specified remote retry, which grows exponentially, with random jitter, up to a maximum.
+	 * The first retry is not delayed.
+	 * @param attempt a zero-based retry attempt
+	 * @return a delay in milliseconds
+	 */
+	static long backoff(int attempt) {
+		if (attempt == 0) return 0L;
+		long delay = MIN_BACKOFF_MILLIS << Math.min(attempt - 1, Long.numberOfTrailingZeros(MAX_BACKOFF_MILLIS));
+		// Jitter prevents contenders from different clients retrying in lock-step
+		return ThreadLocalRandom.current().nextLong(delay / 2, delay + 1);
+	}
+
 	private static <T> BiConsumer<T, Throwable> registerWhen(Predicate<T> predicate, Supplier<Context<Transaction>> transactionContextFactory, Synchronization synchronization) {
 		return new BiConsumer<>() {
 			@Override
@@ -9,6 +9,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.AdditionalMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.PrimitiveIterator;
 import java.util.Set;
@@ -75,6 +76,7 @@ public class ReadForUpdateRemoteCacheTestCase {
 		doReturn(cache).when(cache).noFlags();
 		doReturn(txPutCache).when(cache).withFlags(aryEq(new Flag[] { Flag.FORCE_RETURN_VALUE, Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
 		doReturn(txRemoveCache).when(cache).withFlags(aryEq(new Flag[] { Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
+		doReturn(CompletableFuture.completedFuture(null)).when(txRemoveCache).removeAsync(any(), any());
 
 		CompletableFuture<Xid> future1 = new CompletableFuture<>();
 		CompletableFuture<Xid> future2 = new CompletableFuture<>();
@@ -188,6 +190,7 @@ public class ReadForUpdateRemoteCacheTestCase {
 		doReturn(cache).when(cache).noFlags();
 		doReturn(txPutCache).when(cache).withFlags(aryEq(new Flag[] { Flag.FORCE_RETURN_VALUE, Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
 		doReturn(txRemoveCache).when(cache).withFlags(aryEq(new Flag[] { Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
+		doReturn(CompletableFuture.completedFuture(null)).when(txRemoveCache).removeAsync(any(), any());
 
 		CompletableFuture<Xid> future = new CompletableFuture<>();
 
@@ -220,15 +223,175 @@ public class ReadForUpdateRemoteCacheTestCase {
 		assertThat(result).isNotCompleted();
 		assertThat(tx.getEnlistedSynchronization()).isEmpty();
 
-		TimeUnit.MILLISECONDS.sleep(50L);
-
-		assertThat(result).isCompletedExceptionally();
+		// Retries back off exponentially until timeout
+		assertThat(result).failsWithin(Duration.ofSeconds(1));
 		assertThat(tx.getEnlistedSynchronization()).isEmpty();
 
 		order.verify(txPutCache, atLeastOnce()).putIfAbsentAsync(txKey, txId, transactionTimeout, TimeUnit.MILLISECONDS);
 		order.verifyNoMoreInteractions();
 	}
 
+	@Test
+	public void getAsyncLocalContention() throws SystemException, InvalidTransactionException {
+		InternalRemoteCache<UUID, String> cache = mock(InternalRemoteCache.class);
+		InternalRemoteCache<TransactionKey<UUID>, Xid> txPutCache = mock(InternalRemoteCache.class);
+		InternalRemoteCache<TransactionKey<UUID>, Xid> txRemoveCache = mock(InternalRemoteCache.class);
+		RemoteCacheContainer container = mock(RemoteCacheContainer.class);
+		Configuration configuration = mock(Configuration.class);
+		TransactionManager tm = mock(TransactionManager.class);
+		TransactionImpl tx1 = new TransactionImpl() { };
+		XidImpl txId1 = RemoteXid.create(UUID.randomUUID());
+		tx1.setXid(txId1);
+		TransactionImpl tx2 = new TransactionImpl() { };
+		XidImpl txId2 = RemoteXid.create(UUID.randomUUID());
+		tx2.setXid(txId2);
+
+		UUID key = UUID.randomUUID();
+		String value = "foo";
+		TransactionKey<UUID> txKey = new TransactionKey<>(key);
+		long transactionTimeout = 1000L;
+
+		doReturn(container).when(cache).getRemoteCacheContainer();
+		doReturn(tm).when(cache).getTransactionManager();
+		doReturn(configuration).when(container).getConfiguration();
+		doReturn(transactionTimeout).when(configuration).transactionTimeout();
+		doReturn(cache).when(cache).noFlags();
+		doReturn(txPutCache).when(cache).withFlags(aryEq(new Flag[] { Flag.FORCE_RETURN_VALUE, Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
+		doReturn(txRemoveCache).when(cache).withFlags(aryEq(new Flag[] { Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
+
+		CompletableFuture<Boolean> removed = new CompletableFuture<>();
+
+		doReturn(CompletableFuture.completedFuture(null)).when(txPutCache).putIfAbsentAsync(any(), any(), anyLong(), any());
+		doReturn(removed).when(txRemoveCache).removeAsync(txKey, txId1);
+		doReturn(CompletableFuture.completedFuture(value)).when(cache).getAsync(key);
+
+		RemoteCache<UUID, String> subject = new ReadForUpdateRemoteCache<>(container, cache);
+
+		doReturn(tx1).when(tm).suspend();
+		doReturn(tx1).when(tm).getTransaction();
+
+		assertThat(subject.getAsync(key)).isCompletedWithValue(value);
+		assertThat(tx1.getEnlistedSynchronization()).hasSize(1);
+
+		verify(txPutCache).putIfAbsentAsync(txKey, txId1, transactionTimeout, TimeUnit.MILLISECONDS);
+
+		doReturn(tx2).when(tm).suspend();
+		doReturn(tx2).when(tm).getTransaction();
+
+		CompletableFuture<String> result = subject.getAsync(key);
+
+		// Contender from the same client should await local release, rather than attempting to lock remotely
+		assertThat(result).isNotCompleted();
+		verify(txPutCache, never()).putIfAbsentAsync(txKey, txId2, transactionTimeout, TimeUnit.MILLISECONDS);
+
+		tx1.getEnlistedSynchronization().iterator().next().afterCompletion(Status.STATUS_COMMITTED);
+
+		verify(txRemoveCache).removeAsync(txKey, txId1);
+
+		// Local lock should not be released until remote lock is removed
+		assertThat(result).isNotCompleted();
+		verify(txPutCache, never()).putIfAbsentAsync(txKey, txId2, transactionTimeout, TimeUnit.MILLISECONDS);
+
+		removed.complete(true);
+
+		assertThat(result).isCompletedWithValue(value);
+		assertThat(tx2.getEnlistedSynchronization()).hasSize(1);
+
+		verify(txPutCache).putIfAbsentAsync(txKey, txId2, transactionTimeout, TimeUnit.MILLISECONDS);
+	}
+
+	@Test
+	public void getAsyncLocalLockExpiration() throws SystemException, InvalidTransactionException {
+		InternalRemoteCache<UUID, String> cache = mock(InternalRemoteCache.class);
+		InternalRemoteCache<TransactionKey<UUID>, Xid> txPutCache = mock(InternalRemoteCache.class);
+		InternalRemoteCache<TransactionKey<UUID>, Xid> txRemoveCache = mock(InternalRemoteCache.class);
+		RemoteCacheContainer container = mock(RemoteCacheContainer.class);
+		Configuration configuration = mock(Configuration.class);
+		TransactionManager tm = mock(TransactionManager.class);
+		TransactionImpl tx1 = new TransactionImpl() { };
+		XidImpl txId1 = RemoteXid.create(UUID.randomUUID());
+		tx1.setXid(txId1);
+		TransactionImpl tx2 = new TransactionImpl() { };
+		XidImpl txId2 = RemoteXid.create(UUID.randomUUID());
+		tx2.setXid(txId2);
+
+		UUID key = UUID.randomUUID();
+		String value = "foo";
+		TransactionKey<UUID> txKey = new TransactionKey<>(key);
+		long transactionTimeout = 200L;
+
+		doReturn(container).when(cache).getRemoteCacheContainer();
+		doReturn(tm).when(cache).getTransactionManager();
+		doReturn(configuration).when(container).getConfiguration();
+		doReturn(transactionTimeout).when(configuration).transactionTimeout();
+		doReturn(cache).when(cache).noFlags();
+		doReturn(txPutCache).when(cache).withFlags(aryEq(new Flag[] { Flag.FORCE_RETURN_VALUE, Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
+		doReturn(txRemoveCache).when(cache).withFlags(aryEq(new Flag[] { Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
+
+		doReturn(CompletableFuture.completedFuture(null)).when(txPutCache).putIfAbsentAsync(any(), any(), anyLong(), any());
+		doReturn(CompletableFuture.completedFuture(value)).when(cache).getAsync(key);
+
+		RemoteCache<UUID, String> subject = new ReadForUpdateRemoteCache<>(container, cache);
+
+		doReturn(tx1).when(tm).suspend();
+		doReturn(tx1).when(tm).getTransaction();
+
+		assertThat(subject.getAsync(key)).isCompletedWithValue(value);
+		assertThat(tx1.getEnlistedSynchronization()).hasSize(1);
+
+		doReturn(tx2).when(tm).suspend();
+		doReturn(tx2).when(tm).getTransaction();
+
+		// Synchronization of tx1 never completes, so its local lock should expire along with its remote lock
+		CompletableFuture<String> result = subject.getAsync(key);
+
+		assertThat(result).isNotCompleted();
+		assertThat(result).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(value);
+
+		verify(txPutCache).putIfAbsentAsync(txKey, txId2, transactionTimeout, TimeUnit.MILLISECONDS);
+		verify(txRemoveCache, never()).removeAsync(any(), any());
+	}
+
+	@Test
+	public void getAsyncFailure() throws SystemException, InvalidTransactionException {
+		InternalRemoteCache<UUID, String> cache = mock(InternalRemoteCache.class);
+		InternalRemoteCache<TransactionKey<UUID>, Xid> txPutCache = mock(InternalRemoteCache.class);
+		InternalRemoteCache<TransactionKey<UUID>, Xid> txRemoveCache = mock(InternalRemoteCache.class);
+		RemoteCacheContainer container = mock(RemoteCacheContainer.class);
+		Configuration configuration = mock(Configuration.class);
+		TransactionManager tm = mock(TransactionManager.class);
+		TransactionImpl tx = new TransactionImpl() { };
+		XidImpl txId = RemoteXid.create(UUID.randomUUID());
+		tx.setXid(txId);
+
+		UUID key = UUID.randomUUID();
+		TransactionKey<UUID> txKey = new TransactionKey<>(key);
+		RuntimeException exception = new IllegalStateException();
+		long transactionTimeout = 1000L;
+
+		doReturn(container).when(cache).getRemoteCacheContainer();
+		doReturn(tm).when(cache).getTransactionManager();
+		doReturn(configuration).when(container).getConfiguration();
+		doReturn(transactionTimeout).when(configuration).transactionTimeout();
+		doReturn(tx).when(tm).getTransaction();
+		doReturn(tx).when(tm).suspend();
+		doReturn(cache).when(cache).noFlags();
+		doReturn(txPutCache).when(cache).withFlags(aryEq(new Flag[] { Flag.FORCE_RETURN_VALUE, Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
+		doReturn(txRemoveCache).when(cache).withFlags(aryEq(new Flag[] { Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
+
+		doReturn(CompletableFuture.completedFuture(null)).when(txPutCache).putIfAbsentAsync(any(), any(), anyLong(), any());
+		doReturn(CompletableFuture.completedFuture(true)).when(txRemoveCache).removeAsync(any(), any());
+		doThrow(exception).when(cache).getAsync(key);
+
+		RemoteCache<UUID, String> subject = new ReadForUpdateRemoteCache<>(container, cache);
+
+		assertThat(subject.getAsync(key)).isCompletedExceptionally();
+
+		// Remote and local lock should be released, since no synchronization was registered
+		assertThat(tx.getEnlistedSynchronization()).isEmpty();
+		verify(txRemoveCache).removeAsync(txKey, txId);
+	}
+
 	@Test
 	public void tryGetAsync() throws SystemException, InvalidTransactionException {
 		InternalRemoteCache<UUID, String> cache = mock(InternalRemoteCache.class);
@@ -257,6 +420,7 @@ public class ReadForUpdateRemoteCacheTestCase {
 		doReturn(cache).when(cache).noFlags();
 		doReturn(txPutCache).when(cache).withFlags(aryEq(new Flag[] { Flag.FORCE_RETURN_VALUE, Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
 		doReturn(txRemoveCache).when(cache).withFlags(aryEq(new Flag[] { Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
+		doReturn(CompletableFuture.completedFuture(null)).when(txRemoveCache).removeAsync(any(), any());
 
 		CompletableFuture<Xid> future1 = new CompletableFuture<>();
 		CompletableFuture<Xid> future2 = new CompletableFuture<>();
@@ -359,6 +523,7 @@ public class ReadForUpdateRemoteCacheTestCase {
 		doReturn(cache).when(cache).noFlags();
 		doReturn(txPutCache).when(cache).withFlags(aryEq(new Flag[] { Flag.FORCE_RETURN_VALUE, Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
 		doReturn(txRemoveCache).when(cache).withFlags(aryEq(new Flag[] { Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
+		doReturn(CompletableFuture.completedFuture(null)).when(txRemoveCache).removeAsync(any(), any());
 
 		CompletableFuture<Xid> future1 = new CompletableFuture<>();
 		CompletableFuture<Xid> future2 = new CompletableFuture<>();
@@ -459,6 +624,7 @@ public class ReadForUpdateRemoteCacheTestCase {
 		doReturn(cache).when(cache).noFlags();
 		doReturn(txPutCache).when(cache).withFlags(aryEq(new Flag[] { Flag.FORCE_RETURN_VALUE, Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
 		doReturn(txRemoveCache).when(cache).withFlags(aryEq(new Flag[] { Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
+		doReturn(CompletableFuture.completedFuture(null)).when(txRemoveCache).removeAsync(any(), any());
 
 		CompletableFuture<Xid> future = new CompletableFuture<>();
 
@@ -491,9 +657,8 @@ public class ReadForUpdateRemoteCacheTestCase {
 		assertThat(result).isNotCompleted();
 		assertThat(tx.getEnlistedSynchronization()).isEmpty();
 
-		TimeUnit.MILLISECONDS.sleep(50L);
-
-		assertThat(result).isCompletedExceptionally();
+		// Retries back off exponentially until timeout
+		assertThat(result).failsWithin(Duration.ofSeconds(1));
 		assertThat(tx.getEnlistedSynchronization()).isEmpty();
 
 		order.verify(txPutCache, atLeastOnce()).putIfAbsentAsync(txKey, txId, transactionTimeout, TimeUnit.MILLISECONDS);
@@ -528,6 +693,7 @@ public class ReadForUpdateRemoteCacheTestCase {
 		doReturn(cache).when(cache).noFlags();
 		doReturn(txPutCache).when(cache).withFlags(aryEq(new Flag[] { Flag.FORCE_RETURN_VALUE, Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
 		doReturn(txRemoveCache).when(cache).withFlags(aryEq(new Flag[] { Flag.SKIP_LISTENER_NOTIFICATION, Flag.SKIP_CACHE_LOAD }));
+		doReturn(CompletableFuture.completedFuture(null)).when(txRemoveCache).removeAsync(any(), any());
 
 		CompletableFuture<Xid> future1 = new CompletableFuture<>();
 		CompletableFuture<Xid> future2 = new CompletableFuture<>();
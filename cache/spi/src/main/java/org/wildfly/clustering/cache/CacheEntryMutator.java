@@ -61,6 +61,27 @@ public interface CacheEntryMutator extends Runner {
 	 */
 	CacheEntryMutator withMaxIdle(Supplier<Duration> maxIdle);
 
+	/**
+	 * Returns a mutator that only runs the specified mutator if the specified condition is met at the time of mutation.
+	 * @param condition a mutation condition
+	 * @param mutator a cache entry mutator
+	 * @return a conditional mutator.
+	 */
+	static CacheEntryMutator when(java.util.function.BooleanSupplier condition, CacheEntryMutator mutator) {
+		return new CacheEntryMutator() {
+			@Override
+			public CompletionStage<Void> runAsync() {
+				return condition.getAsBoolean() ? mutator.runAsync() : EMPTY.runAsync();
+			}
+
+			@Override
+			public CacheEntryMutator withMaxIdle(Supplier<Duration> maxIdle) {
+				mutator.withMaxIdle(maxIdle);
+				return this;
+			}
+		};
+	}
+
 	/**
 	 * Returns a composite mutator that runs the specified mutators.
 	 * @param mutators a number of mutators
@@ -0,0 +1,81 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.clustering.cache;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+import org.wildfly.clustering.function.Runner;
+
+/**
+ * A cache entry mutator that coalesces the mutations of a number of deferred mutators.
+ * Running a deferred mutator only enqueues it, such that the mutations of all deferred mutators are issued together, and awaited once, when this mutator is run.
+ * The maximum idle duration of each deferred mutator is retained.
+ * @author Paul Ferraro
+ */
+public class CoalescingCacheEntryMutator implements CacheEntryMutator {
+
+	private final Queue<CacheEntryMutator> mutators = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Returns a mutator factory whose mutators are deferred until this mutator is run.
+	 * @param <K> the cache key type
+	 * @param <V> the cache value type
+	 * @param factory a mutator factory
+	 * @return a mutator factory whose mutators are deferred until this mutator is run.
+	 */
+	public <K, V> CacheEntryMutatorFactory<K, V> defer(CacheEntryMutatorFactory<K, V> factory) {
+		return new CacheEntryMutatorFactory<>() {
+			@Override
+			public CacheEntryMutator createMutator(K key, V value) {
+				return CoalescingCacheEntryMutator.this.defer(factory.createMutator(key, value));
+			}
+		};
+	}
+
+	/**
+	 * Returns a mutator that defers the specified mutator until this mutator is run.
+	 * @param mutator a cache entry mutator
+	 * @return a mutator that defers the specified mutator until this mutator is run.
+	 */
+	public CacheEntryMutator defer(CacheEntryMutator mutator) {
+		Queue<CacheEntryMutator> mutators = this.mutators;
+		return new CacheEntryMutator() {
+			@Override
+			public CompletionStage<Void> runAsync() {
+				mutators.add(mutator);
+				return CompletableFuture.completedStage(null);
+			}
+
+			@Override
+			public CacheEntryMutator withMaxIdle(Supplier<Duration> maxIdle) {
+				mutator.withMaxIdle(maxIdle);
+				return this;
+			}
+		};
+	}
+
+	@Override
+	public CompletionStage<Void> runAsync() {
+		CompletionStage<Void> result = CompletableFuture.completedStage(null);
+		// Issue all deferred mutations before awaiting any of them
+		CacheEntryMutator mutator = this.mutators.poll();
+		while (mutator != null) {
+			result = result.runAfterBoth(mutator.runAsync(), Runner.of());
+			mutator = this.mutators.poll();
+		}
+		return result;
+	}
+
+	@Override
+	public CacheEntryMutator withMaxIdle(Supplier<Duration> maxIdle) {
+		// Maximum idle duration is specific to each deferred mutator
+		return this;
+	}
+}
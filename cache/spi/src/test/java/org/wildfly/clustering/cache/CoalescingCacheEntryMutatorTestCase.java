@@ -0,0 +1,69 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link CoalescingCacheEntryMutator}.
+ * @author Paul Ferraro
+ */
+public class CoalescingCacheEntryMutatorTestCase {
+
+	@Test
+	public void test() {
+		CacheEntryMutatorFactory<String, Object> factory = mock(CacheEntryMutatorFactory.class);
+		CacheEntryMutator mutator1 = mock(CacheEntryMutator.class);
+		CacheEntryMutator mutator2 = mock(CacheEntryMutator.class);
+		CompletableFuture<Void> future1 = new CompletableFuture<>();
+		CompletableFuture<Void> future2 = new CompletableFuture<>();
+		Object value = new Object();
+		Supplier<Duration> maxIdle = mock(Supplier.class);
+
+		doReturn(mutator1).when(factory).createMutator("foo", value);
+		doReturn(future1).when(mutator1).runAsync();
+		doReturn(future2).when(mutator2).runAsync();
+
+		CoalescingCacheEntryMutator coalescingMutator = new CoalescingCacheEntryMutator();
+
+		CacheEntryMutator deferred1 = coalescingMutator.defer(factory).createMutator("foo", value);
+		CacheEntryMutator deferred2 = coalescingMutator.defer(mutator2).withMaxIdle(maxIdle);
+
+		verify(mutator2).withMaxIdle(maxIdle);
+
+		assertThat(deferred1.runAsync()).isCompleted();
+		assertThat(deferred2.runAsync()).isCompleted();
+
+		// Verify mutations are deferred
+		verify(mutator1, never()).runAsync();
+		verify(mutator2, never()).runAsync();
+
+		CompletableFuture<Void> result = coalescingMutator.runAsync().toCompletableFuture();
+
+		// Verify all mutations were issued before any completed
+		verify(mutator1).runAsync();
+		verify(mutator2).runAsync();
+		assertThat(result).isNotDone();
+
+		future1.complete(null);
+		assertThat(result).isNotDone();
+
+		future2.complete(null);
+		assertThat(result).isCompleted();
+
+		// Verify mutations are only issued once
+		assertThat(coalescingMutator.runAsync()).isCompleted();
+		verify(mutator1).runAsync();
+		verify(mutator2).runAsync();
+	}
+}
@@ -4,7 +4,9 @@
  */
 package org.wildfly.clustering.context;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Function;
 
@@ -13,6 +15,25 @@ import java.util.function.Function;
  * @author Paul Ferraro
  */
 public class DefaultExecutorService extends ContextualExecutorService {
+	/**
+	 * Creates a contextual executor service that executes tasks serially, in submission order, by a dedicated thread, using the specified class loader context.
+	 * @param loader the target class loader context
+	 * @return a contextual executor service that executes tasks serially
+	 */
+	public static ExecutorService newSerialExecutor(ClassLoader loader) {
+		return new DefaultExecutorService(Executors::newSingleThreadExecutor, loader);
+	}
+
+	/**
+	 * Creates a contextual executor service that executes tasks serially, in submission order, by the specified executor, using the specified class loader context.
+	 * Unlike {@link #newSerialExecutor(ClassLoader)}, the number of threads does not scale with the number of serial executors sharing the specified executor, but is bounded by that executor.
+	 * @param executor the executor shared by serial executors
+	 * @param loader the target class loader context
+	 * @return a contextual executor service that executes tasks serially
+	 */
+	public static ExecutorService newSerialExecutor(Executor executor, ClassLoader loader) {
+		return new DefaultExecutorService(new SerialExecutorService(executor), loader);
+	}
 
 	/**
 	 * Constructs a contextual executor service from the default contextualizer factory.
@@ -0,0 +1,173 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.clustering.context;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link java.util.concurrent.ExecutorService} that executes submitted tasks serially, in submission order, using a (typically shared) executor.
+ * Unlike a single thread executor, this executor does not occupy a thread while it has no tasks to execute.
+ * Each task is dispatched to the decorated executor separately, such that serial executors sharing the same executor are serviced fairly.
+ * @author Paul Ferraro
+ */
+public class SerialExecutorService extends AbstractExecutorService {
+
+	private final Executor executor;
+	private final Queue<Runnable> tasks = new ArrayDeque<>();
+	private final Lock lock = new ReentrantLock();
+	private final Condition terminated = this.lock.newCondition();
+	private final Runnable drainTask = this::drain;
+	private boolean running;
+	private boolean shutdown;
+
+	/**
+	 * Creates a serial executor service that executes tasks using the specified executor.
+	 * @param executor the executor used to execute tasks
+	 */
+	public SerialExecutorService(Executor executor) {
+		this.executor = executor;
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		this.lock.lock();
+		try {
+			if (this.shutdown) {
+				throw new RejectedExecutionException();
+			}
+			this.tasks.add(task);
+			// Only dispatch if there is no task in flight
+			if (this.running) return;
+			this.running = true;
+		} finally {
+			this.lock.unlock();
+		}
+		this.dispatch();
+	}
+
+	@Override
+	public void shutdown() {
+		this.lock.lock();
+		try {
+			this.shutdown = true;
+			if (!this.running) {
+				this.terminated.signalAll();
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		this.lock.lock();
+		try {
+			List<Runnable> tasks = new ArrayList<>(this.tasks);
+			this.tasks.clear();
+			this.shutdown = true;
+			if (!this.running) {
+				this.terminated.signalAll();
+			}
+			return tasks;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean isShutdown() {
+		this.lock.lock();
+		try {
+			return this.shutdown;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean isTerminated() {
+		this.lock.lock();
+		try {
+			return this.shutdown && !this.running;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+		this.lock.lock();
+		try {
+			while (!this.shutdown || this.running) {
+				if (nanos <= 0L) return false;
+				nanos = this.terminated.awaitNanos(nanos);
+			}
+			return true;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void dispatch() {
+		try {
+			this.executor.execute(this.drainTask);
+		} catch (RejectedExecutionException e) {
+			// Decorated executor no longer accepts tasks, discard any pending tasks
+			this.lock.lock();
+			try {
+				this.tasks.clear();
+				this.running = false;
+				this.terminated.signalAll();
+			} finally {
+				this.lock.unlock();
+			}
+			throw e;
+		}
+	}
+
+	private void drain() {
+		Runnable task;
+		this.lock.lock();
+		try {
+			task = this.tasks.poll();
+		} finally {
+			this.lock.unlock();
+		}
+		try {
+			if (task != null) {
+				task.run();
+			}
+		} finally {
+			boolean pending;
+			this.lock.lock();
+			try {
+				pending = !this.tasks.isEmpty();
+				if (!pending) {
+					this.running = false;
+					if (this.shutdown) {
+						this.terminated.signalAll();
+					}
+				}
+			} finally {
+				this.lock.unlock();
+			}
+			// Dispatch next task separately, yielding the thread to other tasks of the decorated executor
+			if (pending) {
+				this.dispatch();
+			}
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.context;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link SerialExecutorService}.
+ * @author Paul Ferraro
+ */
+public class SerialExecutorServiceTestCase {
+
+	@Test
+	public void test() throws InterruptedException {
+		ExecutorService carrier = Executors.newFixedThreadPool(4);
+		try {
+			ExecutorService executor = new SerialExecutorService(carrier);
+			List<Integer> results = new CopyOnWriteArrayList<>();
+			AtomicInteger concurrency = new AtomicInteger();
+			AtomicInteger maxConcurrency = new AtomicInteger();
+			int count = 1000;
+			for (int i = 0; i < count; ++i) {
+				int value = i;
+				executor.execute(() -> {
+					maxConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+					results.add(value);
+					concurrency.decrementAndGet();
+				});
+			}
+
+			assertThat(executor.isShutdown()).isFalse();
+			assertThat(executor.isTerminated()).isFalse();
+
+			executor.shutdown();
+
+			assertThat(executor.isShutdown()).isTrue();
+			assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(() -> executor.execute(() -> {}));
+
+			assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(executor.isTerminated()).isTrue();
+
+			// Verify tasks executed serially, in submission order
+			assertThat(maxConcurrency.get()).isOne();
+			assertThat(results).containsExactlyElementsOf(IntStream.range(0, count).boxed().toList());
+		} finally {
+			carrier.shutdown();
+		}
+	}
+
+	@Test
+	public void shutdownNow() throws InterruptedException {
+		ExecutorService carrier = Executors.newSingleThreadExecutor();
+		try {
+			ExecutorService executor = new SerialExecutorService(carrier);
+			CountDownLatch started = new CountDownLatch(1);
+			CountDownLatch blocker = new CountDownLatch(1);
+			Runnable pending = () -> {};
+
+			executor.execute(() -> {
+				started.countDown();
+				try {
+					blocker.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			executor.execute(pending);
+
+			assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+			assertThat(executor.shutdownNow()).containsExactly(pending);
+			assertThat(executor.isTerminated()).isFalse();
+
+			blocker.countDown();
+
+			assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(executor.isTerminated()).isTrue();
+		} finally {
+			carrier.shutdown();
+		}
+	}
+}
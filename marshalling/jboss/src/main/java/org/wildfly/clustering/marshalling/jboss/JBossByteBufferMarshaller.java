@@ -5,18 +5,20 @@
 
 package org.wildfly.clustering.marshalling.jboss;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InvalidClassException;
 import java.io.InvalidObjectException;
 import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.marshalling.Marshaller;
 import org.jboss.marshalling.MarshallerFactory;
 import org.jboss.marshalling.Marshalling;
 import org.jboss.marshalling.MarshallingConfiguration;
-import org.jboss.marshalling.SimpleDataInput;
-import org.jboss.marshalling.SimpleDataOutput;
 import org.jboss.marshalling.Unmarshaller;
 import org.wildfly.clustering.marshalling.AbstractByteBufferMarshaller;
 import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
@@ -24,6 +26,7 @@ import org.wildfly.clustering.marshalling.IndexSerializer;
 
 /**
  * A {@link ByteBufferMarshaller} based on JBoss Marshalling.
+ * Reuses marshallers and unmarshallers via a bounded pool per marshalling configuration.
  * @author Paul Ferraro
  */
 public class JBossByteBufferMarshaller extends AbstractByteBufferMarshaller {
@@ -31,6 +34,9 @@ public class JBossByteBufferMarshaller extends AbstractByteBufferMarshaller {
 	private final MarshallerFactory factory = Marshalling.getMarshallerFactory("river", Marshalling.class.getClassLoader());
 	private final MarshallingConfigurationRepository repository;
 	private final MarshallingConfiguration configuration;
+	private final MarshallerPool pool;
+	// Pools for previous configuration versions, created on demand
+	private final Map<MarshallingConfiguration, MarshallerPool> pools = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a versioned marshaller supporting multiple marshalling configurations.
@@ -54,22 +60,25 @@ public class JBossByteBufferMarshaller extends AbstractByteBufferMarshaller {
 		super(loader);
 		this.repository = repository;
 		this.configuration = configuration;
+		this.pool = this.createPool(configuration);
 	}
 
 	@Override
 	public Object readFrom(InputStream input) throws IOException {
-		try (SimpleDataInput data = new SimpleDataInput(Marshalling.createByteInput(input))) {
+		try {
 			MarshallingConfiguration configuration = this.configuration;
 			if (this.repository != null) {
-				int version = IndexSerializer.UNSIGNED_BYTE.readInt(data);
+				int version = IndexSerializer.UNSIGNED_BYTE.readInt(new DataInputStream(input));
 				configuration = this.repository.getMarshallingConfiguration(version);
 			}
-			try (Unmarshaller unmarshaller = this.factory.createUnmarshaller(configuration)) {
-				unmarshaller.start(data);
-				Object result = unmarshaller.readObject();
-				unmarshaller.finish();
-				return result;
-			}
+			MarshallerPool pool = this.getPool(configuration);
+			Unmarshaller unmarshaller = pool.acquireUnmarshaller();
+			unmarshaller.start(Marshalling.createByteInput(input));
+			Object result = unmarshaller.readObject();
+			unmarshaller.finish();
+			// Only reuse unmarshallers that completed successfully
+			pool.release(unmarshaller);
+			return result;
 		} catch (ClassNotFoundException e) {
 			InvalidClassException exception = new InvalidClassException(e.getMessage());
 			exception.initCause(e);
@@ -84,16 +93,24 @@ public class JBossByteBufferMarshaller extends AbstractByteBufferMarshaller {
 
 	@Override
 	public void writeTo(OutputStream output, Object value) throws IOException {
-		try (SimpleDataOutput data = new SimpleDataOutput(Marshalling.createByteOutput(output))) {
-			if (this.repository != null) {
-				IndexSerializer.UNSIGNED_BYTE.writeInt(data, this.repository.getCurrentVersion());
-			}
-			try (Marshaller marshaller = this.factory.createMarshaller(this.configuration)) {
-				marshaller.start(data);
-				marshaller.writeObject(value);
-				marshaller.finish();
-			}
+		if (this.repository != null) {
+			IndexSerializer.UNSIGNED_BYTE.writeInt(new DataOutputStream(output), this.repository.getCurrentVersion());
 		}
+		Marshaller marshaller = this.pool.acquireMarshaller();
+		marshaller.start(Marshalling.createByteOutput(output));
+		marshaller.writeObject(value);
+		marshaller.finish();
+		// Only reuse marshallers that completed successfully
+		this.pool.release(marshaller);
+	}
+
+	private MarshallerPool getPool(MarshallingConfiguration configuration) {
+		// Fast path for current configuration
+		return (configuration == this.configuration) ? this.pool : this.pools.computeIfAbsent(configuration, this::createPool);
+	}
+
+	private MarshallerPool createPool(MarshallingConfiguration configuration) {
+		return new MarshallerPool(this.factory, configuration);
 	}
 
 	@Override
@@ -0,0 +1,86 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.marshalling.jboss;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.MarshallerFactory;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.Unmarshaller;
+
+/**
+ * A bounded pool of reusable marshallers and unmarshallers for a given marshalling configuration.
+ * A marshaller/unmarshaller is reusable once {@link Marshaller#finish()}/{@link Unmarshaller#finish()} discards its per-stream class and instance caches.
+ * Pooled instances are not bound to any thread, thus this pool is safe for use by virtual threads.
+ * @author Paul Ferraro
+ */
+class MarshallerPool {
+	private static final int DEFAULT_CAPACITY = Runtime.getRuntime().availableProcessors();
+
+	private final MarshallerFactory factory;
+	private final MarshallingConfiguration configuration;
+	private final Queue<Marshaller> marshallers;
+	private final Queue<Unmarshaller> unmarshallers;
+
+	/**
+	 * Creates a pool of marshallers and unmarshallers for the specified configuration.
+	 * @param factory a marshaller factory
+	 * @param configuration a marshalling configuration
+	 */
+	MarshallerPool(MarshallerFactory factory, MarshallingConfiguration configuration) {
+		this(factory, configuration, DEFAULT_CAPACITY);
+	}
+
+	MarshallerPool(MarshallerFactory factory, MarshallingConfiguration configuration, int capacity) {
+		this.factory = factory;
+		this.configuration = configuration;
+		this.marshallers = new ArrayBlockingQueue<>(capacity);
+		this.unmarshallers = new ArrayBlockingQueue<>(capacity);
+	}
+
+	/**
+	 * Returns a pooled marshaller, or creates a new marshaller if none are available.
+	 * @return a marshaller
+	 * @throws IOException if a new marshaller could not be created
+	 */
+	Marshaller acquireMarshaller() throws IOException {
+		Marshaller marshaller = this.marshallers.poll();
+		return (marshaller != null) ? marshaller : this.factory.createMarshaller(this.configuration);
+	}
+
+	/**
+	 * Returns the specified marshaller to this pool.
+	 * The marshaller is discarded if the pool is full.
+	 * Callers must only release marshallers that successfully finished marshalling.
+	 * @param marshaller a finished marshaller
+	 */
+	void release(Marshaller marshaller) {
+		this.marshallers.offer(marshaller);
+	}
+
+	/**
+	 * Returns a pooled unmarshaller, or creates a new unmarshaller if none are available.
+	 * @return an unmarshaller
+	 * @throws IOException if a new unmarshaller could not be created
+	 */
+	Unmarshaller acquireUnmarshaller() throws IOException {
+		Unmarshaller unmarshaller = this.unmarshallers.poll();
+		return (unmarshaller != null) ? unmarshaller : this.factory.createUnmarshaller(this.configuration);
+	}
+
+	/**
+	 * Returns the specified unmarshaller to this pool.
+	 * The unmarshaller is discarded if the pool is full.
+	 * Callers must only release unmarshallers that successfully finished unmarshalling.
+	 * @param unmarshaller a finished unmarshaller
+	 */
+	void release(Unmarshaller unmarshaller) {
+		this.unmarshallers.offer(unmarshaller);
+	}
+}
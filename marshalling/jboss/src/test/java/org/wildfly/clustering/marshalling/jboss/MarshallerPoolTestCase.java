@@ -0,0 +1,76 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.marshalling.jboss;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.MarshallerFactory;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.Unmarshaller;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link MarshallerPool}.
+ * @author Paul Ferraro
+ */
+public class MarshallerPoolTestCase {
+
+	@Test
+	public void marshaller() throws IOException {
+		MarshallerFactory factory = mock(MarshallerFactory.class);
+		MarshallingConfiguration configuration = new MarshallingConfiguration();
+		MarshallerPool pool = new MarshallerPool(factory, configuration, 1);
+		Marshaller marshaller1 = mock(Marshaller.class);
+		Marshaller marshaller2 = mock(Marshaller.class);
+
+		doReturn(marshaller1, marshaller2).when(factory).createMarshaller(same(configuration));
+
+		assertThat(pool.acquireMarshaller()).isSameAs(marshaller1);
+		assertThat(pool.acquireMarshaller()).isSameAs(marshaller2);
+
+		pool.release(marshaller1);
+		// Pool is full, marshaller should be discarded
+		pool.release(marshaller2);
+
+		assertThat(pool.acquireMarshaller()).isSameAs(marshaller1);
+
+		reset(factory);
+		Marshaller marshaller3 = mock(Marshaller.class);
+		doReturn(marshaller3).when(factory).createMarshaller(same(configuration));
+
+		assertThat(pool.acquireMarshaller()).isSameAs(marshaller3);
+	}
+
+	@Test
+	public void unmarshaller() throws IOException {
+		MarshallerFactory factory = mock(MarshallerFactory.class);
+		MarshallingConfiguration configuration = new MarshallingConfiguration();
+		MarshallerPool pool = new MarshallerPool(factory, configuration, 1);
+		Unmarshaller unmarshaller1 = mock(Unmarshaller.class);
+		Unmarshaller unmarshaller2 = mock(Unmarshaller.class);
+
+		doReturn(unmarshaller1, unmarshaller2).when(factory).createUnmarshaller(same(configuration));
+
+		assertThat(pool.acquireUnmarshaller()).isSameAs(unmarshaller1);
+		assertThat(pool.acquireUnmarshaller()).isSameAs(unmarshaller2);
+
+		pool.release(unmarshaller1);
+		// Pool is full, unmarshaller should be discarded
+		pool.release(unmarshaller2);
+
+		assertThat(pool.acquireUnmarshaller()).isSameAs(unmarshaller1);
+
+		reset(factory);
+		Unmarshaller unmarshaller3 = mock(Unmarshaller.class);
+		doReturn(unmarshaller3).when(factory).createUnmarshaller(same(configuration));
+
+		assertThat(pool.acquireUnmarshaller()).isSameAs(unmarshaller3);
+	}
+}
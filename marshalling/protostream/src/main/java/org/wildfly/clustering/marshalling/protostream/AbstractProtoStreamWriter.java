@@ -7,7 +7,12 @@ package org.wildfly.clustering.marshalling.protostream;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.OptionalInt;
 import java.util.function.Function;
@@ -44,6 +49,38 @@ public abstract class AbstractProtoStreamWriter extends AbstractProtoStreamOpera
 		 * @return the computed or cached size
 		 */
 		OptionalInt computeSize(Object object, Function<Object, OptionalInt> function);
+
+		/**
+		 * Indicates that subsequent fields belong to a new nested message, until the corresponding {@link #endMessage()}.
+		 */
+		void startMessage();
+
+		/**
+		 * Indicates that subsequent fields belong to the enclosing message.
+		 */
+		void endMessage();
+
+		/**
+		 * Records the index of the field being written to the current message.
+		 * @param index a field index
+		 */
+		void recordField(int index);
+
+		/**
+		 * Returns the index of the specified type name, if it was previously recorded within the scope of the current field.
+		 * A type name recorded within the value of an {@link Any} is only referenced by subsequent values of the same field of the same enclosing message.
+		 * Consequently, a reader will have always read the recorded type name before any reference to it, even if it skips unrecognized fields.
+		 * @param typeName a type name
+		 * @return the index of a previously recorded type name, or empty, if the type name was not recorded within the scope of the current field.
+		 */
+		OptionalInt getTypeNameReference(String typeName);
+
+		/**
+		 * Records the specified type name within the scope of the current field.
+		 * @param typeName a type name
+		 * @return the index of the recorded type name, or empty, if type names within the current field cannot be referenced.
+		 */
+		OptionalInt recordTypeName(String typeName);
 	}
 
 	private final TagWriter writer;
@@ -95,6 +132,7 @@ public abstract class AbstractProtoStreamWriter extends AbstractProtoStreamOpera
 
 	@Override
 	public void writeTag(int number, WireType wireType) throws IOException {
+		this.context.recordField(number);
 		this.writer.writeTag(number, wireType);
 	}
 
@@ -223,9 +261,15 @@ public abstract class AbstractProtoStreamWriter extends AbstractProtoStreamOpera
 		private final Map<Object, Reference> references = new IdentityHashMap<>(128);
 		private int reference; // Enumerates object references
 		private final Map<Object, OptionalInt> sizes;
+		private final Deque<int[]> messages = new ArrayDeque<>(); // Stack of { message, field } of the messages being written
+		private int message; // Enumerates messages
+		private final Map<String, Map.Entry<List<Integer>, Integer>> typeNames = new HashMap<>();
+		private int typeName; // Enumerates recorded type names
 
 		DefaultProtoStreamWriterContext() {
 			this(new IdentityHashMap<>(128));
+			// Root message
+			this.startMessage();
 		}
 
 		private DefaultProtoStreamWriterContext(Map<Object, OptionalInt> sizes) {
@@ -256,6 +300,14 @@ public abstract class AbstractProtoStreamWriter extends AbstractProtoStreamOpera
 			// Copy references
 			context.references.putAll(this.references);
 			context.reference = this.reference;
+			// Copy message stack
+			for (int[] entry : this.messages) {
+				context.messages.addLast(entry.clone());
+			}
+			context.message = this.message;
+			// Copy type names
+			context.typeNames.putAll(this.typeNames);
+			context.typeName = this.typeName;
 			return context;
 		}
 
@@ -264,5 +316,50 @@ public abstract class AbstractProtoStreamWriter extends AbstractProtoStreamOpera
 			// Don't cache size for internal wrappers, which would otherwise bloat our hashtable
 			return (object instanceof Any) ? function.apply(object) : this.sizes.computeIfAbsent(object, function);
 		}
+
+		@Override
+		public void startMessage() {
+			this.messages.push(new int[] { this.message++, 0 });
+		}
+
+		@Override
+		public void endMessage() {
+			this.messages.pop();
+		}
+
+		@Override
+		public void recordField(int index) {
+			int[] message = this.messages.peek();
+			if (message != null) {
+				message[1] = index;
+			}
+		}
+
+		@Override
+		public OptionalInt getTypeNameReference(String typeName) {
+			Map.Entry<List<Integer>, Integer> entry = this.typeNames.get(typeName);
+			return ((entry != null) && entry.getKey().equals(this.getTypeNameScope())) ? OptionalInt.of(entry.getValue()) : OptionalInt.empty();
+		}
+
+		@Override
+		public OptionalInt recordTypeName(String typeName) {
+			List<Integer> scope = this.getTypeNameScope();
+			if (scope == null) return OptionalInt.empty();
+			int index = this.typeName++;
+			this.typeNames.put(typeName, Map.entry(scope, index));
+			return OptionalInt.of(index);
+		}
+
+		/**
+		 * Returns the scope of a type name written to the current field, i.e. the current field, and the field of the enclosing message containing the current message.
+		 * @return the scope of a type name written to the current field, or null, if the current message is the root message.
+		 */
+		private List<Integer> getTypeNameScope() {
+			if (this.messages.size() < 2) return null;
+			Iterator<int[]> messages = this.messages.iterator();
+			int[] current = messages.next();
+			int[] enclosing = messages.next();
+			return List.of(enclosing[0], enclosing[1], current[1]);
+		}
 	}
 }
@@ -94,10 +94,18 @@ class AnyMarshaller implements ProtoStreamMarshaller<Any> {
 			}
 		}
 
-		return getField(context, valueClass);
+		return TypeResolution.of(context, valueClass).getField();
 	}
 
-	private static AnyField getField(ImmutableSerializationContext context, Class<?> valueClass) {
+	/**
+	 * Resolves the field with which to marshal instances of the specified class.
+	 * Callers should use the cached result via {@link TypeResolution#getField()}.
+	 * @param context a serialization context
+	 * @param valueClass the class of the value to marshal
+	 * @return the field with which to marshal instances of the specified class
+	 * @throws IllegalArgumentException if instances of the specified class are not marshallable
+	 */
+	static AnyField getField(ImmutableSerializationContext context, Class<?> valueClass) {
 		AnyField field = AnyField.forClass(valueClass);
 		if (field != null) return field;
 
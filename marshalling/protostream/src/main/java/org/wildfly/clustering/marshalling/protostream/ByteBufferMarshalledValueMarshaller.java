@@ -7,6 +7,7 @@ package org.wildfly.clustering.marshalling.protostream;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Optional;
 import java.util.OptionalInt;
 
 import org.infinispan.protostream.descriptors.WireType;
@@ -21,18 +22,21 @@ public enum ByteBufferMarshalledValueMarshaller implements ProtoStreamMarshaller
 	INSTANCE;
 
 	private static final int BUFFER_INDEX = 1;
+	private static final int MARKED_INDEX = 2;
 
 	@Override
 	public ByteBufferMarshalledValue<Object> readFrom(ProtoStreamReader reader) throws IOException {
 		ByteBuffer buffer = null;
+		Boolean marked = null;
 		while (!reader.isAtEnd()) {
 			int tag = reader.readTag();
 			switch (WireType.getTagFieldNumber(tag)) {
 				case BUFFER_INDEX -> buffer = reader.readByteBuffer();
+				case MARKED_INDEX -> marked = reader.readBool();
 				default -> reader.skipField(tag);
 			}
 		}
-		return new ByteBufferMarshalledValue<>(buffer);
+		return (marked != null) ? new ByteBufferMarshalledValue<>(buffer, marked) : new ByteBufferMarshalledValue<>(buffer);
 	}
 
 	@Override
@@ -40,6 +44,10 @@ public enum ByteBufferMarshalledValueMarshaller implements ProtoStreamMarshaller
 		ByteBuffer buffer = value.getBuffer();
 		if (buffer != null) {
 			writer.writeBytes(BUFFER_INDEX, buffer);
+			Optional<Boolean> marked = value.isMarked();
+			if (marked.isPresent()) {
+				writer.writeBool(MARKED_INDEX, marked.get());
+			}
 		}
 	}
 
@@ -47,7 +55,9 @@ public enum ByteBufferMarshalledValueMarshaller implements ProtoStreamMarshaller
 	public OptionalInt size(ProtoStreamSizeOperation operation, ByteBufferMarshalledValue<Object> value) {
 		if (value.isEmpty()) return OptionalInt.of(0);
 		OptionalInt size = value.size();
-		return size.isPresent() ? OptionalInt.of(operation.tagSize(BUFFER_INDEX, WireType.LENGTH_DELIMITED) + operation.varIntSize(size.getAsInt()) + size.getAsInt()) : OptionalInt.empty();
+		if (size.isEmpty()) return OptionalInt.empty();
+		int markedSize = value.isMarked().isPresent() ? operation.tagSize(MARKED_INDEX, WireType.VARINT) + 1 : 0;
+		return OptionalInt.of(operation.tagSize(BUFFER_INDEX, WireType.LENGTH_DELIMITED) + operation.varIntSize(size.getAsInt()) + size.getAsInt() + markedSize);
 	}
 
 	@SuppressWarnings("unchecked")
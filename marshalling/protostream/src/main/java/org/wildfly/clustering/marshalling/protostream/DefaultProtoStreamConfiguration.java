@@ -20,11 +20,13 @@ class DefaultProtoStreamConfiguration implements ProtoStreamConfiguration {
 	private final org.infinispan.protostream.config.Configuration configuration;
 	private final Optional<ObjectInputFilter> filter;
 	private final ClassLoaderResolver resolver;
+	private final boolean typeNameReferences;
 
 	DefaultProtoStreamConfiguration(DefaultBuilder builder) {
 		this.configuration = builder.builder.build();
 		this.filter = builder.filter;
 		this.resolver = builder.resolver;
+		this.typeNameReferences = builder.typeNameReferences;
 	}
 
 	@Override
@@ -37,6 +39,11 @@ class DefaultProtoStreamConfiguration implements ProtoStreamConfiguration {
 		return this.filter;
 	}
 
+	@Override
+	public boolean isTypeNameReferenceEnabled() {
+		return this.typeNameReferences;
+	}
+
 	@Override
 	public boolean logOutOfSequenceReads() {
 		return this.configuration.logOutOfSequenceReads();
@@ -67,6 +74,7 @@ class DefaultProtoStreamConfiguration implements ProtoStreamConfiguration {
 		private final org.infinispan.protostream.config.Configuration.Builder builder = org.infinispan.protostream.config.Configuration.builder();
 		private final ClassLoaderResolver resolver;
 		private Optional<ObjectInputFilter> filter = Optional.ofNullable(ObjectInputFilter.Config.getSerialFilter());
+		private boolean typeNameReferences;
 
 		DefaultBuilder(ClassLoaderResolver resolver) {
 			this.resolver = resolver;
@@ -83,6 +91,12 @@ class DefaultProtoStreamConfiguration implements ProtoStreamConfiguration {
 			return this;
 		}
 
+		@Override
+		public Builder withTypeNameReferences(boolean enabled) {
+			this.typeNameReferences = enabled;
+			return this;
+		}
+
 		@Override
 		public Builder setLogOutOfSequenceReads(boolean logOutOfSequenceReads) {
 			this.builder.setLogOutOfSequenceReads(logOutOfSequenceReads);
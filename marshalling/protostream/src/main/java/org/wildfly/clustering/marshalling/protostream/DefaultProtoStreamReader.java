@@ -11,6 +11,7 @@ import java.io.ObjectInputFilter;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +57,20 @@ public class DefaultProtoStreamReader extends AbstractProtoStreamOperation imple
 		 * @return the number of references within this context.
 		 */
 		int getReferences();
+
+		/**
+		 * Records the class resolved from the type name with the specified index.
+		 * @param index the index of a type name
+		 * @param type the class resolved from the type name with the specified index
+		 */
+		void recordTypeName(int index, Class<?> type);
+
+		/**
+		 * Resolves a class from the index of a previously recorded type name.
+		 * @param index the index of a type name
+		 * @return the class resolved from the type name with the specified index, or null, if no type name was recorded with the specified index
+		 */
+		Class<?> resolveTypeName(int index);
 	}
 
 	private final TagReader reader;
@@ -406,6 +421,7 @@ public class DefaultProtoStreamReader extends AbstractProtoStreamOperation imple
 		private static final int REFERENCE_INITIAL_CAPACITY = 128;
 		private final Map<Object, Boolean> objects = new IdentityHashMap<>(REFERENCE_INITIAL_CAPACITY);
 		private final List<Object> references = new ArrayList<>(REFERENCE_INITIAL_CAPACITY);
+		private final Map<Integer, Class<?>> types = new HashMap<>();
 
 		@Override
 		public void record(Object object) {
@@ -425,6 +441,16 @@ public class DefaultProtoStreamReader extends AbstractProtoStreamOperation imple
 		public int getReferences() {
 			return this.references.size();
 		}
+
+		@Override
+		public void recordTypeName(int index, Class<?> type) {
+			this.types.put(index, type);
+		}
+
+		@Override
+		public Class<?> resolveTypeName(int index) {
+			return this.types.get(index);
+		}
 	}
 
 	private abstract static class AbstractFilterInfo implements ObjectInputFilter.FilterInfo {
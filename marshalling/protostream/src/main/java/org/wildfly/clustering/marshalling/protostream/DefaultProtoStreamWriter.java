@@ -41,15 +41,19 @@ public class DefaultProtoStreamWriter extends AbstractProtoStreamWriter implemen
 			// If size is known, we can marshal directly to our output stream
 			int length = size.getAsInt();
 			this.writeVarint32(length);
+			this.getContext().startMessage();
 			if (length > 0) {
 				marshaller.writeTo(this, value);
 			}
+			this.getContext().endMessage();
 		} else {
 			// If size is unknown, marshal to an expandable temporary buffer
 			// This should only be the case if delegating to JBoss Marshalling or Java Serialization
 			try (ByteBufferOutputStream output = new ByteBufferOutputStream()) {
 				ProtobufTagMarshaller.WriteContext writer = this.getSerializationContext().createWriteContext(output);
+				this.getContext().startMessage();
 				marshaller.writeTo(new DefaultProtoStreamWriter(writer, this.getSerializationContext(), this.getContext()), value);
+				this.getContext().endMessage();
 				// Byte buffer is array backed
 				ByteBuffer buffer = output.getBuffer();
 				int offset = buffer.arrayOffset() + buffer.position();
@@ -66,6 +70,8 @@ public class DefaultProtoStreamWriter extends AbstractProtoStreamWriter implemen
 	public OptionalInt apply(Object value) {
 		ProtoStreamMarshaller<Object> marshaller = this.findMarshaller(value.getClass());
 		// Retain reference integrity by using a copy of the current context during size operation
-		return marshaller.size(new DefaultProtoStreamSizeOperation(this.getSerializationContext().createSizeContext(), this.getSerializationContext(), this.getContext().clone()), value);
+		ProtoStreamWriterContext context = this.getContext().clone();
+		context.startMessage();
+		return marshaller.size(new DefaultProtoStreamSizeOperation(this.getSerializationContext().createSizeContext(), this.getSerializationContext(), context), value);
 	}
 }
@@ -9,10 +9,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.infinispan.protostream.BaseMarshaller;
 import org.infinispan.protostream.BaseMarshallerDelegate;
+import org.infinispan.protostream.DescriptorParserException;
+import org.infinispan.protostream.FileDescriptorSource;
 import org.infinispan.protostream.ProtobufTagMarshaller;
 import org.infinispan.protostream.WrappedMessage;
 import org.infinispan.protostream.descriptors.GenericDescriptor;
@@ -35,6 +38,8 @@ class DefaultSerializationContext extends NativeSerializationContext implements
 	private final org.infinispan.protostream.SerializationContext context;
 	private final Supplier<TagWriterImpl> sizeWriterFactory;
 	private final Function<GenericDescriptor, Class<?>> type;
+	// Type resolutions are invalidated whenever the set of schemas or marshallers changes
+	private volatile ClassValue<TypeResolution> resolutions = this.createTypeResolutions();
 
 	/**
 	 * Creates a new serialization context from the specified context
@@ -59,6 +64,28 @@ class DefaultSerializationContext extends NativeSerializationContext implements
 		this.type = Function.when(typeId.thenTest(Objects::nonNull), identifiedMarshaller, namedMarshaller).thenApply(BaseMarshaller::getJavaClass);
 	}
 
+	private ClassValue<TypeResolution> createTypeResolutions() {
+		return new ClassValue<>() {
+			@Override
+			protected TypeResolution computeValue(Class<?> type) {
+				return new TypeResolution(DefaultSerializationContext.this, type);
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached type resolution for the specified class.
+	 * @param type a class
+	 * @return a type resolution
+	 */
+	TypeResolution resolve(Class<?> type) {
+		return this.resolutions.get(type);
+	}
+
+	private void invalidate() {
+		this.resolutions = this.createTypeResolutions();
+	}
+
 	@Override
 	public Stream<Class<?>> stream() {
 		return this.getGenericDescriptors().values().stream().map(this.type);
@@ -107,6 +134,7 @@ class DefaultSerializationContext extends NativeSerializationContext implements
 		String openPackageName = (openClass != null) ? openClass.getPackageName() : null;
 		if ((openModule == null) || openModule.isOpen(openPackageName, this.module)) {
 			this.context.registerMarshaller(marshaller);
+			this.invalidate();
 		} else {
 			LOGGER.log(System.Logger.Level.DEBUG, "ProtoStream marshaller for {0} is disabled. To enable, add --add-opens={1}/{2}={3} to JVM parameters", marshaller.getJavaClass().getCanonicalName(), openModule.getName(), openPackageName, this.module.isNamed() ? this.module.getName() : "ALL-UNNAMED");
 		}
@@ -174,6 +202,7 @@ class DefaultSerializationContext extends NativeSerializationContext implements
 			throw new IllegalArgumentException();
 		}
 		this.context.registerMarshallerProvider(provider);
+		this.invalidate();
 	}
 
 	@Override
@@ -182,5 +211,44 @@ class DefaultSerializationContext extends NativeSerializationContext implements
 			throw new IllegalArgumentException();
 		}
 		this.context.unregisterMarshallerProvider(provider);
+		this.invalidate();
+	}
+
+	@Override
+	public void unregisterMarshaller(BaseMarshaller<?> marshaller) {
+		super.unregisterMarshaller(marshaller);
+		this.invalidate();
+	}
+
+	@Deprecated
+	@Override
+	public void registerMarshallerProvider(MarshallerProvider provider) {
+		super.registerMarshallerProvider(provider);
+		this.invalidate();
+	}
+
+	@Deprecated
+	@Override
+	public void unregisterMarshallerProvider(MarshallerProvider provider) {
+		super.unregisterMarshallerProvider(provider);
+		this.invalidate();
+	}
+
+	@Override
+	public void registerProtoFiles(FileDescriptorSource source) throws DescriptorParserException {
+		super.registerProtoFiles(source);
+		this.invalidate();
+	}
+
+	@Override
+	public void unregisterProtoFile(String fileName) {
+		super.unregisterProtoFile(fileName);
+		this.invalidate();
+	}
+
+	@Override
+	public void unregisterProtoFiles(Set<String> fileNames) {
+		super.unregisterProtoFiles(fileNames);
+		this.invalidate();
 	}
 }
@@ -8,6 +8,7 @@ package org.wildfly.clustering.marshalling.protostream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.OptionalInt;
 import java.util.function.Supplier;
 
@@ -16,6 +17,7 @@ import org.infinispan.protostream.ProtobufTagMarshaller.WriteContext;
 import org.wildfly.clustering.context.Context;
 import org.wildfly.clustering.context.ThreadContextClassLoaderReference;
 import org.wildfly.clustering.marshalling.AbstractByteBufferMarshaller;
+import org.wildfly.clustering.marshalling.ByteBufferOutputStream;
 
 /**
  * A ProtoStream byte buffer marshaller.
@@ -42,6 +44,16 @@ public class ProtoStreamByteBufferMarshaller extends AbstractByteBufferMarshalle
 		this.contextProvider = ThreadContextClassLoaderReference.CURRENT.provide(loader);
 	}
 
+	@Override
+	public ByteBuffer write(Object object) throws IOException {
+		// ProtoStream computes marshalled size without marshalling, so size buffer exactly
+		OptionalInt size = this.size(object);
+		try (Context<ClassLoader> loader = this.contextProvider.get(); ByteBufferOutputStream output = new ByteBufferOutputStream(size)) {
+			this.writeTo(output, object);
+			return output.getBuffer();
+		}
+	}
+
 	@Override
 	public OptionalInt size(Object object) {
 		try (Context<ClassLoader> loader = this.contextProvider.get()) {
@@ -33,6 +33,15 @@ public interface ProtoStreamConfiguration extends Configuration {
 	 */
 	ClassLoaderResolver getClassLoaderResolver();
 
+	/**
+	 * Indicates whether repeated occurrences of a type name within a stream are written as references to its first occurrence.
+	 * Streams written using type name references are not readable by prior versions, thus this should only be enabled once all readers support them.
+	 * @return true, if type names are written as references to their first occurrence, false otherwise.
+	 */
+	default boolean isTypeNameReferenceEnabled() {
+		return false;
+	}
+
 	@Deprecated
 	@Override
 	default boolean wrapCollectionElements() {
@@ -59,6 +68,19 @@ public interface ProtoStreamConfiguration extends Configuration {
 		 */
 		Builder withObjectInputFilter(ObjectInputFilter filter);
 
+		/**
+		 * Indicates whether repeated occurrences of a type name within a stream should be written as references to its first occurrence.
+		 * Disabled by default, for compatibility with prior versions.
+		 * @param enabled true, if type names should be written as references to their first occurrence, false otherwise.
+		 * @return a reference to this builder
+		 */
+		default Builder withTypeNameReferences(boolean enabled) {
+			if (enabled) {
+				throw new UnsupportedOperationException();
+			}
+			return this;
+		}
+
 		@Override
 		Builder setLogOutOfSequenceReads(boolean logOutOfSequenceReads);
 
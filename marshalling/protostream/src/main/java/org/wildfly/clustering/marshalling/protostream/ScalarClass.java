@@ -6,7 +6,10 @@
 package org.wildfly.clustering.marshalling.protostream;
 
 import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.OptionalInt;
 
 import org.infinispan.protostream.BaseMarshaller;
 import org.infinispan.protostream.ImmutableSerializationContext;
@@ -42,9 +45,7 @@ public enum ScalarClass implements ScalarMarshaller<Class<?>> {
 
 		@Override
 		public void writeTo(ProtoStreamWriter writer, Class<?> value) throws IOException {
-			BaseMarshaller<?> marshaller = writer.findMarshaller(value);
-			String typeName = marshaller.getTypeName();
-			int typeId = writer.getSerializationContext().getDescriptorByName(typeName).getTypeId();
+			int typeId = TypeResolution.of(writer.getSerializationContext(), value).getTypeId();
 			writer.writeVarint32(typeId);
 		}
 	},
@@ -52,16 +53,46 @@ public enum ScalarClass implements ScalarMarshaller<Class<?>> {
 	NAME(WireType.LENGTH_DELIMITED) {
 		@Override
 		public Class<?> readFrom(ProtoStreamReader reader) throws IOException {
-			String typeName = StandardCharsets.UTF_8.decode(reader.readByteBuffer()).toString();
-			BaseMarshaller<?> marshaller = reader.getSerializationContext().getMarshaller(typeName);
-			return marshaller.getJavaClass();
+			ByteBuffer buffer = reader.readByteBuffer();
+			byte marker = buffer.hasRemaining() ? buffer.get(buffer.position()) : -1;
+			if ((marker == TYPE_NAME_REFERENCE) || (marker == TYPE_NAME_DEFINITION)) {
+				if (!(reader.getContext() instanceof DefaultProtoStreamReader.ProtoStreamReaderContext readerContext)) {
+					throw new IllegalStateException();
+				}
+				buffer.get();
+				int index = readVarint32(buffer);
+				if (marker == TYPE_NAME_REFERENCE) {
+					Class<?> type = readerContext.resolveTypeName(index);
+					if (type == null) {
+						throw new StreamCorruptedException(String.valueOf(index));
+					}
+					return type;
+				}
+				Class<?> type = resolve(reader, buffer);
+				readerContext.recordTypeName(index, type);
+				return type;
+			}
+			return resolve(reader, buffer);
 		}
 
 		@Override
 		public void writeTo(ProtoStreamWriter writer, Class<?> value) throws IOException {
-			BaseMarshaller<?> marshaller = writer.findMarshaller(value);
-			String typeName = marshaller.getTypeName();
-			Scalar.BYTE_BUFFER.writeTo(writer, StandardCharsets.UTF_8.encode(typeName));
+			TypeResolution resolution = TypeResolution.of(writer.getSerializationContext(), value);
+			if (writer.getSerializationContext().getConfiguration().isTypeNameReferenceEnabled() && (writer.getContext() instanceof AbstractProtoStreamWriter.ProtoStreamWriterContext writerContext)) {
+				OptionalInt reference = writerContext.getTypeNameReference(resolution.getTypeName());
+				if (reference.isPresent()) {
+					// Write reference to a type name previously recorded within the scope of this field
+					Scalar.BYTE_BUFFER.writeTo(writer, typeName(TYPE_NAME_REFERENCE, reference.getAsInt(), EMPTY));
+					return;
+				}
+				OptionalInt definition = writerContext.recordTypeName(resolution.getTypeName());
+				if (definition.isPresent()) {
+					// Write type name with its index, so that references to it remain resolvable even if the reader skips unrecognized fields
+					Scalar.BYTE_BUFFER.writeTo(writer, typeName(TYPE_NAME_DEFINITION, definition.getAsInt(), resolution.getEncodedTypeName()));
+					return;
+				}
+			}
+			Scalar.BYTE_BUFFER.writeTo(writer, resolution.getEncodedTypeName());
 		}
 	},
 	/** A field class */
@@ -77,6 +108,16 @@ public enum ScalarClass implements ScalarMarshaller<Class<?>> {
 		}
 	},
 	;
+	// Type names never contain control characters, thus a leading control character distinguishes a type name reference or indexed type name from a type name
+	private static final byte TYPE_NAME_REFERENCE = 0;
+	private static final byte TYPE_NAME_DEFINITION = 1;
+	private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+	private static final int VARINT_PAYLOAD_BITS = 7;
+	private static final int VARINT_PAYLOAD_MASK = 0x7F;
+	private static final int VARINT_CONTINUATION = 0x80;
+	// A varint32 requires at most 5 bytes
+	private static final int VARINT32_MAX_SIZE = (Integer.SIZE + VARINT_PAYLOAD_BITS - 1) / VARINT_PAYLOAD_BITS;
+
 	private final WireType wireType;
 
 	ScalarClass(WireType wireType) {
@@ -93,4 +134,35 @@ public enum ScalarClass implements ScalarMarshaller<Class<?>> {
 	public WireType getWireType() {
 		return this.wireType;
 	}
+
+	private static Class<?> resolve(ProtoStreamReader reader, ByteBuffer buffer) {
+		String typeName = StandardCharsets.UTF_8.decode(buffer).toString();
+		BaseMarshaller<?> marshaller = reader.getSerializationContext().getMarshaller(typeName);
+		return marshaller.getJavaClass();
+	}
+
+	private static ByteBuffer typeName(byte marker, int index, ByteBuffer typeName) {
+		ByteBuffer buffer = ByteBuffer.allocate(1 + VARINT32_MAX_SIZE + typeName.remaining());
+		buffer.put(marker);
+		int value = index;
+		while ((value & ~VARINT_PAYLOAD_MASK) != 0) {
+			buffer.put((byte) ((value & VARINT_PAYLOAD_MASK) | VARINT_CONTINUATION));
+			value >>>= VARINT_PAYLOAD_BITS;
+		}
+		buffer.put((byte) value);
+		buffer.put(typeName.duplicate());
+		return buffer.flip();
+	}
+
+	private static int readVarint32(ByteBuffer buffer) {
+		int result = 0;
+		for (int shift = 0; shift < Integer.SIZE; shift += VARINT_PAYLOAD_BITS) {
+			byte b = buffer.get();
+			result |= (b & VARINT_PAYLOAD_MASK) << shift;
+			if ((b & VARINT_CONTINUATION) == 0) {
+				return result;
+			}
+		}
+		throw new IllegalStateException();
+	}
 }
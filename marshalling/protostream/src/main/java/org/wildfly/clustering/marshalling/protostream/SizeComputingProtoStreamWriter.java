@@ -50,6 +50,10 @@ public class SizeComputingProtoStreamWriter extends AbstractProtoStreamWriter im
 	@Override
 	public OptionalInt apply(Object value) {
 		ProtoStreamMarshaller<Object> marshaller = this.findMarshaller(value.getClass());
-		return marshaller.size(new DefaultProtoStreamSizeOperation(this.getSerializationContext().createSizeContext(), this.getSerializationContext(), this.getContext()), value);
+		ProtoStreamWriterContext context = this.getContext();
+		context.startMessage();
+		OptionalInt size = marshaller.size(new DefaultProtoStreamSizeOperation(this.getSerializationContext().createSizeContext(), this.getSerializationContext(), context), value);
+		context.endMessage();
+		return size;
 	}
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.marshalling.protostream;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Describes how instances of a given class are marshalled within a given serialization context, i.e. the {@link AnyField} used to marshal an instance of the class, and the marshaller, type identifier, and encoded type name used to marshal a reference to the class.
+ * Serialization contexts cache these per class, so that they are computed only once.
+ * @author Paul Ferraro
+ */
+class TypeResolution {
+
+	private final Class<?> type;
+	private final AnyField field;
+	private final ProtoStreamMarshaller<?> marshaller;
+	private final Integer typeId;
+	private final String typeName;
+	private final byte[] encodedTypeName;
+
+	/**
+	 * Returns the type resolution of the specified class within the specified serialization context.
+	 * @param context a serialization context
+	 * @param type a class
+	 * @return a type resolution
+	 */
+	static TypeResolution of(ImmutableSerializationContext context, Class<?> type) {
+		return (context instanceof DefaultSerializationContext defaultContext) ? defaultContext.resolve(type) : new TypeResolution(context, type);
+	}
+
+	TypeResolution(ImmutableSerializationContext context, Class<?> type) {
+		this.type = type;
+		this.field = resolveField(context, type);
+		this.marshaller = findMarshaller(context, type);
+		this.typeName = (this.marshaller != null) ? this.marshaller.getTypeName() : null;
+		this.typeId = (this.typeName != null) ? context.getDescriptorByName(this.typeName).getTypeId() : null;
+		this.encodedTypeName = (this.typeName != null) ? this.typeName.getBytes(StandardCharsets.UTF_8) : null;
+	}
+
+	private static AnyField resolveField(ImmutableSerializationContext context, Class<?> type) {
+		try {
+			return AnyMarshaller.getField(context, type);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static ProtoStreamMarshaller<?> findMarshaller(ImmutableSerializationContext context, Class<?> type) {
+		try {
+			return context.findMarshaller(type);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the field with which to marshal an instance of this type.
+	 * @return an {@link AnyField}
+	 * @throws IllegalArgumentException if instances of this type are not marshallable
+	 */
+	AnyField getField() {
+		if (this.field == null) {
+			throw new IllegalArgumentException(this.type.getName());
+		}
+		return this.field;
+	}
+
+	/**
+	 * Returns the type identifier of the marshaller of this type, if one exists.
+	 * @return a type identifier, or null, if the marshaller of this type is not identified
+	 * @throws IllegalArgumentException if no marshaller exists for this type
+	 */
+	Integer getTypeId() {
+		this.requireMarshaller();
+		return this.typeId;
+	}
+
+	/**
+	 * Returns the type name of the marshaller of this type.
+	 * @return a type name
+	 * @throws IllegalArgumentException if no marshaller exists for this type
+	 */
+	String getTypeName() {
+		this.requireMarshaller();
+		return this.typeName;
+	}
+
+	/**
+	 * Returns the UTF-8 encoded type name of the marshaller of this type.
+	 * @return a buffer containing the encoded type name
+	 * @throws IllegalArgumentException if no marshaller exists for this type
+	 */
+	ByteBuffer getEncodedTypeName() {
+		this.requireMarshaller();
+		return ByteBuffer.wrap(this.encodedTypeName);
+	}
+
+	private void requireMarshaller() {
+		if (this.marshaller == null) {
+			throw new IllegalArgumentException(this.type.getName());
+		}
+	}
+}
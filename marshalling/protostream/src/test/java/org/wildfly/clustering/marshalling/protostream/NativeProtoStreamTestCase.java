@@ -7,6 +7,12 @@ package org.wildfly.clustering.marshalling.protostream;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import org.infinispan.protostream.SerializationContextInitializer;
@@ -15,7 +21,9 @@ import org.infinispan.protostream.annotations.ProtoEnumValue;
 import org.infinispan.protostream.annotations.ProtoFactory;
 import org.infinispan.protostream.annotations.ProtoField;
 import org.infinispan.protostream.annotations.ProtoSchema;
+import org.infinispan.protostream.descriptors.WireType;
 import org.junit.jupiter.api.Test;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
 import org.wildfly.clustering.marshalling.MarshallingTesterFactory;
 
 /**
@@ -23,6 +31,8 @@ import org.wildfly.clustering.marshalling.MarshallingTesterFactory;
  * @author Paul Ferraro
  */
 public class NativeProtoStreamTestCase {
+	private static final int VALUE_INDEX = 1;
+	private static final int SKIPPED_INDEX = 2;
 
 	@Test
 	public void test() {
@@ -36,6 +46,81 @@ public class NativeProtoStreamTestCase {
 		factory.createTester(NativeProtoStreamTestCase::assertEquals).accept(employee);
 	}
 
+	@Test
+	public void typeNameReferences() throws IOException {
+		ClassLoaderResolver resolver = ClassLoaderResolver.of(ClassLoader.getSystemClassLoader());
+		ByteBufferMarshaller marshaller = new ProtoStreamByteBufferMarshaller(ImmutableSerializationContext.Builder.with(ProtoStreamConfiguration.Builder.with(resolver).build()).build());
+		ByteBufferMarshaller referencingMarshaller = new ProtoStreamByteBufferMarshaller(ImmutableSerializationContext.Builder.with(ProtoStreamConfiguration.Builder.with(resolver).withTypeNameReferences(true).build()).build());
+
+		// Name has no type identifier, thus each element will be marshalled with its type name
+		List<Name> names = new ArrayList<>();
+		for (int i = 0; i < 100; ++i) {
+			names.add(new Name("first" + i, "last" + i));
+		}
+
+		ByteBuffer buffer = marshaller.write(names);
+		ByteBuffer referencingBuffer = referencingMarshaller.write(names);
+
+		assertThat(referencingBuffer.remaining()).isLessThan(buffer.remaining());
+		assertThat(referencingMarshaller.size(names)).hasValue(referencingBuffer.remaining());
+
+		// Either encoding is readable regardless of configuration
+		assertThat(marshaller.read(referencingBuffer)).isEqualTo(names);
+		assertThat(referencingMarshaller.read(buffer)).isEqualTo(names);
+	}
+
+	@Test
+	public void skippedTypeNameReferences() throws IOException {
+		ClassLoaderResolver resolver = ClassLoaderResolver.of(ClassLoader.getSystemClassLoader());
+		ImmutableSerializationContext context = ImmutableSerializationContext.Builder.with(ProtoStreamConfiguration.Builder.with(resolver).build()).build();
+		ImmutableSerializationContext referencingContext = ImmutableSerializationContext.Builder.with(ProtoStreamConfiguration.Builder.with(resolver).withTypeNameReferences(true).build()).build();
+
+		// First occurrence of the Employee type name is within a field that the reader will skip
+		List<Object> skipped = List.of(new Employee(1, new Name("Allegra", "Coleman"), Sex.FEMALE, null));
+		List<Object> values = new ArrayList<>();
+		values.add(new Name("John", "Barron"));
+		values.add(new Employee(2, new Name("Alan", "Smithee"), Sex.MALE, null));
+		for (int i = 0; i < 10; ++i) {
+			values.add(new Name("first" + i, "last" + i));
+		}
+
+		byte[] bytes = write(context, skipped, values);
+		byte[] referencingBytes = write(referencingContext, skipped, values);
+
+		// Subsequent occurrences of the Name type name are written as references
+		assertThat(referencingBytes.length).isLessThan(bytes.length);
+
+		assertThat(read(referencingContext, referencingBytes)).containsExactlyElementsOf(values);
+		assertThat(read(context, referencingBytes)).containsExactlyElementsOf(values);
+	}
+
+	private static byte[] write(ImmutableSerializationContext context, List<Object> skipped, List<Object> values) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ProtoStreamWriter writer = new DefaultProtoStreamWriter(context.createWriteContext(output), context);
+		for (Object value : skipped) {
+			writer.writeAny(SKIPPED_INDEX, value);
+		}
+		for (Object value : values) {
+			writer.writeAny(VALUE_INDEX, value);
+		}
+		writer.flush();
+		return output.toByteArray();
+	}
+
+	private static List<Object> read(ImmutableSerializationContext context, byte[] bytes) throws IOException {
+		ProtoStreamReader reader = new DefaultProtoStreamReader(context.createReadContext(new ByteArrayInputStream(bytes)), context);
+		List<Object> values = new ArrayList<>();
+		while (!reader.isAtEnd()) {
+			int tag = reader.readTag();
+			if (WireType.getTagFieldNumber(tag) == VALUE_INDEX) {
+				values.add(reader.readAny());
+			} else {
+				reader.skipField(tag);
+			}
+		}
+		return values;
+	}
+
 	static void assertEquals(Employee expected, Employee actual) {
 		assertThat(actual).isEqualTo(expected);
 		assertThat(actual.getName()).isEqualTo(expected.getName());
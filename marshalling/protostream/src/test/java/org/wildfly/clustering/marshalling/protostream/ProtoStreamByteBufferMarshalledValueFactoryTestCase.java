@@ -5,14 +5,72 @@
 
 package org.wildfly.clustering.marshalling.protostream;
 
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
 import org.wildfly.clustering.marshalling.AbstractByteBufferMarshalledValueFactoryTestCase;
+import org.wildfly.clustering.marshalling.ByteBufferMarshalledValue;
+import org.wildfly.clustering.marshalling.ByteBufferMarshalledValueFactory;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
 
 /**
  * @author Paul Ferraro
  */
 public class ProtoStreamByteBufferMarshalledValueFactoryTestCase extends AbstractByteBufferMarshalledValueFactoryTestCase {
 
+	private final ByteBufferMarshaller marshaller;
+
 	public ProtoStreamByteBufferMarshalledValueFactoryTestCase() {
-		super(new ProtoStreamTesterFactory());
+		this(new ProtoStreamTesterFactory());
+	}
+
+	private ProtoStreamByteBufferMarshalledValueFactoryTestCase(ProtoStreamTesterFactory factory) {
+		super(factory);
+		this.marshaller = factory.getMarshaller();
+	}
+
+	@Test
+	public void marked() throws IOException {
+		UUID marked = UUID.randomUUID();
+		UUID unmarked = UUID.randomUUID();
+		ByteBufferMarshalledValueFactory factory = new ByteBufferMarshalledValueFactory(this.marshaller, marked::equals);
+
+		ByteBufferMarshalledValue<UUID> value = factory.createMarshalledValue(marked);
+		assertThat(value.isMarked()).hasValue(true);
+
+		ByteBufferMarshalledValue<UUID> replica = this.replicate(value);
+		// Mark should be readable without unmarshalling
+		assertThat(replica.isMarked()).hasValue(true);
+		assertThat(replica.get(this.marshaller)).isEqualTo(marked);
+		// Mark is unknown once replica is unmarshalled
+		assertThat(replica.isMarked()).isEmpty();
+
+		value = factory.createMarshalledValue(unmarked);
+		assertThat(value.isMarked()).hasValue(false);
+
+		replica = this.replicate(value);
+		assertThat(replica.isMarked()).hasValue(false);
+		assertThat(replica.get(this.marshaller)).isEqualTo(unmarked);
+
+		// Mark of values created without a marker is unknown
+		value = new ByteBufferMarshalledValueFactory(this.marshaller).createMarshalledValue(marked);
+		assertThat(value.isMarked()).isEmpty();
+
+		replica = this.replicate(value);
+		assertThat(replica.isMarked()).isEmpty();
+		assertThat(replica.get(this.marshaller)).isEqualTo(marked);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <V> ByteBufferMarshalledValue<V> replicate(ByteBufferMarshalledValue<V> value) throws IOException {
+		OptionalInt size = this.marshaller.size(value);
+		ByteBuffer buffer = this.marshaller.write(value);
+		assertThat(size).hasValue(buffer.remaining());
+		return (ByteBufferMarshalledValue<V>) this.marshaller.read(buffer);
 	}
 }
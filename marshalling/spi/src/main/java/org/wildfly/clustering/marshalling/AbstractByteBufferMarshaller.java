@@ -17,11 +17,13 @@ import org.wildfly.clustering.context.ThreadContextClassLoaderReference;
 
 /**
  * An abstract byte buffer marshaller that performs read/writing within a specified ClassLoader context.
+ * Since {@link #size(Object)} requires a full marshalling pass, buffers are instead sized for writing using running estimates of the marshalled sizes of objects of the same class.
  * @author Paul Ferraro
  */
 public abstract class AbstractByteBufferMarshaller implements ByteBufferMarshaller {
 
 	private final Supplier<Context<ClassLoader>> contextProvider;
+	private final MarshalledSizePredictor predictor = new MarshalledSizePredictor();
 
 	/**
 	 * Constructs a new byte buffer marshaller using the specified context class loader.
@@ -40,8 +42,14 @@ public abstract class AbstractByteBufferMarshaller implements ByteBufferMarshall
 
 	@Override
 	public ByteBuffer write(Object object) throws IOException {
-		try (Context<ClassLoader> context = this.contextProvider.get()) {
-			return ByteBufferMarshaller.super.write(object);
+		OptionalInt predictedSize = this.predictor.predict(object);
+		try (Context<ClassLoader> context = this.contextProvider.get(); ByteBufferOutputStream output = new ByteBufferOutputStream(predictedSize)) {
+			this.writeTo(output, object);
+			int size = output.size();
+			this.predictor.record(object, size);
+			ByteBuffer buffer = output.getBuffer();
+			// Avoid retaining an oversized buffer, i.e. whose unused capacity exceeds the headroom of a prediction, e.g. following an unusually large object of the same class
+			return MarshalledSizePredictor.isOversized(buffer.capacity(), size) ? ByteBuffer.wrap(output.toByteArray()) : buffer;
 		}
 	}
 
@@ -12,8 +12,10 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
 
 /**
  * {@link MarshalledValue} implementation that uses a {@link ByteBufferMarshaller}.
@@ -30,6 +32,8 @@ public class ByteBufferMarshalledValue<V> implements MarshalledValue<V, ByteBuff
 	private transient ByteBufferMarshaller marshaller;
 	private transient V object;
 	private transient ByteBuffer buffer;
+	private transient Predicate<Object> marker;
+	private transient Boolean marked;
 
 	/**
 	 * Constructs a marshalled value from the specified object and marshaller.
@@ -37,8 +41,19 @@ public class ByteBufferMarshalledValue<V> implements MarshalledValue<V, ByteBuff
 	 * @param marshaller a marshaller suitable for marshalling the specified object
 	 */
 	public ByteBufferMarshalledValue(V object, ByteBufferMarshaller marshaller) {
+		this(object, marshaller, null);
+	}
+
+	/**
+	 * Constructs a marshalled value from the specified object and marshaller, whose wrapped object is marked by the specified predicate.
+	 * @param object the wrapped object
+	 * @param marshaller a marshaller suitable for marshalling the specified object
+	 * @param marker a predicate indicating whether the wrapped object is marked
+	 */
+	public ByteBufferMarshalledValue(V object, ByteBufferMarshaller marshaller, Predicate<Object> marker) {
 		this.marshaller = marshaller;
 		this.object = object;
+		this.marker = marker;
 	}
 
 	/**
@@ -51,6 +66,18 @@ public class ByteBufferMarshalledValue<V> implements MarshalledValue<V, ByteBuff
 		this.buffer = (buffer != null) ? duplicate(buffer) : null;
 	}
 
+	/**
+	 * Constructs a marshalled value from the specified byte buffer, whose wrapped object was marked as specified when marshalled.
+	 * This constructor is only public to facilitate marshallers of this object (from other packages).
+	 * The byte buffer parameter must not be read outside the context of this object.
+	 * @param buffer a byte buffer
+	 * @param marked indicates whether the wrapped object was marked
+	 */
+	public ByteBufferMarshalledValue(ByteBuffer buffer, boolean marked) {
+		this(buffer);
+		this.marked = marked;
+	}
+
 	private static ByteBuffer duplicate(ByteBuffer buffer) {
 		if (buffer.hasArray()) {
 			return buffer.duplicate();
@@ -92,6 +119,37 @@ public class ByteBufferMarshalledValue<V> implements MarshalledValue<V, ByteBuff
 		return (this.buffer == null) && (this.object == null);
 	}
 
+	/**
+	 * Indicates whether the wrapped object of this value is marked, without unmarshalling it.
+	 * A wrapped object is only marked if this value was created with a marker, or was unmarshalled from a value created with a marker.
+	 * @return true, if the wrapped object is marked, false if the wrapped object is not marked, or empty if unknown
+	 */
+	public Optional<Boolean> isMarked() {
+		long stamp = this.lock.tryOptimisticRead();
+		try {
+			Optional<Boolean> result = StampedLock.isOptimisticReadStamp(stamp) ? this.isMarkedUnsafe() : null;
+			if (!this.lock.validate(stamp)) {
+				// Optimistic read unsuccessful or invalid
+				// Acquire pessimistic read lock
+				stamp = this.lock.readLock();
+				result = this.isMarkedUnsafe();
+			}
+			return result;
+		} finally {
+			if (StampedLock.isLockStamp(stamp)) {
+				this.lock.unlock(stamp);
+			}
+		}
+	}
+
+	private Optional<Boolean> isMarkedUnsafe() {
+		// Since the wrapped object is likely mutable, a recorded mark is only valid while this value is not yet unmarshalled
+		if (this.object != null) {
+			return (this.marker != null) ? Optional.of(this.marker.test(this.object)) : Optional.empty();
+		}
+		return (this.buffer != null) ? Optional.ofNullable(this.marked) : Optional.of(Boolean.FALSE);
+	}
+
 	/**
 	 * Returns the byte buffer of this value, marshalling it if necessary.
 	 * @return the byte buffer of this value.
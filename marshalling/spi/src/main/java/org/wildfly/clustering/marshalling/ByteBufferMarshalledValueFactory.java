@@ -5,6 +5,8 @@
 
 package org.wildfly.clustering.marshalling;
 
+import java.util.function.Predicate;
+
 /**
  * Factory for creating a {@link ByteBufferMarshalledValue}.
  * @author Paul Ferraro
@@ -12,13 +14,25 @@ package org.wildfly.clustering.marshalling;
 public class ByteBufferMarshalledValueFactory implements MarshalledValueFactory<ByteBufferMarshaller> {
 
 	private final ByteBufferMarshaller marshaller;
+	private final Predicate<Object> marker;
 
 	/**
 	 * Creates a new marshalled value factory with the specified marshaller.
 	 * @param marshaller a marshaller
 	 */
 	public ByteBufferMarshalledValueFactory(ByteBufferMarshaller marshaller) {
+		this(marshaller, null);
+	}
+
+	/**
+	 * Creates a new marshalled value factory with the specified marshaller, whose marshalled values record whether their wrapped object is marked by the specified predicate.
+	 * @param marshaller a marshaller
+	 * @param marker a predicate indicating whether a wrapped object is marked
+	 * @see ByteBufferMarshalledValue#isMarked()
+	 */
+	public ByteBufferMarshalledValueFactory(ByteBufferMarshaller marshaller, Predicate<Object> marker) {
 		this.marshaller = marshaller;
+		this.marker = marker;
 	}
 
 	@Override
@@ -28,7 +42,7 @@ public class ByteBufferMarshalledValueFactory implements MarshalledValueFactory<
 
 	@Override
 	public <V> ByteBufferMarshalledValue<V> createMarshalledValue(V object) {
-		return new ByteBufferMarshalledValue<>(object, this.marshaller);
+		return new ByteBufferMarshalledValue<>(object, this.marshaller, this.marker);
 	}
 
 	@Override
@@ -0,0 +1,69 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.marshalling;
+
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Predicts the marshalled size of an object based on a running estimate of the marshalled sizes of previous objects of the same class.
+ * Estimates grow immediately (with some headroom) to accommodate a larger marshalled size, but decay gradually toward smaller marshalled sizes.
+ * @author Paul Ferraro
+ */
+class MarshalledSizePredictor {
+	// Headroom of 1/8 added to observed sizes
+	private static final int HEADROOM_SHIFT = 3;
+	// Estimates decay by 1/4 of the difference between an estimate and a smaller observed size
+	private static final int DECAY_SHIFT = 2;
+	// Upper bound of an estimate, beyond which buffers grow on demand
+	static final int MAX_ESTIMATE = 1 << 20;
+
+	private final ClassValue<AtomicInteger> estimates = new ClassValue<>() {
+		@Override
+		protected AtomicInteger computeValue(Class<?> type) {
+			return new AtomicInteger();
+		}
+	};
+
+	/**
+	 * Returns the predicted marshalled size of the specified object.
+	 * @param object an object to be marshalled
+	 * @return the predicted marshalled size, or empty if no objects of the same class were previously observed.
+	 */
+	OptionalInt predict(Object object) {
+		int estimate = this.estimate(object).get();
+		return (estimate > 0) ? OptionalInt.of(estimate) : OptionalInt.empty();
+	}
+
+	/**
+	 * Records the actual marshalled size of the specified object.
+	 * @param object a marshalled object
+	 * @param size the marshalled size of the object
+	 */
+	void record(Object object, int size) {
+		this.estimate(object).accumulateAndGet(size, MarshalledSizePredictor::accumulate);
+	}
+
+	private AtomicInteger estimate(Object object) {
+		return this.estimates.get((object != null) ? object.getClass() : Void.class);
+	}
+
+	/**
+	 * Indicates whether a buffer of the specified capacity is oversized for the specified marshalled size, i.e. whether its unused capacity exceeds the headroom of a prediction.
+	 * @param capacity the capacity of a buffer
+	 * @param size the marshalled size of an object
+	 * @return true, if the buffer is oversized, false otherwise
+	 */
+	static boolean isOversized(int capacity, int size) {
+		return (capacity - size) > (size >> HEADROOM_SHIFT);
+	}
+
+	private static int accumulate(int estimate, int size) {
+		// Clamp to our upper bound, which also guards against overflow
+		int target = (int) Math.min(size + (long) (size >> HEADROOM_SHIFT), MAX_ESTIMATE);
+		return (target >= estimate) ? target : estimate - ((estimate - target) >> DECAY_SHIFT);
+	}
+}
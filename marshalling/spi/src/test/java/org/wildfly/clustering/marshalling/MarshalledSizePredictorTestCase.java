@@ -0,0 +1,69 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.marshalling;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for {@link MarshalledSizePredictor}.
+ * @author Paul Ferraro
+ */
+public class MarshalledSizePredictorTestCase {
+
+	@Test
+	public void test() {
+		MarshalledSizePredictor predictor = new MarshalledSizePredictor();
+
+		assertThat(predictor.predict("foo")).isEmpty();
+		assertThat(predictor.predict(null)).isEmpty();
+
+		predictor.record("foo", 800);
+
+		// Estimate should include headroom
+		OptionalInt estimate = predictor.predict("bar");
+		assertThat(estimate).hasValue(900);
+		// Estimates are per class
+		assertThat(predictor.predict(1)).isEmpty();
+		assertThat(predictor.predict(null)).isEmpty();
+
+		// Estimate should grow immediately
+		predictor.record("foo", 1600);
+		assertThat(predictor.predict("foo")).hasValue(1800);
+
+		// Estimate should decay gradually
+		predictor.record("foo", 800);
+		assertThat(predictor.predict("foo")).hasValue(1575);
+
+		for (int i = 0; i < 100; ++i) {
+			predictor.record("foo", 800);
+		}
+		assertThat(predictor.predict("foo").getAsInt()).isBetween(900, 903);
+
+		predictor.record(null, 1);
+		assertThat(predictor.predict(null)).hasValue(1);
+
+		// Verify estimates are bounded
+		predictor.record(1, MarshalledSizePredictor.MAX_ESTIMATE);
+		assertThat(predictor.predict(1)).hasValue(MarshalledSizePredictor.MAX_ESTIMATE);
+
+		// Verify overflow
+		predictor.record(1, Integer.MAX_VALUE);
+		assertThat(predictor.predict(1)).hasValue(MarshalledSizePredictor.MAX_ESTIMATE);
+	}
+
+	@Test
+	public void isOversized() {
+		assertThat(MarshalledSizePredictor.isOversized(800, 800)).isFalse();
+		assertThat(MarshalledSizePredictor.isOversized(900, 800)).isFalse();
+		assertThat(MarshalledSizePredictor.isOversized(901, 800)).isTrue();
+		assertThat(MarshalledSizePredictor.isOversized(1600, 800)).isTrue();
+		assertThat(MarshalledSizePredictor.isOversized(0, 0)).isFalse();
+	}
+}
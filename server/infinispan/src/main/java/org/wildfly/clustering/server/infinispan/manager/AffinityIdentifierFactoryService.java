@@ -16,7 +16,7 @@ import org.wildfly.clustering.cache.infinispan.embedded.affinity.KeyAffinityServ
 import org.wildfly.clustering.server.manager.IdentifierFactoryService;
 
 /**
- * An {@link IdentifierFactoryService} that uses a {@link KeyAffinityService} to pre-generate locally hashing identifiers from a supplier.
+ * An {@link IdentifierFactoryService} that uses a {@link KeyAffinityService} to generate locally hashing identifiers from a supplier.
  * @author Paul Ferraro
  * @param <I> the identifier type
  */
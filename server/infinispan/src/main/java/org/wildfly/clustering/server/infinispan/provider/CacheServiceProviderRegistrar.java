@@ -5,6 +5,7 @@
 package org.wildfly.clustering.server.infinispan.provider;
 
 import java.util.AbstractMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -17,22 +18,26 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.infinispan.Cache;
+import org.infinispan.configuration.cache.CacheMode;
+import org.infinispan.context.Flag;
 import org.infinispan.distribution.ch.ConsistentHash;
 import org.infinispan.notifications.Listener;
 import org.infinispan.notifications.Listener.Observation;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
 import org.infinispan.notifications.cachelistener.annotation.CacheEntryModified;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryRemoved;
 import org.infinispan.notifications.cachelistener.annotation.TopologyChanged;
 import org.infinispan.notifications.cachelistener.event.CacheEntryCreatedEvent;
 import org.infinispan.notifications.cachelistener.event.CacheEntryModifiedEvent;
+import org.infinispan.notifications.cachelistener.event.CacheEntryRemovedEvent;
 import org.infinispan.notifications.cachelistener.event.TopologyChangedEvent;
 import org.infinispan.remoting.transport.Address;
 import org.wildfly.clustering.cache.batch.Batch;
@@ -67,6 +72,15 @@ public class CacheServiceProviderRegistrar<T> implements CacheContainerServicePr
 		 * @return the group with which this service provider registrar is associated.
 		 */
 		CacheContainerGroup getGroup();
+
+		/**
+		 * Indicates whether registration listeners are notified via serial executors sharing the executor of this configuration, rather than via a dedicated thread per listener.
+		 * By default, each registration listener is notified by a dedicated thread.
+		 * @return true, if registration listeners share the executor of this configuration, false otherwise.
+		 */
+		default boolean isListenerExecutorShared() {
+			return false;
+		}
 	}
 
 	private final Supplier<Batch> batchFactory;
@@ -75,6 +89,10 @@ public class CacheServiceProviderRegistrar<T> implements CacheContainerServicePr
 	private final BooleanSupplier active;
 	private final CacheContainerGroup group;
 	private final Executor executor;
+	private final Function<ClassLoader, ExecutorService> executorFactory;
+	private final boolean snapshot;
+	// Copy-on-write snapshot of the providers of each service, maintained via cache events
+	private volatile Map<T, Set<CacheContainerGroupMember>> providers = Map.of();
 
 	/**
 	 * Creates a service provider registrar using the specified configuration
@@ -85,8 +103,16 @@ public class CacheServiceProviderRegistrar<T> implements CacheContainerServicePr
 		this.cache = configuration.getWriteOnlyCache();
 		this.batchFactory = configuration.getBatchFactory();
 		this.executor = configuration.getExecutor();
+		Executor executor = this.executor;
+		this.executorFactory = configuration.isListenerExecutorShared() ? loader -> DefaultExecutorService.newSerialExecutor(executor, loader) : DefaultExecutorService::newSerialExecutor;
 		this.active = configuration::isActive;
+		CacheMode mode = this.cache.getCacheConfiguration().clustering().cacheMode();
+		// A local snapshot requires that this member observes events for every cache entry
+		this.snapshot = !mode.isClustered() || mode.isReplicated();
 		this.cache.addListener(this);
+		if (this.snapshot) {
+			this.resetProviders();
+		}
 	}
 
 	@Override
@@ -118,7 +144,7 @@ public class CacheServiceProviderRegistrar<T> implements CacheContainerServicePr
 		ClassLoader loader = Thread.currentThread().getContextClassLoader();
 		// Only create executor for new registrations
 		Map.Entry<ServiceProviderRegistrationListener<CacheContainerGroupMember>, ExecutorService> entry = this.listeners.computeIfAbsent(service, key -> {
-			newEntry.setValue(new DefaultExecutorService(Executors::newSingleThreadExecutor, loader));
+			newEntry.setValue(this.executorFactory.apply(loader));
 			return newEntry;
 		});
 		if (entry != newEntry) {
@@ -164,6 +190,9 @@ public class CacheServiceProviderRegistrar<T> implements CacheContainerServicePr
 
 	@Override
 	public Set<CacheContainerGroupMember> getProviders(T service) {
+		if (this.snapshot) {
+			return this.providers.getOrDefault(service, Set.of());
+		}
 		Set<Address> addresses = this.cache.get(service);
 		return (addresses != null) ? this.map(addresses) : Set.of();
 	}
@@ -177,6 +206,31 @@ public class CacheServiceProviderRegistrar<T> implements CacheContainerServicePr
 		return addresses.stream().map(this.group.getGroupMemberFactory()::createGroupMember).filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
 	}
 
+	private synchronized void resetProviders() {
+		Map<T, Set<CacheContainerGroupMember>> providers = new HashMap<>();
+		try (Stream<Map.Entry<T, Set<Address>>> entries = this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL).entrySet().stream()) {
+			Iterator<Map.Entry<T, Set<Address>>> iterator = entries.iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<T, Set<Address>> entry = iterator.next();
+				Set<CacheContainerGroupMember> members = this.map(entry.getValue());
+				if (!members.isEmpty()) {
+					providers.put(entry.getKey(), members);
+				}
+			}
+		}
+		this.providers = Map.copyOf(providers);
+	}
+
+	private synchronized void updateProviders(T service, Set<CacheContainerGroupMember> members) {
+		Map<T, Set<CacheContainerGroupMember>> providers = new HashMap<>(this.providers);
+		if (members.isEmpty()) {
+			providers.remove(service);
+		} else {
+			providers.put(service, members);
+		}
+		this.providers = Map.copyOf(providers);
+	}
+
 	/**
 	 * Non-blocking handler of topology changed events.
 	 * @param event a topology changed event
@@ -193,6 +247,10 @@ public class CacheServiceProviderRegistrar<T> implements CacheContainerServicePr
 		List<Address> members = hash.getMembers();
 
 		if (!members.equals(previousMembers)) {
+			if (this.snapshot) {
+				// Providers may have been added via state transfer, or may no longer map to a group member
+				this.resetProviders();
+			}
 			Cache<T, Set<Address>> cache = event.getCache();
 			Address localAddress = cache.getCacheManager().getAddress();
 
@@ -252,14 +310,30 @@ public class CacheServiceProviderRegistrar<T> implements CacheContainerServicePr
 		return !Objects.equals(event.getOldValue(), event.getNewValue()) ? this.updated(event.getKey(), event.getOldValue(), event.getNewValue()) : CompletableFuture.completedFuture(null);
 	}
 
+	/**
+	 * Non-blocking handler of cache entry removed events.
+	 * @param event a cache entry removed event
+	 * @return a completion stage
+	 */
+	@CacheEntryRemoved
+	public CompletionStage<Void> removed(CacheEntryRemovedEvent<T, Set<Address>> event) {
+		if (this.snapshot) {
+			this.updateProviders(event.getKey(), Set.of());
+		}
+		return CompletableFuture.completedStage(null);
+	}
+
 	private CompletionStage<Void> updated(T service, Set<Address> previousProviders, Set<Address> currentProviders) {
+		Set<CacheContainerGroupMember> currentMembers = this.map(currentProviders);
+		if (this.snapshot) {
+			this.updateProviders(service, currentMembers);
+		}
 		Map.Entry<ServiceProviderRegistrationListener<CacheContainerGroupMember>, ExecutorService> entry = this.listeners.get(service);
 		if (entry != null) {
 			ServiceProviderRegistrationListener<CacheContainerGroupMember> listener = entry.getKey();
 			if (listener != null) {
 				Executor executor = entry.getValue();
 				Set<CacheContainerGroupMember> previousMembers = this.map(previousProviders);
-				Set<CacheContainerGroupMember> currentMembers = this.map(currentProviders);
 				ServiceProviderRegistrationEvent<CacheContainerGroupMember> event = new ServiceProviderRegistrationEvent<>() {
 					@Override
 					public Set<CacheContainerGroupMember> getPreviousProviders() {
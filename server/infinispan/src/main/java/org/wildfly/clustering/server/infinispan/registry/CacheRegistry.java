@@ -15,7 +15,6 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
@@ -87,6 +86,16 @@ public class CacheRegistry<K, V> implements CacheContainerRegistry<K, V> {
 		default Runnable getCloseTask() {
 			return Runner.of();
 		}
+
+		/**
+		 * Indicates whether registry listeners are notified via serial executors that share the executor of this configuration.
+		 * If so, the number of threads used to notify listeners is bounded by that executor, rather than by the number of registered listeners.
+		 * By default, each registry listener is notified by a dedicated thread.
+		 * @return true, if registry listeners share the executor of this configuration, false otherwise.
+		 */
+		default boolean isListenerExecutorShared() {
+			return false;
+		}
 	}
 
 	private final Map<RegistryListener<K, V>, ExecutorService> listeners = new ConcurrentHashMap<>();
@@ -97,12 +106,7 @@ public class CacheRegistry<K, V> implements CacheContainerRegistry<K, V> {
 	private final Map.Entry<K, V> entry;
 	private final Executor executor;
 	private final BooleanSupplier active;
-	private final Function<RegistryListener<K, V>, ExecutorService> executorServiceFactory = new Function<>() {
-		@Override
-		public ExecutorService apply(RegistryListener<K, V> listener) {
-			return new DefaultExecutorService(Executors::newSingleThreadExecutor, Thread.currentThread().getContextClassLoader());
-		}
-	};
+	private final Function<RegistryListener<K, V>, ExecutorService> executorServiceFactory;
 
 	/**
 	 * Creates a cache registry using the specified configuration.
@@ -114,6 +118,8 @@ public class CacheRegistry<K, V> implements CacheContainerRegistry<K, V> {
 		this.group = configuration.getGroup();
 		this.closeTask = configuration.getCloseTask();
 		this.executor = configuration.getExecutor();
+		Executor executor = this.executor;
+		this.executorServiceFactory = configuration.isListenerExecutorShared() ? listener -> DefaultExecutorService.newSerialExecutor(executor, Thread.currentThread().getContextClassLoader()) : listener -> DefaultExecutorService.newSerialExecutor(Thread.currentThread().getContextClassLoader());
 		this.entry = MapEntry.of(configuration.getEntry().getKey(), configuration.getEntry().getValue());
 		this.active = configuration::isActive;
 		if (this.active.getAsBoolean()) {
@@ -8,7 +8,10 @@ package org.wildfly.clustering.server.infinispan.scheduler;
 import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import io.github.resilience4j.core.functions.CheckedFunction;
 import io.github.resilience4j.retry.Retry;
@@ -83,6 +86,26 @@ public class PrimaryOwnerSchedulerService<K, V> extends DecoratedSchedulerServic
 		default ClassLoader getClassLoader() {
 			return Configuration.this.getScheduler().getClass().getClassLoader();
 		}
+
+		/**
+		 * Indicates whether schedule/cancel operations are dispatched to the primary owner asynchronously, i.e. without blocking the caller.
+		 * Operations for a given entry are dispatched in order, and any operations submitted while a previous operation for the same entry is in flight are coalesced, such that only the most recent is dispatched.
+		 * By default, the caller awaits the response from the primary owner.
+		 * @return true, if operations are dispatched asynchronously, false otherwise.
+		 */
+		default boolean isAsynchronous() {
+			return false;
+		}
+
+		/**
+		 * Indicates whether cancellation of an entry owned by a remote member must be dispatched to its primary owner.
+		 * Cancellation may be skipped if the scheduled task itself validates its entry upon execution, e.g. under a lock held while the entry is in use, and if the entry is always rescheduled once no longer in use.
+		 * By default, cancellation is always dispatched to the primary owner.
+		 * @return true, if cancellation must be dispatched to a remote primary owner, false otherwise.
+		 */
+		default boolean isRemoteCancelRequired() {
+			return true;
+		}
 	}
 
 	private final CommandDispatcher<CacheContainerGroupMember, Scheduler<K, V>> dispatcher;
@@ -90,6 +113,12 @@ public class PrimaryOwnerSchedulerService<K, V> extends DecoratedSchedulerServic
 	private final CheckedFunction<K, CompletionStage<Void>> primaryOwnerCancel;
 	private final CheckedFunction<K, CompletionStage<Boolean>> primaryOwnerContains;
 	private final ListenerRegistration listenerRegistration;
+	private final Function<K, CacheContainerGroupMember> affinity;
+	private final CacheContainerGroupMember localMember;
+	private final boolean asynchronous;
+	private final boolean remoteCancelRequired;
+	// Contains the operation in flight, or most recently submitted, per entry, when dispatching asynchronously
+	private final Map<K, Supplier<CompletionStage<Void>>> operations = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a primary owner scheduler from the specified configuration.
@@ -101,40 +130,36 @@ public class PrimaryOwnerSchedulerService<K, V> extends DecoratedSchedulerServic
 		super(configuration.getScheduler());
 		String name = configuration.getName();
 		this.dispatcher = configuration.getCommandDispatcherFactory().createCommandDispatcher(name, configuration.getScheduler(), configuration.getClassLoader());
-		Function<K, CacheContainerGroupMember> affinity = configuration.getAffinity();
+		this.affinity = configuration.getAffinity();
+		this.localMember = configuration.getCommandDispatcherFactory().getGroup().getLocalMember();
+		this.asynchronous = configuration.isAsynchronous();
+		this.remoteCancelRequired = configuration.isRemoteCancelRequired();
 		Retry retry = Retry.of(name, configuration.getCacheConfiguration().getRetryConfig());
-		this.primaryOwnerSchedule = Retry.decorateCheckedFunction(retry, new PrimaryOwnerCommandExecutionFunction<>(this.dispatcher, affinity, configuration.getScheduleCommandFactory()));
-		this.primaryOwnerCancel = Retry.decorateCheckedFunction(retry, new PrimaryOwnerCommandExecutionFunction<>(this.dispatcher, affinity, CancelCommand::new));
-		this.primaryOwnerContains = Retry.decorateCheckedFunction(retry, new PrimaryOwnerCommandExecutionFunction<>(this.dispatcher, affinity, ContainsCommand::new));
+		this.primaryOwnerSchedule = Retry.decorateCheckedFunction(retry, new PrimaryOwnerCommandExecutionFunction<>(this.dispatcher, this.affinity, configuration.getScheduleCommandFactory()));
+		this.primaryOwnerCancel = Retry.decorateCheckedFunction(retry, new PrimaryOwnerCommandExecutionFunction<>(this.dispatcher, this.affinity, CancelCommand::new));
+		this.primaryOwnerContains = Retry.decorateCheckedFunction(retry, new PrimaryOwnerCommandExecutionFunction<>(this.dispatcher, this.affinity, ContainsCommand::new));
 		this.listenerRegistration = new SchedulerTopologyChangeListenerRegistrar<>(configuration).register();
 	}
 
 	@Override
 	public void close() {
 		this.listenerRegistration.close();
+		this.operations.clear();
 		this.dispatcher.close();
 		super.close();
 	}
 
 	@Override
 	public void schedule(K id, V metaData) {
-		try {
-			this.primaryOwnerSchedule.apply(Map.entry(id, metaData)).toCompletableFuture().join();
-		} catch (CancellationException e) {
-			// Ignore
-		} catch (Throwable e) {
-			LOGGER.log(System.Logger.Level.WARNING, e.getLocalizedMessage(), e);
-		}
+		Map.Entry<K, V> entry = Map.entry(id, metaData);
+		this.submit(id, () -> apply(this.primaryOwnerSchedule, entry));
 	}
 
 	@Override
 	public void cancel(K id) {
-		try {
-			this.primaryOwnerCancel.apply(id).toCompletableFuture().join();
-		} catch (CancellationException e) {
-			// Ignore
-		} catch (Throwable e) {
-			LOGGER.log(System.Logger.Level.WARNING, e.getLocalizedMessage(), e);
+		// Skip cancellation of remotely owned entries, if the primary owner validates its entries upon execution
+		if (this.remoteCancelRequired || this.localMember.equals(this.affinity.apply(id))) {
+			this.submit(id, () -> apply(this.primaryOwnerCancel, id));
 		}
 	}
 
@@ -150,6 +175,46 @@ public class PrimaryOwnerSchedulerService<K, V> extends DecoratedSchedulerServic
 		}
 	}
 
+	private void submit(K id, Supplier<CompletionStage<Void>> operation) {
+		if (this.asynchronous) {
+			// Dispatch only if no operation for this entry is already in flight, otherwise it will be dispatched upon completion of the operation in flight
+			if (this.operations.put(id, operation) == null) {
+				this.dispatch(id, operation);
+			}
+		} else {
+			try {
+				operation.get().toCompletableFuture().join();
+			} catch (CancellationException e) {
+				// Ignore
+			} catch (Throwable e) {
+				LOGGER.log(System.Logger.Level.WARNING, e.getLocalizedMessage(), e);
+			}
+		}
+	}
+
+	private void dispatch(K id, Supplier<CompletionStage<Void>> operation) {
+		operation.get().whenComplete((result, exception) -> {
+			if ((exception != null) && !(exception instanceof CancellationException) && !(exception.getCause() instanceof CancellationException)) {
+				LOGGER.log(System.Logger.Level.WARNING, exception.getLocalizedMessage(), exception);
+			}
+			// If another operation was submitted for this entry while this operation was in flight, dispatch the most recent one
+			if (!this.operations.remove(id, operation)) {
+				Supplier<CompletionStage<Void>> next = this.operations.get(id);
+				if (next != null) {
+					this.dispatch(id, next);
+				}
+			}
+		});
+	}
+
+	private static <T> CompletionStage<Void> apply(CheckedFunction<T, CompletionStage<Void>> function, T value) {
+		try {
+			return function.apply(value);
+		} catch (Throwable e) {
+			return CompletableFuture.failedStage(e);
+		}
+	}
+
 	private static class PrimaryOwnerCommandExecutionFunction<K, V, T, R> implements CheckedFunction<T, CompletionStage<R>> {
 		private final CommandDispatcher<CacheContainerGroupMember, Scheduler<K, V>> dispatcher;
 		private final Function<K, CacheContainerGroupMember> affinity;
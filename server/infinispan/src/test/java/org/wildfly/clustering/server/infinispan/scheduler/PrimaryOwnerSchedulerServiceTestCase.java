@@ -0,0 +1,125 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.server.infinispan.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import io.github.resilience4j.retry.RetryConfig;
+
+import org.infinispan.Cache;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.wildfly.clustering.cache.infinispan.embedded.EmbeddedCacheConfiguration;
+import org.wildfly.clustering.function.Function;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.server.infinispan.CacheContainerGroup;
+import org.wildfly.clustering.server.infinispan.CacheContainerGroupMember;
+import org.wildfly.clustering.server.infinispan.dispatcher.CacheContainerCommandDispatcherFactory;
+import org.wildfly.clustering.server.scheduler.Scheduler;
+import org.wildfly.clustering.server.scheduler.SchedulerService;
+
+/**
+ * Unit test for {@link PrimaryOwnerSchedulerService}.
+ * @author Paul Ferraro
+ */
+public class PrimaryOwnerSchedulerServiceTestCase {
+
+	private final PrimaryOwnerSchedulerService.Configuration<UUID, Instant, Object, Object> configuration = mock(PrimaryOwnerSchedulerService.Configuration.class);
+	private final SchedulerService<UUID, Instant> scheduler = mock(SchedulerService.class);
+	private final CommandDispatcher<CacheContainerGroupMember, Scheduler<UUID, Instant>> dispatcher = mock(CommandDispatcher.class);
+	private final CacheContainerGroupMember localMember = mock(CacheContainerGroupMember.class);
+	private final CacheContainerGroupMember remoteMember = mock(CacheContainerGroupMember.class);
+
+	public PrimaryOwnerSchedulerServiceTestCase() {
+		EmbeddedCacheConfiguration cacheConfiguration = mock(EmbeddedCacheConfiguration.class);
+		CacheContainerCommandDispatcherFactory dispatcherFactory = mock(CacheContainerCommandDispatcherFactory.class);
+		CacheContainerGroup group = mock(CacheContainerGroup.class);
+		Cache<?, ?> cache = mock(Cache.class);
+		Function<Map.Entry<UUID, Instant>, PrimaryOwnerCommand<UUID, Instant, Void>> scheduleCommandFactory = ScheduleCommand::new;
+
+		doReturn("foo").when(this.configuration).getName();
+		doReturn(this.scheduler).when(this.configuration).getScheduler();
+		doReturn(cacheConfiguration).when(this.configuration).getCacheConfiguration();
+		doReturn(dispatcherFactory).when(this.configuration).getCommandDispatcherFactory();
+		doReturn(Function.of(this.remoteMember)).when(this.configuration).getAffinity();
+		doReturn(scheduleCommandFactory).when(this.configuration).getScheduleCommandFactory();
+		doReturn(this.getClass().getClassLoader()).when(this.configuration).getClassLoader();
+		doReturn(cache).when(cacheConfiguration).getCache();
+		doReturn(RetryConfig.custom().maxAttempts(1).build()).when(cacheConfiguration).getRetryConfig();
+		doReturn(Duration.ZERO).when(cacheConfiguration).getStopTimeout();
+		doReturn(group).when(dispatcherFactory).getGroup();
+		doReturn(this.localMember).when(group).getLocalMember();
+		doReturn(this.dispatcher).when(dispatcherFactory).createCommandDispatcher("foo", this.scheduler, this.getClass().getClassLoader());
+	}
+
+	@Test
+	public void synchronous() throws IOException {
+		doReturn(true).when(this.configuration).isRemoteCancelRequired();
+
+		UUID id = UUID.randomUUID();
+		Instant instant = Instant.now();
+
+		doReturn(CompletableFuture.completedStage(null)).when(this.dispatcher).dispatchToMember(any(), same(this.remoteMember));
+
+		try (SchedulerService<UUID, Instant> scheduler = new PrimaryOwnerSchedulerService<>(this.configuration)) {
+			scheduler.schedule(id, instant);
+			scheduler.cancel(id);
+
+			verify(this.dispatcher).dispatchToMember(isA(ScheduleCommand.class), same(this.remoteMember));
+			verify(this.dispatcher).dispatchToMember(isA(CancelCommand.class), same(this.remoteMember));
+		}
+	}
+
+	@Test
+	public void asynchronous() throws IOException {
+		doReturn(true).when(this.configuration).isAsynchronous();
+		doReturn(false).when(this.configuration).isRemoteCancelRequired();
+
+		UUID id = UUID.randomUUID();
+		Instant instant1 = Instant.now();
+		Instant instant2 = instant1.plusSeconds(1);
+		Instant instant3 = instant2.plusSeconds(1);
+		CompletableFuture<Void> future1 = new CompletableFuture<>();
+		CompletableFuture<Void> future2 = new CompletableFuture<>();
+		ArgumentCaptor<ScheduleCommand<UUID, Instant>> capturedCommands = ArgumentCaptor.forClass(ScheduleCommand.class);
+
+		doReturn(future1, future2).when(this.dispatcher).dispatchToMember(any(), same(this.remoteMember));
+
+		try (SchedulerService<UUID, Instant> scheduler = new PrimaryOwnerSchedulerService<>(this.configuration)) {
+			// Cancellation of remotely owned entry should not be dispatched
+			scheduler.cancel(id);
+
+			verify(this.dispatcher, never()).dispatchToMember(any(), any());
+
+			// Operations should not block
+			scheduler.schedule(id, instant1);
+			scheduler.schedule(id, instant2);
+			scheduler.schedule(id, instant3);
+
+			// Subsequent operations should not be dispatched until the operation in flight completes
+			verify(this.dispatcher).dispatchToMember(capturedCommands.capture(), same(this.remoteMember));
+			assertThat(capturedCommands.getValue().getValue()).isSameAs(instant1);
+
+			future1.complete(null);
+
+			// Only most recent operation should be dispatched
+			verify(this.dispatcher, times(2)).dispatchToMember(capturedCommands.capture(), same(this.remoteMember));
+			assertThat(capturedCommands.getValue().getValue()).isSameAs(instant3);
+
+			future2.complete(null);
+
+			verifyNoMoreInteractions(this.dispatcher);
+		}
+	}
+}
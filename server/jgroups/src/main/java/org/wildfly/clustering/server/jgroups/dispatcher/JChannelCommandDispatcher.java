@@ -7,6 +7,8 @@ package org.wildfly.clustering.server.jgroups.dispatcher;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
@@ -91,6 +93,15 @@ public class JChannelCommandDispatcher<CC, MC> implements CommandDispatcher<Chan
 		 */
 		Duration getCommandExecutionTimeout();
 
+		/**
+		 * Indicates whether dispatched messages may be bundled by the transport.
+		 * By default, dispatched messages are not bundled.
+		 * @return true, if dispatched messages may be bundled, false otherwise.
+		 */
+		default boolean isBundlingEnabled() {
+			return false;
+		}
+
 		/**
 		 * Returns the task to execute on {@link JChannelCommandDispatcher#close}
 		 * @return the task to execute on {@link JChannelCommandDispatcher#close}
@@ -119,7 +130,9 @@ public class JChannelCommandDispatcher<CC, MC> implements CommandDispatcher<Chan
 		this.marshallingContext = configuration.getMarshallingContext();
 		this.group = configuration.getGroup();
 		this.closeTask = configuration.getCloseTask();
-		this.options = new RequestOptions(ResponseMode.GET_ALL, configuration.getCommandExecutionTimeout().toMillis(), false, FILTER, Message.Flag.DONT_BUNDLE, Message.Flag.OOB);
+		// Responses inherit the flags of their request
+		Message.Flag[] flags = configuration.isBundlingEnabled() ? new Message.Flag[] { Message.Flag.OOB } : new Message.Flag[] { Message.Flag.DONT_BUNDLE, Message.Flag.OOB };
+		this.options = new RequestOptions(ResponseMode.GET_ALL, configuration.getCommandExecutionTimeout().toMillis(), false, FILTER, flags);
 	}
 
 	@Override
@@ -148,31 +161,65 @@ public class JChannelCommandDispatcher<CC, MC> implements CommandDispatcher<Chan
 	public <R, E extends Exception> Map<ChannelGroupMember, CompletionStage<R>> dispatchToGroup(Command<R, ? super CC, E> command, Set<ChannelGroupMember> excluding) throws IOException {
 		LOGGER.log(System.Logger.Level.TRACE, "{0} dispatching {1} to group, excluding {2}", this.id, command, excluding);
 		Map<ChannelGroupMember, CompletionStage<R>> results = new ConcurrentHashMap<>();
-		ByteBuffer buffer = this.createBuffer(command);
+		ChannelGroupMember localMember = this.group.getLocalMember();
+		Map<Address, ChannelGroupMember> targets = new HashMap<>();
+		boolean multicast = true;
 		for (ChannelGroupMember member : this.group.getMembership().getMembers()) {
 			if (!excluding.contains(member)) {
-				if (this.group.getLocalMember().equals(member)) {
+				if (localMember.equals(member)) {
 					results.put(member, this.execute(command));
 				} else {
-					Address address = member.getId();
-					try {
-						CompletionStage<R> result = this.send(buffer, address);
-						// Don't chain - we want returned stage to throw a CancellationException when necessary.
-						result.whenComplete(new PruneCancellationTask<>(results, member));
-						results.put(member, result);
-					} catch (IOException e) {
-						// Cancel previously dispatched messages
-						for (CompletionStage<R> result : results.values()) {
-							result.toCompletableFuture().cancel(true);
-						}
-						throw e;
-					}
+					targets.put(member.getId(), member);
 				}
+			} else if (!localMember.equals(member)) {
+				// Explicit exclusion of a remote member requires unicast
+				multicast = false;
+			}
+		}
+		if (targets.isEmpty()) return results;
+		ByteBuffer buffer = this.createBuffer(command);
+		// A single message to the group is cheaper than a message per member, unless there is only a single target
+		if (multicast && (targets.size() > 1)) {
+			ServiceGroupRequest<R, MC> request = this.send(buffer, targets.keySet());
+			for (Map.Entry<Address, ChannelGroupMember> entry : targets.entrySet()) {
+				ChannelGroupMember member = entry.getValue();
+				CompletionStage<R> result = request.getResponse(entry.getKey());
+				results.put(member, result);
+				// Don't chain - we want returned stage to throw a CancellationException when necessary.
+				result.whenComplete(new PruneCancellationTask<>(results, member));
+			}
+			return results;
+		}
+		for (Map.Entry<Address, ChannelGroupMember> entry : targets.entrySet()) {
+			ChannelGroupMember member = entry.getValue();
+			try {
+				CompletionStage<R> result = this.send(buffer, entry.getKey());
+				// Don't chain - we want returned stage to throw a CancellationException when necessary.
+				result.whenComplete(new PruneCancellationTask<>(results, member));
+				results.put(member, result);
+			} catch (IOException e) {
+				// Cancel previously dispatched messages
+				for (CompletionStage<R> result : results.values()) {
+					result.toCompletableFuture().cancel(true);
+				}
+				throw e;
 			}
 		}
 		return results;
 	}
 
+	private <R> ServiceGroupRequest<R, MC> send(ByteBuffer buffer, Collection<Address> addresses) throws IOException {
+		try {
+			// Destination of multicast message is the group, excluding ourselves
+			Message message = this.createMessage(buffer, null).setFlag(Message.TransientFlag.DONT_LOOPBACK);
+			ServiceGroupRequest<R, MC> request = new ServiceGroupRequest<>(this.dispatcher.getCorrelator(), addresses, this.options, this.marshallingContext);
+			request.sendRequest(message);
+			return request;
+		} catch (Exception e) {
+			throw new IOException(e);
+		}
+	}
+
 	private <R> CompletionStage<R> send(ByteBuffer buffer, Address address) throws IOException {
 		try {
 			Message message = this.createMessage(buffer, address);
@@ -0,0 +1,104 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.server.jgroups.dispatcher;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.jgroups.Address;
+import org.jgroups.Message;
+import org.jgroups.SuspectedException;
+import org.jgroups.blocks.GroupRequest;
+import org.jgroups.blocks.RequestCorrelator;
+import org.jgroups.blocks.RequestOptions;
+import org.wildfly.clustering.marshalling.MarshalledValue;
+
+/**
+ * A multicast request whose responses are exposed per recipient.
+ * Like {@link ServiceRequest}, translates a {@link ServiceResponse} response to a {@link CancellationException}.
+ * The response of any recipient that was not received upon completion of this request, e.g. due to a view change or timeout, is cancelled.
+ * @param <T> the request return type
+ * @param <C> the marshalling context type
+ * @author Paul Ferraro
+ */
+public class ServiceGroupRequest<T, C> extends GroupRequest<Object> {
+
+	private final Map<Address, CompletableFuture<T>> responses;
+	private final C context;
+
+	/**
+	 * Creates a multicast service request.
+	 * @param correlator a request correlator
+	 * @param targets the recipient addresses
+	 * @param options the request options
+	 * @param context the marshalling context.
+	 */
+	public ServiceGroupRequest(RequestCorrelator correlator, Collection<Address> targets, RequestOptions options, C context) {
+		super(correlator, targets, options);
+		this.context = context;
+		Map<Address, CompletableFuture<T>> responses = new HashMap<>();
+		for (Address target : targets) {
+			responses.put(target, new CompletableFuture<>());
+		}
+		this.responses = Map.copyOf(responses);
+		this.whenComplete((result, exception) -> {
+			for (CompletableFuture<T> response : this.responses.values()) {
+				response.cancel(true);
+			}
+			this.corrDone();
+		});
+	}
+
+	/**
+	 * Returns the response of the specified recipient.
+	 * @param target a recipient address
+	 * @return the response of the specified recipient.
+	 */
+	public CompletionStage<T> getResponse(Address target) {
+		return this.responses.get(target);
+	}
+
+	@Override
+	public void sendRequest(Message message) throws Exception {
+		super.sendRequest(message);
+		long timeout = super.options.timeout();
+		if (timeout > 0) {
+			// If a message was dropped by a receiver, this would otherwise never complete
+			this.completeOnTimeout(null, timeout, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void receiveResponse(Object value, Address sender, boolean exceptional) {
+		CompletableFuture<T> response = this.responses.get(sender);
+		if ((response != null) && !response.isDone()) {
+			if (exceptional) {
+				if (value instanceof SuspectedException) {
+					response.cancel(true);
+				} else {
+					response.completeExceptionally((Throwable) value);
+				}
+			} else if (value instanceof ServiceResponse) {
+				response.cancel(false);
+			} else {
+				MarshalledValue<T, C> marshalledValue = (MarshalledValue<T, C>) value;
+				try {
+					response.complete(marshalledValue.get(this.context));
+				} catch (IOException e) {
+					response.completeExceptionally(e);
+				}
+			}
+		}
+		super.receiveResponse(value, sender, exceptional);
+	}
+}
@@ -10,7 +10,6 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -30,19 +29,25 @@ public class LocalListenerRegistry<T> implements ListenerRegistry<T> {
 
 	private final Map<T, ExecutorService> listeners = new ConcurrentHashMap<>();
 	private final Duration shutdownTimeout;
-	private final Function<T, ExecutorService> executorFactory = new Function<>() {
-		@Override
-		public ExecutorService apply(T listener) {
-			return new DefaultExecutorService(Executors::newSingleThreadExecutor, Thread.currentThread().getContextClassLoader());
-		}
-	};
+	private final Function<T, ExecutorService> executorFactory;
 
 	/**
-	 * Creates a local listener registrar with the specified shutdown timeout.
+	 * Creates a local listener registrar with the specified shutdown timeout, whose listeners are each notified by a dedicated thread.
 	 * @param shutdownTimeout the duration of time to wait for termination of listener tasks on close.
 	 */
 	public LocalListenerRegistry(Duration shutdownTimeout) {
 		this.shutdownTimeout = shutdownTimeout;
+		this.executorFactory = listener -> DefaultExecutorService.newSerialExecutor(Thread.currentThread().getContextClassLoader());
+	}
+
+	/**
+	 * Creates a local listener registrar with the specified shutdown timeout, whose listeners are notified via serial executors sharing the specified executor.
+	 * @param shutdownTimeout the duration of time to wait for termination of listener tasks on close.
+	 * @param executor a bounded executor shared by the listeners of this registry
+	 */
+	public LocalListenerRegistry(Duration shutdownTimeout, Executor executor) {
+		this.shutdownTimeout = shutdownTimeout;
+		this.executorFactory = listener -> DefaultExecutorService.newSerialExecutor(executor, Thread.currentThread().getContextClassLoader());
 	}
 
 	@Override
@@ -10,7 +10,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.function.Function;
 
 import org.wildfly.clustering.context.DefaultExecutorService;
 import org.wildfly.clustering.server.local.LocalGroup;
@@ -27,13 +27,25 @@ import org.wildfly.clustering.server.provider.ServiceProviderRegistrationListene
 public class DefaultLocalServiceProviderRegistrar<T> implements LocalServiceProviderRegistrar<T> {
 	private final LocalGroup group;
 	private final Set<T> services = ConcurrentHashMap.newKeySet();
+	private final Function<ClassLoader, ExecutorService> executorFactory;
 
 	/**
-	 * Constructs a service provider registrar for the specified local group.
+	 * Constructs a service provider registrar for the specified local group, whose registration listeners are each notified by a dedicated thread.
 	 * @param group a local group
 	 */
 	public DefaultLocalServiceProviderRegistrar(LocalGroup group) {
 		this.group = group;
+		this.executorFactory = DefaultExecutorService::newSerialExecutor;
+	}
+
+	/**
+	 * Constructs a service provider registrar for the specified local group, whose registration listeners are notified via serial executors sharing the specified executor.
+	 * @param group a local group
+	 * @param executor a bounded executor shared by registration listeners
+	 */
+	public DefaultLocalServiceProviderRegistrar(LocalGroup group, Executor executor) {
+		this.group = group;
+		this.executorFactory = loader -> DefaultExecutorService.newSerialExecutor(executor, loader);
 	}
 
 	@Override
@@ -56,7 +68,7 @@ public class DefaultLocalServiceProviderRegistrar<T> implements LocalServiceProv
 		this.services.add(service);
 		Set<LocalGroupMember> members = this.getProviders(service);
 		ClassLoader loader = Thread.currentThread().getContextClassLoader();
-		ExecutorService executor = new DefaultExecutorService(Executors::newSingleThreadExecutor, loader);
+		ExecutorService executor = this.executorFactory.apply(loader);
 		notify(executor, listener, Set.of(), members);
 		return new DefaultServiceProviderRegistration<>(this, service, () -> {
 			this.services.remove(service);
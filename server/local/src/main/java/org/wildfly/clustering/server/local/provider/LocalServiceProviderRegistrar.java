@@ -4,6 +4,8 @@
  */
 package org.wildfly.clustering.server.local.provider;
 
+import java.util.concurrent.Executor;
+
 import org.wildfly.clustering.server.local.LocalGroup;
 import org.wildfly.clustering.server.local.LocalGroupMember;
 import org.wildfly.clustering.server.provider.ServiceProviderRegistrar;
@@ -28,4 +30,15 @@ public interface LocalServiceProviderRegistrar<T> extends ServiceProviderRegistr
 	static <T> LocalServiceProviderRegistrar<T> of(LocalGroup group) {
 		return new DefaultLocalServiceProviderRegistrar<>(group);
 	}
+
+	/**
+	 * Creates a local service provider registrar for the specified group, whose registration listeners share the specified executor.
+	 * @param <T> the service type
+	 * @param group a local group
+	 * @param executor a bounded executor shared by registration listeners
+	 * @return a local service provider registrar for the specified group.
+	 */
+	static <T> LocalServiceProviderRegistrar<T> of(LocalGroup group, Executor executor) {
+		return new DefaultLocalServiceProviderRegistrar<>(group, executor);
+	}
 }
@@ -17,7 +17,8 @@ import java.util.stream.Stream;
  */
 class LinkedScheduledEntries<K, V> implements ScheduledEntries<K, V> {
 	private final ConcurrentDirectDeque<Map.Entry<K, V>> queue = ConcurrentDirectDeque.newInstance();
-	private final Map<K, Object> tokens = new ConcurrentHashMap<>();
+	// Maps each key to its scheduled value and queue token
+	private final Map<K, Map.Entry<V, Object>> tokens = new ConcurrentHashMap<>();
 
 	@Override
 	public boolean isSorted() {
@@ -27,17 +28,25 @@ class LinkedScheduledEntries<K, V> implements ScheduledEntries<K, V> {
 	@Override
 	public void add(K key, V value) {
 		Object token = this.queue.offerLastAndReturnToken(new SimpleImmutableEntry<>(key, value));
-		Object previousToken = this.tokens.put(key, token);
-		if (previousToken != null) {
-			this.queue.removeToken(previousToken);
+		Map.Entry<V, Object> previous = this.tokens.put(key, Map.entry(value, token));
+		if (previous != null) {
+			this.queue.removeToken(previous.getValue());
 		}
 	}
 
 	@Override
 	public void remove(K key) {
-		Object token = this.tokens.remove(key);
-		if (token != null) {
-			this.queue.removeToken(token);
+		Map.Entry<V, Object> entry = this.tokens.remove(key);
+		if (entry != null) {
+			this.queue.removeToken(entry.getValue());
+		}
+	}
+
+	@Override
+	public void remove(K key, V value) {
+		Map.Entry<V, Object> entry = this.tokens.get(key);
+		if ((entry != null) && entry.getKey().equals(value) && this.tokens.remove(key, entry)) {
+			this.queue.removeToken(entry.getValue());
 		}
 	}
 
@@ -59,9 +68,9 @@ class LinkedScheduledEntries<K, V> implements ScheduledEntries<K, V> {
 	@Override
 	public Iterator<Map.Entry<K, V>> iterator() {
 		Iterator<Map.Entry<K, V>> iterator = this.queue.iterator();
-		Map<K, Object> tokens = this.tokens;
+		Map<K, Map.Entry<V, Object>> tokens = this.tokens;
 		return new Iterator<>() {
-			private K current;
+			private Map.Entry<K, V> current;
 
 			@Override
 			public boolean hasNext() {
@@ -71,14 +80,15 @@ class LinkedScheduledEntries<K, V> implements ScheduledEntries<K, V> {
 			@Override
 			public Map.Entry<K, V> next() {
 				Map.Entry<K, V> next = iterator.next();
-				this.current = next.getKey();
+				this.current = next;
 				return next;
 			}
 
 			@Override
 			public void remove() {
 				iterator.remove();
-				tokens.remove(this.current);
+				// Retain entry if it was rescheduled concurrently
+				tokens.computeIfPresent(this.current.getKey(), (key, entry) -> entry.getKey().equals(this.current.getValue()) ? null : entry);
 			}
 		};
 	}
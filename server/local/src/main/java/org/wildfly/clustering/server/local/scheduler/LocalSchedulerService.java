@@ -10,11 +10,17 @@ import java.time.Instant;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.wildfly.clustering.function.Predicate;
@@ -69,6 +75,16 @@ public class LocalSchedulerService<K> extends SimpleService implements Scheduler
 		default Duration getCloseTimeout() {
 			return Duration.ZERO;
 		}
+
+		/**
+		 * Returns the maximum number of scheduled tasks to execute concurrently.
+		 * If greater than 1, due tasks are dispatched by the scheduler thread to a bounded pool of worker threads.
+		 * By default, tasks are executed serially by the scheduler thread.
+		 * @return the maximum number of scheduled tasks to execute concurrently.
+		 */
+		default int getConcurrency() {
+			return 1;
+		}
 	}
 
 	private final String name;
@@ -76,11 +92,18 @@ public class LocalSchedulerService<K> extends SimpleService implements Scheduler
 	private final ScheduledEntries<K, Instant> entries;
 	private final Predicate<K> task;
 	private final Duration closeTimeout;
+	// Bounded pool of workers, if concurrent execution is enabled
+	private final ExecutorService workers;
+	private final Semaphore permits;
+	// Keys whose task was dispatched to a worker, but has not yet completed
+	private final Set<K> dispatched = ConcurrentHashMap.newKeySet();
 
 	// Reference to the scheduled entry and its future
 	private final BlockingReference<Map.Entry<Map.Entry<K, Instant>, Future<?>>> futureEntryReference = BlockingReference.of(null);
 	// Schedules and returns the first entry with its future
 	private final Supplier<Map.Entry<Map.Entry<K, Instant>, Future<?>>> schedule = this::scheduleFirst;
+	// Indicates whether a pass is scheduled, or in progress, for an entry that is due
+	private final Predicate<Map.Entry<Map.Entry<K, Instant>, Future<?>>> pending = entry -> (entry != null) && !entry.getKey().getValue().isAfter(Instant.now());
 
 	/**
 	 * Creates a local scheduler using the specified configuration.
@@ -97,6 +120,16 @@ public class LocalSchedulerService<K> extends SimpleService implements Scheduler
 		this.executor = executor;
 		this.task = configuration.getTask();
 		this.closeTimeout = configuration.getCloseTimeout();
+		int concurrency = Math.max(configuration.getConcurrency(), 1);
+		if (concurrency > 1) {
+			ThreadPoolExecutor workers = new ThreadPoolExecutor(concurrency, concurrency, 1L, TimeUnit.MINUTES, new LinkedBlockingQueue<>(), configuration.getThreadFactory());
+			workers.allowCoreThreadTimeOut(true);
+			this.workers = workers;
+			this.permits = new Semaphore(concurrency);
+		} else {
+			this.workers = null;
+			this.permits = null;
+		}
 	}
 
 	@Override
@@ -148,10 +181,17 @@ public class LocalSchedulerService<K> extends SimpleService implements Scheduler
 	public void close() {
 		LOGGER.log(System.Logger.Level.DEBUG, "Shutting down local {0} scheduler", this.name);
 		this.executor.shutdown();
+		if (this.workers != null) {
+			this.workers.shutdown();
+		}
 		if (!this.closeTimeout.isNegative() && !this.closeTimeout.isZero()) {
 			try {
 				LOGGER.log(System.Logger.Level.DEBUG, "Waiting for local {0} scheduler tasks to complete", this.name);
+				Instant timeout = Instant.now().plus(this.closeTimeout);
 				this.executor.awaitTermination(this.closeTimeout.toMillis(), TimeUnit.MILLISECONDS);
+				if (this.workers != null) {
+					this.workers.awaitTermination(Math.max(Duration.between(Instant.now(), timeout).toMillis(), 0L), TimeUnit.MILLISECONDS);
+				}
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
 			}
@@ -161,26 +201,84 @@ public class LocalSchedulerService<K> extends SimpleService implements Scheduler
 
 	@Override
 	public void run() {
+		long backlog = 0;
+		boolean saturated = false;
 		// Iterate over ScheduledEntries until we encounter a future entry
 		Iterator<Map.Entry<K, Instant>> entries = this.entries.iterator();
 		while (entries.hasNext()) {
 			if (Thread.currentThread().isInterrupted() || this.executor.isShutdown()) return;
 			Map.Entry<K, Instant> entry = entries.next();
+			Instant now = Instant.now();
 			// If this is a future entry, break out of loop
-			if (entry.getValue().isAfter(Instant.now())) break;
+			if (entry.getValue().isAfter(now)) break;
 			K key = entry.getKey();
-			LOGGER.log(System.Logger.Level.DEBUG, "Executing task for {1} on local {0} scheduler", this.name, key);
-			// Remove only if task is successful
-			if (this.task.test(key)) {
-				entries.remove();
+			if (this.workers != null) {
+				// Skip entries whose task is still in progress
+				if (!this.dispatched.contains(key)) {
+					// Stop dispatching while all workers are busy, the next pass is scheduled on completion of a dispatched task
+					if (saturated || !this.permits.tryAcquire()) {
+						saturated = true;
+						backlog += 1;
+						continue;
+					}
+					if (!this.dispatch(entry)) return;
+				}
+			} else {
+				LOGGER.log(System.Logger.Level.DEBUG, "Executing task for {1} on local {0} scheduler", this.name, key);
+				// Remove only if task is successful, and only if not rescheduled in the interim
+				if (this.task.test(key)) {
+					this.entries.remove(key, entry.getValue());
+				} else {
+					backlog += 1;
+				}
+			}
+		}
+		if (backlog > 0) {
+			LOGGER.log(System.Logger.Level.DEBUG, "Local {0} scheduler has {1} overdue entries", this.name, backlog);
+		}
+		if (saturated) {
+			// Nothing to schedule until a worker becomes available
+			this.cancelWhen(Predicate.of(true));
+			// Ensure that a worker that became available in the interim does not go unnoticed
+			if (this.permits.availablePermits() > 0) {
+				this.scheduleIfAbsent();
 			}
+		} else {
+			// Schedule next task
+			this.scheduleWhen(Predicate.of(true));
+		}
+	}
+
+	private boolean dispatch(Map.Entry<K, Instant> entry) {
+		K key = entry.getKey();
+		this.dispatched.add(key);
+		Runnable task = () -> {
+			try {
+				LOGGER.log(System.Logger.Level.DEBUG, "Executing task for {1} on local {0} scheduler", this.name, key);
+				// Remove only if task is successful, and only if not rescheduled in the interim
+				if (this.task.test(key)) {
+					this.entries.remove(key, entry.getValue());
+				}
+			} finally {
+				this.dispatched.remove(key);
+				this.permits.release();
+				// Schedule the next pass, unless one is already pending, e.g. to retry an unsuccessful task, or to dispatch entries skipped while all workers were busy
+				this.scheduleWhen(this.pending.negate());
+			}
+		};
+		try {
+			this.workers.execute(task);
+			return true;
+		} catch (RejectedExecutionException e) {
+			this.dispatched.remove(key);
+			this.permits.release();
+			return false;
 		}
-		// Schedule next task
-		this.scheduleWhen(Predicate.of(true));
 	}
 
 	private Map.Entry<Map.Entry<K, Instant>, Future<?>> scheduleFirst() {
-		Map.Entry<K, Instant> entry = this.entries.peek();
+		// Skip entries whose task is still in progress
+		Map.Entry<K, Instant> entry = (this.workers != null) ? this.entries.stream().filter(Predicate.<K>not(this.dispatched::contains).<Map.Entry<K, Instant>>compose(Map.Entry::getKey)).findFirst().orElse(null) : this.entries.peek();
 		return (entry != null) ? this.scheduleEntry(entry) : null;
 	}
 
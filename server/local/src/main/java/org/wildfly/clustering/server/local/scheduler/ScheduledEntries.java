@@ -4,6 +4,8 @@
  */
 package org.wildfly.clustering.server.local.scheduler;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
@@ -37,6 +39,13 @@ public interface ScheduledEntries<K, V> extends Iterable<Map.Entry<K, V>> {
 	 */
 	void remove(K key);
 
+	/**
+	 * Removes the entry with the specified key, only if it is currently associated with the specified value.
+	 * @param key an entry key
+	 * @param value an entry value
+	 */
+	void remove(K key, V value);
+
 	/**
 	 * Indicates whether specified key exists among the scheduled entries.
 	 * @param key an entry key
@@ -93,4 +102,15 @@ public interface ScheduledEntries<K, V> extends Iterable<Map.Entry<K, V>> {
 	static <K, V extends Comparable<? super V>> ScheduledEntries<K, V> sorted(Comparator<Map.Entry<K, V>> comparator) {
 		return new SortedScheduledEntries<>(comparator);
 	}
+
+	/**
+	 * Creates a timing wheel scheduled entries collection, whose entry values are rounded up to the specified resolution.
+	 * Unlike {@link #sorted()}, adding and removing entries runs in constant time with respect to the number of entries, and in logarithmic time with respect to the number of distinct ticks.
+	 * @param <K> the entry key type
+	 * @param resolution the tick duration of the timing wheel
+	 * @return a timing wheel scheduled entries collection.
+	 */
+	static <K> ScheduledEntries<K, Instant> wheel(Duration resolution) {
+		return new TimingWheelScheduledEntries<>(resolution);
+	}
 }
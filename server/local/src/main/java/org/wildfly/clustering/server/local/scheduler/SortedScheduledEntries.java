@@ -83,6 +83,13 @@ class SortedScheduledEntries<K, V> implements ScheduledEntries<K, V> {
 		}
 	}
 
+	@Override
+	public void remove(K key, V value) {
+		if (this.entries.remove(key, value)) {
+			this.sorted.remove(new Entry<>(key, value));
+		}
+	}
+
 	@Override
 	public boolean contains(K key) {
 		return this.entries.containsKey(key);
@@ -107,7 +114,7 @@ class SortedScheduledEntries<K, V> implements ScheduledEntries<K, V> {
 		Iterator<Map.Entry<K, V>> iterator = this.sorted.iterator();
 		Map<K, V> entries = this.entries;
 		return new Iterator<>() {
-			private K current;
+			private Map.Entry<K, V> current;
 
 			@Override
 			public boolean hasNext() {
@@ -117,14 +124,15 @@ class SortedScheduledEntries<K, V> implements ScheduledEntries<K, V> {
 			@Override
 			public Map.Entry<K, V> next() {
 				Map.Entry<K, V> next = iterator.next();
-				this.current = next.getKey();
+				this.current = next;
 				return next;
 			}
 
 			@Override
 			public void remove() {
 				iterator.remove();
-				entries.remove(this.current);
+				// Retain entry if it was rescheduled concurrently
+				entries.remove(this.current.getKey(), this.current.getValue());
 			}
 		};
 	}
@@ -0,0 +1,224 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.clustering.server.local.scheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.Stream;
+
+/**
+ * {@link ScheduledEntries} implemented as a timing wheel, where entries are hashed into buckets of a fixed resolution, i.e. tick duration, based on the entry value.
+ * The value of an entry is rounded up to the end of its tick, thus all entries within a bucket share the same value, and an entry is never due before its requested value.
+ * Buckets are iterated in chronological order, while entries within a bucket are iterated in insertion order, thus iteration order is sorted with respect to the rounded values.
+ * Both {@link ScheduledEntries#add(Object, Object)} and {@link ScheduledEntries#remove(Object)} run in O(1) time with respect to the number of entries, and in O(log T) time with respect to the number of distinct ticks, which is bounded by the scheduling horizon divided by the resolution.
+ * @author Paul Ferraro
+ */
+class TimingWheelScheduledEntries<K> implements ScheduledEntries<K, Instant> {
+	private final long resolution;
+	private final NavigableMap<Long, Bucket<K>> buckets = new ConcurrentSkipListMap<>();
+	private final Map<K, Instant> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new timing wheel using the specified resolution.
+	 * @param resolution the tick duration of this timing wheel
+	 */
+	TimingWheelScheduledEntries(Duration resolution) {
+		this.resolution = Math.max(resolution.toMillis(), 1L);
+	}
+
+	@Override
+	public boolean isSorted() {
+		return true;
+	}
+
+	@Override
+	public void add(K key, Instant value) {
+		long tick = this.tick(value);
+		Instant deadline = Instant.ofEpochMilli(tick * this.resolution);
+		// Move between buckets atomically with respect to other operations on the same key
+		this.entries.compute(key, (k, previous) -> {
+			// Add to new bucket before removing from previous bucket
+			this.buckets.compute(tick, (t, bucket) -> {
+				// Replace any bucket that was discarded concurrently, rather than retrying
+				if ((bucket != null) && bucket.add(k, deadline)) return bucket;
+				Bucket<K> replacement = new Bucket<>();
+				replacement.add(k, deadline);
+				return replacement;
+			});
+			if ((previous != null) && !previous.equals(deadline)) {
+				this.remove(this.tick(previous), k);
+			}
+			return deadline;
+		});
+	}
+
+	@Override
+	public void remove(K key) {
+		this.entries.computeIfPresent(key, (k, value) -> {
+			this.remove(this.tick(value), k);
+			return null;
+		});
+	}
+
+	@Override
+	public void remove(K key, Instant value) {
+		this.entries.computeIfPresent(key, (k, v) -> {
+			// Retain entry if it was rescheduled concurrently
+			if (!v.equals(value)) return v;
+			this.remove(this.tick(v), k);
+			return null;
+		});
+	}
+
+	@Override
+	public boolean contains(K key) {
+		return this.entries.containsKey(key);
+	}
+
+	@Override
+	public Map.Entry<K, Instant> peek() {
+		Iterator<Map.Entry<K, Instant>> entries = this.iterator();
+		return entries.hasNext() ? entries.next() : null;
+	}
+
+	@Override
+	public Stream<Map.Entry<K, Instant>> stream() {
+		return this.buckets.values().stream().flatMap(Bucket::stream);
+	}
+
+	@Override
+	public Iterator<Map.Entry<K, Instant>> iterator() {
+		NavigableMap<Long, Bucket<K>> wheel = this.buckets;
+		Iterator<Map.Entry<Long, Bucket<K>>> buckets = wheel.entrySet().iterator();
+		return new Iterator<>() {
+			private Iterator<Map.Entry<K, Instant>> entries = Collections.emptyIterator();
+			private Map.Entry<K, Instant> current;
+
+			@Override
+			public boolean hasNext() {
+				while (!this.entries.hasNext()) {
+					if (!buckets.hasNext()) return false;
+					Map.Entry<Long, Bucket<K>> entry = buckets.next();
+					Bucket<K> bucket = entry.getValue();
+					this.entries = bucket.iterator();
+					// Discard any empty bucket left behind by a contended removal
+					if (!this.entries.hasNext() && bucket.discardIfEmpty()) {
+						wheel.remove(entry.getKey(), bucket);
+					}
+				}
+				return true;
+			}
+
+			@Override
+			public Map.Entry<K, Instant> next() {
+				if (!this.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				this.current = this.entries.next();
+				return this.current;
+			}
+
+			@Override
+			public void remove() {
+				if (this.current == null) {
+					throw new IllegalStateException();
+				}
+				K key = this.current.getKey();
+				Instant value = this.current.getValue();
+				long tick = TimingWheelScheduledEntries.this.tick(value);
+				TimingWheelScheduledEntries.this.entries.compute(key, (k, v) -> {
+					// Always drop the iterated bucket entry, unless the entry was concurrently rescheduled into the same bucket
+					if ((v == null) || v.equals(value) || (TimingWheelScheduledEntries.this.tick(v) != tick)) {
+						TimingWheelScheduledEntries.this.remove(tick, k);
+					}
+					// Retain entry if it was rescheduled concurrently
+					return value.equals(v) ? null : v;
+				});
+				this.current = null;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		return this.buckets.values().toString();
+	}
+
+	private long tick(Instant instant) {
+		// Round up to the end of the tick
+		return -Math.floorDiv(-instant.toEpochMilli(), this.resolution);
+	}
+
+	private void remove(long tick, K key) {
+		Bucket<K> bucket = this.buckets.get(tick);
+		if (bucket != null) {
+			bucket.remove(key);
+			// Discard bucket if it is now empty
+			if (bucket.discardIfEmpty()) {
+				this.buckets.remove(tick, bucket);
+			}
+		}
+	}
+
+	/**
+	 * A bucket of entries whose values share the same tick.
+	 * Once discarded, a bucket no longer accepts entries, and is replaced by a new bucket on subsequent additions.
+	 */
+	private static class Bucket<K> {
+		private final ScheduledEntries<K, Instant> entries = new LinkedScheduledEntries<>();
+		private final StampedLock lock = new StampedLock();
+		private boolean discarded;
+
+		boolean add(K key, Instant value) {
+			// Additions are concurrent with each other, but exclusive of discard
+			long stamp = this.lock.readLock();
+			try {
+				if (this.discarded) return false;
+				this.entries.add(key, value);
+				return true;
+			} finally {
+				this.lock.unlockRead(stamp);
+			}
+		}
+
+		void remove(K key) {
+			this.entries.remove(key);
+		}
+
+		boolean discardIfEmpty() {
+			if (this.entries.peek() != null) return false;
+			// Do not block additions to this bucket
+			long stamp = this.lock.tryWriteLock();
+			if (stamp == 0L) return false;
+			try {
+				this.discarded = this.entries.peek() == null;
+				return this.discarded;
+			} finally {
+				this.lock.unlockWrite(stamp);
+			}
+		}
+
+		Stream<Map.Entry<K, Instant>> stream() {
+			return this.entries.stream();
+		}
+
+		Iterator<Map.Entry<K, Instant>> iterator() {
+			return this.entries.iterator();
+		}
+
+		@Override
+		public String toString() {
+			return this.entries.toString();
+		}
+	}
+}
@@ -8,10 +8,16 @@ package org.wildfly.clustering.server.local.provider;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Set;
+import java.util.concurrent.Executor;
+
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.wildfly.clustering.server.local.LocalGroup;
 import org.wildfly.clustering.server.local.LocalGroupMember;
 import org.wildfly.clustering.server.provider.ServiceProviderRegistration;
+import org.wildfly.clustering.server.provider.ServiceProviderRegistrationEvent;
+import org.wildfly.clustering.server.provider.ServiceProviderRegistrationListener;
 
 /**
  * Unit test for {@link LocalServiceProviderRegistrar}.
@@ -64,4 +70,30 @@ public class LocalServiceProviderRegistrarTestCase {
 		assertThat(registrar.getProviders("foo")).isEmpty();
 		assertThat(registrar.getProviders("bar")).isEmpty();
 	}
+
+	@Test
+	public void sharedExecutor() {
+		LocalGroup group = mock(LocalGroup.class);
+		LocalGroupMember localMember = mock(LocalGroupMember.class);
+		Executor executor = mock(Executor.class);
+		ServiceProviderRegistrationListener<LocalGroupMember> listener = mock(ServiceProviderRegistrationListener.class);
+		ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+		ArgumentCaptor<ServiceProviderRegistrationEvent<LocalGroupMember>> event = ArgumentCaptor.forClass(ServiceProviderRegistrationEvent.class);
+
+		doReturn(localMember).when(group).getLocalMember();
+
+		LocalServiceProviderRegistrar<String> registrar = LocalServiceProviderRegistrar.of(group, executor);
+
+		try (ServiceProviderRegistration<String, LocalGroupMember> registration = registrar.register("foo", listener)) {
+			// Listener should be notified via the shared executor
+			verify(executor).execute(task.capture());
+			verifyNoInteractions(listener);
+
+			task.getValue().run();
+
+			verify(listener).providersChanged(event.capture());
+			assertThat(event.getValue().getPreviousProviders()).isEmpty();
+			assertThat(event.getValue().getCurrentProviders()).isEqualTo(Set.of(localMember));
+		}
+	}
 }
@@ -11,8 +11,16 @@ import static org.mockito.Mockito.*;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
@@ -209,6 +217,175 @@ public class LocalSchedulerServiceTestCase {
 		}
 	}
 
+	@Test
+	public void concurrent() throws InterruptedException {
+		int concurrency = 4;
+		List<UUID> keys = IntStream.range(0, concurrency * 2).mapToObj(i -> UUID.randomUUID()).toList();
+		ScheduledEntries<UUID, Instant> entries = ScheduledEntries.sorted();
+		Set<UUID> executed = ConcurrentHashMap.newKeySet();
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		Predicate<UUID> task = key -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			running.decrementAndGet();
+			return executed.add(key);
+		};
+		LocalSchedulerService.Configuration<UUID> configuration = new LocalSchedulerService.Configuration<>() {
+			@Override
+			public String getName() {
+				return "test";
+			}
+
+			@Override
+			public Predicate<UUID> getTask() {
+				return task;
+			}
+
+			@Override
+			public ScheduledEntries<UUID, Instant> getScheduledEntries() {
+				return entries;
+			}
+
+			@Override
+			public ThreadFactory getThreadFactory() {
+				return Thread::new;
+			}
+
+			@Override
+			public int getConcurrency() {
+				return concurrency;
+			}
+		};
+
+		try (LocalSchedulerService<UUID> scheduler = new LocalSchedulerService<>(configuration)) {
+			Instant now = Instant.now();
+			for (UUID key : keys) {
+				scheduler.schedule(key, now);
+			}
+
+			scheduler.start();
+
+			Instant stop = Instant.now().plus(Duration.ofSeconds(5));
+			while ((entries.peek() != null) && Instant.now().isBefore(stop)) {
+				Thread.sleep(10);
+			}
+
+			assertThat(executed).containsExactlyInAnyOrderElementsOf(keys);
+			assertThat(entries).isEmpty();
+			// Verify that tasks executed concurrently, but no more so than configured
+			assertThat(maxRunning.get()).isGreaterThan(1).isLessThanOrEqualTo(concurrency);
+		}
+	}
+
+	@Test
+	public void rescheduleDuringExecution() throws InterruptedException {
+		for (int concurrency : List.of(1, 2)) {
+			UUID key = UUID.randomUUID();
+			ScheduledEntries<UUID, Instant> entries = ScheduledEntries.sorted();
+			AtomicReference<LocalSchedulerService<UUID>> reference = new AtomicReference<>();
+			Instant rescheduled = Instant.now().plus(Duration.ofHours(1));
+			CountDownLatch executed = new CountDownLatch(1);
+			Predicate<UUID> task = id -> {
+				// Simulate a concurrent reschedule, e.g. due to a request for this session
+				reference.get().schedule(id, rescheduled);
+				executed.countDown();
+				return true;
+			};
+
+			try (LocalSchedulerService<UUID> scheduler = new LocalSchedulerService<>(this.createConfiguration(entries, task, concurrency))) {
+				reference.set(scheduler);
+				scheduler.start();
+
+				scheduler.schedule(key, Instant.now());
+
+				assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+				Thread.sleep(100);
+
+				// Rescheduled entry must survive completion of its previous task
+				assertThat(scheduler.contains(key)).isTrue();
+				assertThat(entries.stream().map(Map.Entry::getValue)).containsExactly(rescheduled);
+			}
+		}
+	}
+
+	@Test
+	public void slowTask() throws InterruptedException {
+		UUID slowKey = UUID.randomUUID();
+		List<UUID> keys = IntStream.range(0, 4).mapToObj(i -> UUID.randomUUID()).toList();
+		ScheduledEntries<UUID, Instant> entries = ScheduledEntries.sorted();
+		CountDownLatch release = new CountDownLatch(1);
+		Set<UUID> executed = ConcurrentHashMap.newKeySet();
+		Predicate<UUID> task = key -> {
+			if (key.equals(slowKey)) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return executed.add(key);
+		};
+
+		try (LocalSchedulerService<UUID> scheduler = new LocalSchedulerService<>(this.createConfiguration(entries, task, 2))) {
+			scheduler.start();
+			Instant now = Instant.now();
+			scheduler.schedule(slowKey, now);
+			for (int i = 0; i < keys.size(); ++i) {
+				scheduler.schedule(keys.get(i), now.plus(Duration.ofMillis(50 * (i + 1))));
+			}
+
+			Instant stop = Instant.now().plus(Duration.ofSeconds(5));
+			while (!executed.containsAll(keys) && Instant.now().isBefore(stop)) {
+				Thread.sleep(10);
+			}
+
+			// Subsequent entries must not wait for completion of the slow task
+			assertThat(executed).containsExactlyInAnyOrderElementsOf(keys);
+
+			release.countDown();
+
+			while ((entries.peek() != null) && Instant.now().isBefore(stop)) {
+				Thread.sleep(10);
+			}
+			assertThat(executed).contains(slowKey);
+			assertThat(entries).isEmpty();
+		}
+	}
+
+	private LocalSchedulerService.Configuration<UUID> createConfiguration(ScheduledEntries<UUID, Instant> entries, Predicate<UUID> task, int concurrency) {
+		return new LocalSchedulerService.Configuration<>() {
+			@Override
+			public String getName() {
+				return "test";
+			}
+
+			@Override
+			public Predicate<UUID> getTask() {
+				return task;
+			}
+
+			@Override
+			public ScheduledEntries<UUID, Instant> getScheduledEntries() {
+				return entries;
+			}
+
+			@Override
+			public ThreadFactory getThreadFactory() {
+				return Thread::new;
+			}
+
+			@Override
+			public int getConcurrency() {
+				return concurrency;
+			}
+		};
+	}
+
 	private void waitUntilEmpty(Duration duration) throws InterruptedException {
 		// Wait until empty of timeout has elapsed.
 		Instant stop = Instant.now().plus(duration);
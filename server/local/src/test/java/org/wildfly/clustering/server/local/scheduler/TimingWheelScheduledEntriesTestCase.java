@@ -0,0 +1,125 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.server.local.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for a timing wheel {@link ScheduledEntries} implementation.
+ * @author Paul Ferraro
+ */
+public class TimingWheelScheduledEntriesTestCase extends AbstractScheduledEntriesTestCase {
+
+	private static final Duration RESOLUTION = Duration.ofMillis(100);
+
+	public TimingWheelScheduledEntriesTestCase() {
+		super(ScheduledEntries.wheel(RESOLUTION), list -> {
+			// Values are rounded up to the end of their tick, and entries are sorted by tick, and by insertion order within a tick
+			List<Map.Entry<UUID, Instant>> result = new LinkedList<>();
+			for (Map.Entry<UUID, Instant> entry : list) {
+				result.add(Map.entry(entry.getKey(), deadline(entry.getValue(), RESOLUTION)));
+			}
+			result.sort(Map.Entry.comparingByValue());
+			return result;
+		});
+	}
+
+	private static Instant deadline(Instant instant, Duration resolution) {
+		long millis = resolution.toMillis();
+		return Instant.ofEpochMilli(-Math.floorDiv(-instant.toEpochMilli(), millis) * millis);
+	}
+
+	@Test
+	public void reschedule() {
+		ScheduledEntries<UUID, Instant> entries = ScheduledEntries.wheel(Duration.ofSeconds(1));
+		UUID key = UUID.randomUUID();
+		Instant now = Instant.now();
+		Instant later = now.plus(Duration.ofMinutes(1));
+
+		entries.add(key, now);
+		entries.add(key, later);
+
+		assertThat(entries.contains(key)).isTrue();
+		assertThat(entries).containsExactly(Map.entry(key, deadline(later, Duration.ofSeconds(1))));
+
+		// Entry must not be due before its scheduled time, nor after the end of its tick
+		assertThat(entries.peek().getValue()).isAfterOrEqualTo(later).isBefore(later.plus(Duration.ofSeconds(1)));
+
+		// Conditional removal must not remove a rescheduled entry
+		entries.remove(key, deadline(now, Duration.ofSeconds(1)));
+
+		assertThat(entries.contains(key)).isTrue();
+
+		entries.remove(key);
+
+		assertThat(entries.contains(key)).isFalse();
+		assertThat(entries).isEmpty();
+		assertThat(entries.peek()).isNull();
+	}
+
+	@Test
+	public void concurrent() throws Exception {
+		ScheduledEntries<UUID, Instant> entries = ScheduledEntries.wheel(Duration.ofMillis(1));
+		List<UUID> keys = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+		Instant now = Instant.now();
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = new LinkedList<>();
+			for (int i = 0; i < threads; ++i) {
+				futures.add(executor.submit(() -> {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					for (int j = 0; j < 10000; ++j) {
+						UUID key = keys.get(random.nextInt(keys.size()));
+						switch (random.nextInt(3)) {
+							case 0 -> entries.add(key, now.plusMillis(random.nextInt(100)));
+							case 1 -> entries.remove(key);
+							default -> {
+								// Emulate removal of a due entry by the scheduler
+								Iterator<Map.Entry<UUID, Instant>> iterator = entries.iterator();
+								if (iterator.hasNext()) {
+									iterator.next();
+									iterator.remove();
+								}
+							}
+						}
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		// Each scheduled key must appear exactly once, and unscheduled keys not at all
+		for (UUID key : keys) {
+			assertThat(entries.stream().filter(entry -> entry.getKey().equals(key)).count()).isEqualTo(entries.contains(key) ? 1L : 0L);
+		}
+
+		for (UUID key : keys) {
+			entries.remove(key);
+		}
+
+		assertThat(entries).isEmpty();
+		assertThat(entries.peek()).isNull();
+	}
+}
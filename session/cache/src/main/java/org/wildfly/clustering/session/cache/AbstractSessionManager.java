@@ -45,6 +45,7 @@ public abstract class AbstractSessionManager<CC, MV, AV, SC> implements SessionM
 	private final Supplier<Batch> batchFactory;
 	private final UnaryOperator<Session<SC>> wrapper;
 	private final CacheProperties properties;
+	private final SessionLifecycleCounters counters;
 
 	/**
 	 * Configuration of a session manager.
@@ -80,6 +81,12 @@ public abstract class AbstractSessionManager<CC, MV, AV, SC> implements SessionM
 		 * @return a task to invoke on session close.
 		 */
 		Consumer<ImmutableSession> getSessionCloseTask();
+
+		/**
+		 * Returns the counters of session lifecycle events.
+		 * @return the counters of session lifecycle events.
+		 */
+		SessionLifecycleCounters getSessionLifecycleCounters();
 	}
 
 	/**
@@ -102,6 +109,7 @@ public abstract class AbstractSessionManager<CC, MV, AV, SC> implements SessionM
 			}
 		};
 		this.properties = cacheConfiguration.getCacheProperties();
+		this.counters = configuration.getSessionLifecycleCounters();
 	}
 
 	@Override
@@ -137,7 +145,10 @@ public abstract class AbstractSessionManager<CC, MV, AV, SC> implements SessionM
 	@Override
 	public CompletionStage<Session<SC>> createSessionAsync(String id, Instant creationTime) {
 		this.logger.log(System.Logger.Level.TRACE, "Creating session {0}", id);
-		return this.sessionFactory.createValueAsync(id, Map.entry(creationTime.truncatedTo(ChronoUnit.MILLIS), this.expiration.getMaxIdle())).thenApply(entry -> this.wrapper.apply(this.sessionFactory.createSession(id, entry, this.context)));
+		return this.sessionFactory.createValueAsync(id, Map.entry(creationTime.truncatedTo(ChronoUnit.MILLIS), this.expiration.getMaxIdle())).thenApply(entry -> {
+			this.counters.created();
+			return this.wrapper.apply(this.sessionFactory.createSession(id, entry, this.context));
+		});
 	}
 
 	@Override
@@ -163,6 +174,21 @@ public abstract class AbstractSessionManager<CC, MV, AV, SC> implements SessionM
 		return this.sessionFactory.findValueAsync(id).thenApply(entry -> (entry != null) ? new SimpleImmutableSession(this.sessionFactory.createImmutableSession(id, entry)) : null);
 	}
 
+	@Override
+	public long getCreatedSessionCount() {
+		return this.counters.getCreatedCount();
+	}
+
+	@Override
+	public long getExpiredSessionCount() {
+		return this.counters.getExpiredCount();
+	}
+
+	@Override
+	public long getPassivatedSessionCount() {
+		return this.counters.getPassivatedCount();
+	}
+
 	@Override
 	public SessionStatistics getStatistics() {
 		return this;
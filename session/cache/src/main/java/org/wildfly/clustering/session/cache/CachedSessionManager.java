@@ -5,6 +5,7 @@
 
 package org.wildfly.clustering.session.cache;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +14,7 @@ import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.wildfly.clustering.cache.batch.Batch;
 import org.wildfly.clustering.cache.batch.SuspendedBatch;
@@ -25,6 +27,8 @@ import org.wildfly.clustering.function.Supplier;
 import org.wildfly.clustering.function.UnaryOperator;
 import org.wildfly.clustering.server.cache.Cache;
 import org.wildfly.clustering.server.cache.CacheFactory;
+import org.wildfly.clustering.server.immutable.Immutability;
+import org.wildfly.clustering.server.util.Reference;
 import org.wildfly.clustering.session.Session;
 import org.wildfly.clustering.session.SessionManager;
 import org.wildfly.clustering.session.SessionMetaData;
@@ -43,6 +47,7 @@ public class CachedSessionManager<C> extends DecoratedSessionManager<C> {
 	private final BiFunction<String, Runnable, CompletionStage<CacheableSession<C>>> defaultSessionCreator;
 	private final BiFunction<String, Runnable, CompletionStage<CacheableSession<C>>> sessionFinder;
 	private final UnaryOperator<Session<C>> validator = UnaryOperator.when(Session::isValid, UnaryOperator.identity(), UnaryOperator.of(Session::close, Supplier.of(null)));
+	private final SessionAccessCoalescer<C> coalescer;
 
 	/**
 	 * Creates a cached session manager decorator.
@@ -50,7 +55,20 @@ public class CachedSessionManager<C> extends DecoratedSessionManager<C> {
 	 * @param cacheFactory a cache factory
 	 */
 	public CachedSessionManager(SessionManager<C> manager, CacheFactory cacheFactory) {
+		this(manager, cacheFactory, Duration.ZERO, Immutability.getDefault(), Runnable::run);
+	}
+
+	/**
+	 * Creates a cached session manager decorator whose session references coalesce accesses to the same session within the specified window.
+	 * @param manager a session manager
+	 * @param cacheFactory a cache factory
+	 * @param accessCoalescingWindow the duration within which accesses to the same session via {@link #getSessionReference(String)} are coalesced, or zero, if accesses should not be coalesced
+	 * @param immutability a predicate for determining whether a session attribute is immutable
+	 * @param executor the executor used to flush coalesced session accesses
+	 */
+	public CachedSessionManager(SessionManager<C> manager, CacheFactory cacheFactory, Duration accessCoalescingWindow, Immutability immutability, Executor executor) {
 		super(manager);
+		this.coalescer = !accessCoalescingWindow.isZero() ? new SessionAccessCoalescer<>(this, accessCoalescingWindow, immutability, executor) : null;
 		this.batchFactory = manager.getBatchFactory();
 		this.sessionCreator = manager::createSessionAsync;
 		// If completed exceptionally, return an invalid session that rethrows this exception on Session.close()
@@ -89,9 +107,26 @@ public class CachedSessionManager<C> extends DecoratedSessionManager<C> {
 
 	@Override
 	public CompletionStage<Session<C>> findSessionAsync(String id) {
+		if (this.coalescer != null) {
+			// This access supersedes any coalesced accesses
+			this.coalescer.end(id);
+		}
 		return this.sessionCache.computeIfAbsent(id, this.sessionFinder).thenApply(this.validator);
 	}
 
+	@Override
+	public Reference<Session<C>> getSessionReference(String id) {
+		return (this.coalescer != null) ? this.coalescer.apply(id) : super.getSessionReference(id);
+	}
+
+	@Override
+	public void stop() {
+		if (this.coalescer != null) {
+			this.coalescer.flush();
+		}
+		super.stop();
+	}
+
 	Set<String> keySet() {
 		return this.sessionCache.keySet();
 	}
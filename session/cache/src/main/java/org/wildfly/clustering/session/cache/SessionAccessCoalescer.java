@@ -0,0 +1,419 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.wildfly.clustering.cache.batch.Batch;
+import org.wildfly.clustering.function.Function;
+import org.wildfly.clustering.server.immutable.Immutability;
+import org.wildfly.clustering.server.util.Reference;
+import org.wildfly.clustering.session.ImmutableSession;
+import org.wildfly.clustering.session.Session;
+import org.wildfly.clustering.session.SessionManager;
+import org.wildfly.clustering.session.SessionMetaData;
+
+/**
+ * Creates session references that coalesce accesses to the same session within a given window.
+ * The first access to a session opens a window: it finds the session, updates its last access time, and closes it, as usual.
+ * Consequently, the session cannot expire before the window closes, provided that its maximum idle duration exceeds the window.
+ * Subsequent accesses to the session within the window are served from a shared snapshot of the session.
+ * Between accesses, only the last access time of the session is recorded, i.e. no batch or lock is held.
+ * Once the window elapses, the session is found, its last access time updated from this record, and closed, using the specified executor.
+ * A subsequent access that mutates the session, or that reads a mutable session attribute, finds the session on demand, closing it once the access completes.
+ * Any such access, as well as any other lookup of the session via the session manager (see {@link #end(String)}), ends the window.
+ * Changes to the session made by other members are not visible to subsequent accesses until the current window ends.
+ * @param <C> the session context type
+ * @author Paul Ferraro
+ */
+class SessionAccessCoalescer<C> implements Function<String, Reference<Session<C>>> {
+	private static final System.Logger LOGGER = System.getLogger(SessionAccessCoalescer.class.getName());
+
+	private final SessionManager<C> manager;
+	private final Duration window;
+	private final Immutability immutability;
+	private final Executor flushExecutor;
+	private final Map<String, SessionAccess> accesses = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a session access coalescer.
+	 * @param manager the session manager
+	 * @param window the duration within which accesses to the same session are coalesced
+	 * @param immutability a predicate for determining whether a session attribute is immutable
+	 * @param executor the executor used to flush coalesced accesses
+	 */
+	SessionAccessCoalescer(SessionManager<C> manager, Duration window, Immutability immutability, Executor executor) {
+		this.manager = manager;
+		this.window = window;
+		this.immutability = immutability;
+		this.flushExecutor = CompletableFuture.delayedExecutor(window.toMillis(), TimeUnit.MILLISECONDS, executor);
+	}
+
+	@Override
+	public Reference<Session<C>> apply(String id) {
+		return Reference.of(new CoalescingSessionReferenceReader<>(this, id, Function.identity()));
+	}
+
+	/**
+	 * Ends the current window of coalesced accesses to the specified session, if one exists.
+	 * Invoked whenever the session is found via the session manager, whose access supersedes any coalesced accesses.
+	 * @param id a session identifier
+	 */
+	void end(String id) {
+		SessionAccess access = this.accesses.remove(id);
+		if (access != null) {
+			access.close();
+		}
+	}
+
+	/**
+	 * Flushes the coalesced accesses of all sessions.
+	 */
+	void flush() {
+		for (Map.Entry<String, SessionAccess> entry : Set.copyOf(this.accesses.entrySet())) {
+			this.flush(entry.getKey(), entry.getValue());
+		}
+	}
+
+	private void flush(String id, SessionAccess access) {
+		// Skip if this window was already ended
+		if (this.accesses.remove(id, access)) {
+			Map.Entry<Instant, Instant> lastAccess = access.close();
+			// Skip if no accesses were coalesced
+			if ((lastAccess != null) && access.isAccessed(lastAccess)) {
+				LOGGER.log(System.Logger.Level.TRACE, "Flushing coalesced accesses of session {0}", id);
+				this.touch(id, lastAccess);
+			}
+		}
+	}
+
+	private void touch(String id, Map.Entry<Instant, Instant> lastAccess) {
+		try (Batch batch = this.manager.getBatchFactory().get()) {
+			try (Session<C> session = this.manager.findSession(id)) {
+				if ((session != null) && session.isValid()) {
+					session.getMetaData().setLastAccess(lastAccess);
+				}
+			}
+		} catch (RuntimeException | Error e) {
+			LOGGER.log(System.Logger.Level.WARNING, e.getLocalizedMessage(), e);
+		}
+	}
+
+	<V> void read(String id, java.util.function.Function<Session<C>, V> mapper, Consumer<? super V> reader) {
+		Instant startTime = Instant.now();
+		SessionAccess access = this.accesses.get(id);
+		if (access == null) {
+			this.open(id, startTime, mapper, reader);
+			return;
+		}
+		CoalescedSession<C> session = new CoalescedSession<>(this.manager, access.getSnapshot(), this.immutability);
+		try {
+			reader.accept(mapper.apply(session));
+		} finally {
+			Map.Entry<Instant, Instant> lastAccess = Map.entry(startTime, Instant.now());
+			if (session.isAttached()) {
+				// Our snapshot may now be stale, so end this window
+				this.end(id);
+				session.close(lastAccess);
+			} else if (!access.accessed(lastAccess)) {
+				// Window was ended concurrently, so our access was not recorded
+				this.touch(id, lastAccess);
+			}
+		}
+	}
+
+	private <V> void open(String id, Instant startTime, java.util.function.Function<Session<C>, V> mapper, Consumer<? super V> reader) {
+		Map.Entry<Instant, Instant> lastAccess = null;
+		Optional<Duration> maxIdle = Optional.empty();
+		try (Batch batch = this.manager.getBatchFactory().get()) {
+			try (Session<C> session = this.manager.findSession(id)) {
+				reader.accept(mapper.apply(session));
+				if ((session != null) && session.isValid()) {
+					lastAccess = Map.entry(startTime, Instant.now());
+					session.getMetaData().setLastAccess(lastAccess);
+					maxIdle = session.getMetaData().getMaxIdle();
+				}
+			}
+		}
+		// Only coalesce subsequent accesses if the session cannot expire within the window
+		if ((lastAccess != null) && maxIdle.map(this.window::compareTo).orElse(-1) < 0) {
+			ImmutableSession snapshot = null;
+			try (Batch batch = this.manager.getBatchFactory().get()) {
+				snapshot = this.manager.findImmutableSession(id);
+			}
+			if ((snapshot != null) && snapshot.isValid()) {
+				SessionAccess access = new SessionAccess(snapshot, lastAccess);
+				if (this.accesses.putIfAbsent(id, access) == null) {
+					this.flushExecutor.execute(() -> this.flush(id, access));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Records the last access of a session within a window, along with a snapshot of the session.
+	 */
+	static class SessionAccess {
+		private final ImmutableSession snapshot;
+		private final Map.Entry<Instant, Instant> initialAccess;
+		// Null, once closed
+		private final AtomicReference<Map.Entry<Instant, Instant>> lastAccess;
+
+		SessionAccess(ImmutableSession snapshot, Map.Entry<Instant, Instant> initialAccess) {
+			this.snapshot = snapshot;
+			this.initialAccess = initialAccess;
+			this.lastAccess = new AtomicReference<>(initialAccess);
+		}
+
+		ImmutableSession getSnapshot() {
+			return this.snapshot;
+		}
+
+		/**
+		 * Records the specified access, unless this record was closed.
+		 * @param access the start and end time of an access
+		 * @return true, if the access was recorded, false if this record was already closed.
+		 */
+		boolean accessed(Map.Entry<Instant, Instant> access) {
+			return this.lastAccess.accumulateAndGet(access, (current, next) -> (current != null) ? (next.getValue().isAfter(current.getValue()) ? next : current) : null) != null;
+		}
+
+		/**
+		 * Indicates whether the specified last access includes any access subsequent to the one that opened the window.
+		 * @param lastAccess the last access of this record
+		 * @return true, if the specified last access was recorded after this record was created, false otherwise.
+		 */
+		boolean isAccessed(Map.Entry<Instant, Instant> lastAccess) {
+			return lastAccess != this.initialAccess;
+		}
+
+		/**
+		 * Closes this record, such that no subsequent accesses will be recorded.
+		 * @return the last recorded access, or null, if this record was already closed.
+		 */
+		Map.Entry<Instant, Instant> close() {
+			return this.lastAccess.getAndSet(null);
+		}
+	}
+
+	/**
+	 * A session view that reads from a shared snapshot, and finds the session on demand.
+	 * The session is found upon its first mutation, or upon the first read of a mutable session attribute, since such an attribute may be mutated by the caller.
+	 * Instances are confined to the accessing thread.
+	 * @param <C> the session context type
+	 */
+	static class CoalescedSession<C> implements Session<C> {
+		private final SessionManager<C> manager;
+		private final ImmutableSession snapshot;
+		private final Immutability immutability;
+		private final SessionMetaData metaData = new CoalescedSessionMetaData();
+		private final Map<String, Object> attributes = new CoalescedSessionAttributes();
+		private Batch batch;
+		private Session<C> session;
+
+		CoalescedSession(SessionManager<C> manager, ImmutableSession snapshot, Immutability immutability) {
+			this.manager = manager;
+			this.snapshot = snapshot;
+			this.immutability = immutability;
+		}
+
+		boolean isAttached() {
+			return this.session != null;
+		}
+
+		void close(Map.Entry<Instant, Instant> lastAccess) {
+			try (Batch batch = this.batch) {
+				try (Session<C> session = this.session) {
+					if (session.isValid()) {
+						session.getMetaData().setLastAccess(lastAccess);
+					}
+				}
+			}
+		}
+
+		private ImmutableSession getImmutableSession() {
+			return (this.session != null) ? this.session : this.snapshot;
+		}
+
+		private Session<C> getSession() {
+			if (this.session == null) {
+				Batch batch = this.manager.getBatchFactory().get();
+				try {
+					Session<C> session = this.manager.findSession(this.snapshot.getId());
+					if (session == null) {
+						throw new IllegalStateException(this.snapshot.getId());
+					}
+					this.batch = batch;
+					this.session = session;
+				} catch (RuntimeException | Error e) {
+					batch.discard();
+					batch.close();
+					throw e;
+				}
+			}
+			return this.session;
+		}
+
+		@Override
+		public String getId() {
+			return this.snapshot.getId();
+		}
+
+		@Override
+		public boolean isValid() {
+			return this.getImmutableSession().isValid();
+		}
+
+		@Override
+		public SessionMetaData getMetaData() {
+			return this.metaData;
+		}
+
+		@Override
+		public Map<String, Object> getAttributes() {
+			return this.attributes;
+		}
+
+		@Override
+		public void invalidate() {
+			this.getSession().invalidate();
+		}
+
+		@Override
+		public C getContext() {
+			return this.getSession().getContext();
+		}
+
+		@Override
+		public void close() {
+			// Closed by the coalescer once the access completes
+		}
+
+		private class CoalescedSessionMetaData implements SessionMetaData {
+
+			@Override
+			public Instant getCreationTime() {
+				return CoalescedSession.this.getImmutableSession().getMetaData().getCreationTime();
+			}
+
+			@Override
+			public Optional<Instant> getLastAccessStartTime() {
+				return CoalescedSession.this.getImmutableSession().getMetaData().getLastAccessStartTime();
+			}
+
+			@Override
+			public Optional<Instant> getLastAccessEndTime() {
+				return CoalescedSession.this.getImmutableSession().getMetaData().getLastAccessEndTime();
+			}
+
+			@Override
+			public Optional<Duration> getMaxIdle() {
+				return CoalescedSession.this.getImmutableSession().getMetaData().getMaxIdle();
+			}
+
+			@Override
+			public void setLastAccess(Instant startTime, Instant endTime) {
+				// The last access of this session is recorded by the coalescer
+			}
+
+			@Override
+			public void setMaxIdle(Duration maxIdle) {
+				CoalescedSession.this.getSession().getMetaData().setMaxIdle(maxIdle);
+			}
+		}
+
+		private class CoalescedSessionAttributes extends AbstractMap<String, Object> {
+
+			@Override
+			public Set<Map.Entry<String, Object>> entrySet() {
+				if (!CoalescedSession.this.isAttached()) {
+					Map<String, Object> attributes = CoalescedSession.this.snapshot.getAttributes();
+					if (attributes.values().stream().allMatch(CoalescedSession.this.immutability)) {
+						return attributes.entrySet();
+					}
+				}
+				return CoalescedSession.this.getSession().getAttributes().entrySet();
+			}
+
+			@Override
+			public Object get(Object key) {
+				if (!CoalescedSession.this.isAttached()) {
+					Object value = CoalescedSession.this.snapshot.getAttributes().get(key);
+					if ((value == null) || CoalescedSession.this.immutability.test(value)) {
+						return value;
+					}
+				}
+				// Mutable attributes must be read from the session, so that any mutation is replicated
+				return CoalescedSession.this.getSession().getAttributes().get(key);
+			}
+
+			@Override
+			public boolean containsKey(Object key) {
+				return CoalescedSession.this.getImmutableSession().getAttributes().containsKey(key);
+			}
+
+			@Override
+			public Object put(String key, Object value) {
+				return CoalescedSession.this.getSession().getAttributes().put(key, value);
+			}
+
+			@Override
+			public Object remove(Object key) {
+				return CoalescedSession.this.getSession().getAttributes().remove(key);
+			}
+
+			@Override
+			public void clear() {
+				CoalescedSession.this.getSession().getAttributes().clear();
+			}
+		}
+	}
+
+	/**
+	 * A reader of a session reference that coalesces accesses to the referenced session.
+	 * @param <C> the session context type
+	 * @param <V> the reader type
+	 */
+	static class CoalescingSessionReferenceReader<C, V> implements Reference.Reader<V> {
+		private final SessionAccessCoalescer<C> coalescer;
+		private final String id;
+		private final java.util.function.Function<Session<C>, V> mapper;
+
+		CoalescingSessionReferenceReader(SessionAccessCoalescer<C> coalescer, String id, java.util.function.Function<Session<C>, V> mapper) {
+			this.coalescer = coalescer;
+			this.id = id;
+			this.mapper = mapper;
+		}
+
+		@Override
+		public void read(Consumer<? super V> reader) {
+			this.coalescer.read(this.id, this.mapper, reader);
+		}
+
+		@Override
+		public V get() {
+			AtomicReference<V> result = new AtomicReference<>();
+			this.coalescer.read(this.id, this.mapper, result::set);
+			return result.get();
+		}
+
+		@Override
+		public <R> Reference.Reader<R> map(java.util.function.Function<? super V, ? extends R> mapper) {
+			return new CoalescingSessionReferenceReader<>(this.coalescer, this.id, this.mapper.andThen(mapper));
+		}
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.wildfly.clustering.function.Consumer;
+import org.wildfly.clustering.server.Registration;
+import org.wildfly.clustering.server.listener.ConsumerRegistry;
+import org.wildfly.clustering.session.ImmutableSession;
+import org.wildfly.clustering.session.SessionExpirationListener;
+
+/**
+ * A registry of session expiration listeners, that requires access to the attributes of an expired session only if any of its registered listeners do.
+ * Each expired session is additionally recorded by the session lifecycle counters.
+ * @author Paul Ferraro
+ */
+public class SessionExpirationListenerRegistry implements ConsumerRegistry<ImmutableSession>, SessionExpirationListener {
+
+	private final ConsumerRegistry<ImmutableSession> registry = ConsumerRegistry.newInstance();
+	// Number of registered listeners that access session attributes
+	private final AtomicInteger attributeListeners = new AtomicInteger();
+	private final SessionLifecycleCounters counters;
+
+	/**
+	 * Creates a registry of session expiration listeners.
+	 * @param counters the counters recording the expiration of a session
+	 */
+	public SessionExpirationListenerRegistry(SessionLifecycleCounters counters) {
+		this.counters = counters;
+	}
+
+	@Override
+	public Registration register(Consumer<ImmutableSession> listener) {
+		boolean attributeAccessRequired = SessionExpirationListener.isAttributeAccessRequired(listener);
+		if (attributeAccessRequired) {
+			this.attributeListeners.incrementAndGet();
+		}
+		Registration registration = this.registry.register(listener);
+		return () -> {
+			registration.close();
+			if (attributeAccessRequired) {
+				this.attributeListeners.decrementAndGet();
+			}
+		};
+	}
+
+	@Override
+	public void accept(ImmutableSession session) {
+		this.counters.expired();
+		this.registry.accept(session);
+	}
+
+	@Override
+	public boolean isAttributeAccessRequired() {
+		return this.attributeListeners.get() > 0;
+	}
+}
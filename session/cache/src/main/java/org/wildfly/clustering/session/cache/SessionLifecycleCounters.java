@@ -0,0 +1,64 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts session lifecycle events, i.e. creation, expiration, and passivation, without requiring any scan of the underlying cache.
+ * @author Paul Ferraro
+ */
+public class SessionLifecycleCounters {
+
+	private final LongAdder created = new LongAdder();
+	private final LongAdder expired = new LongAdder();
+	private final LongAdder passivated = new LongAdder();
+
+	/**
+	 * Records the creation of a session.
+	 */
+	public void created() {
+		this.created.increment();
+	}
+
+	/**
+	 * Records the expiration of a session.
+	 */
+	public void expired() {
+		this.expired.increment();
+	}
+
+	/**
+	 * Records the passivation of a session.
+	 */
+	public void passivated() {
+		this.passivated.increment();
+	}
+
+	/**
+	 * Returns the number of sessions created.
+	 * @return the number of sessions created.
+	 */
+	public long getCreatedCount() {
+		return this.created.sum();
+	}
+
+	/**
+	 * Returns the number of sessions expired.
+	 * @return the number of sessions expired.
+	 */
+	public long getExpiredCount() {
+		return this.expired.sum();
+	}
+
+	/**
+	 * Returns the number of sessions passivated.
+	 * @return the number of sessions passivated.
+	 */
+	public long getPassivatedCount() {
+		return this.passivated.sum();
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session.cache.attributes;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * An immutable map of session attributes that are loaded upon first access.
+ * Attributes that are never accessed are never loaded.
+ * @author Paul Ferraro
+ */
+public class DeferredSessionAttributes extends AbstractMap<String, Object> {
+
+	private final Supplier<Map<String, Object>> loader;
+	private volatile Map<String, Object> attributes;
+
+	/**
+	 * Creates a map of session attributes loaded upon first access by the specified loader.
+	 * @param loader a loader of session attributes
+	 */
+	public DeferredSessionAttributes(Supplier<Map<String, Object>> loader) {
+		this.loader = loader;
+	}
+
+	private Map<String, Object> getAttributes() {
+		Map<String, Object> attributes = this.attributes;
+		if (attributes == null) {
+			synchronized (this) {
+				attributes = this.attributes;
+				if (attributes == null) {
+					attributes = Collections.unmodifiableMap(this.loader.get());
+					this.attributes = attributes;
+				}
+			}
+		}
+		return attributes;
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet() {
+		return this.getAttributes().entrySet();
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return this.getAttributes().keySet();
+	}
+
+	@Override
+	public int size() {
+		return this.getAttributes().size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.getAttributes().isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return this.getAttributes().containsKey(key);
+	}
+
+	@Override
+	public Object get(Object key) {
+		return this.getAttributes().get(key);
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session.cache.attributes;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.OptionalLong;
+
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+
+/**
+ * Computes a 64-bit fingerprint of the marshalled form of a session attribute.
+ * The marshalled form is streamed directly into the hash function, i.e. without buffering.
+ * @author Paul Ferraro
+ */
+public class MarshalledSessionAttributeFingerprinter implements SessionAttributeFingerprinter {
+	private static final System.Logger LOGGER = System.getLogger(MarshalledSessionAttributeFingerprinter.class.getName());
+
+	private final ByteBufferMarshaller marshaller;
+
+	/**
+	 * Creates a session attribute fingerprinter using the specified marshaller.
+	 * @param marshaller a session attribute marshaller
+	 */
+	public MarshalledSessionAttributeFingerprinter(ByteBufferMarshaller marshaller) {
+		this.marshaller = marshaller;
+	}
+
+	@Override
+	public OptionalLong fingerprint(Object value) {
+		try (HashOutputStream output = new HashOutputStream()) {
+			this.marshaller.writeTo(output, value);
+			return OptionalLong.of(output.getHash());
+		} catch (IOException | RuntimeException e) {
+			// Attribute will be presumed modified, and will fail to marshal again on replication
+			LOGGER.log(System.Logger.Level.DEBUG, e.getLocalizedMessage(), e);
+			return OptionalLong.empty();
+		}
+	}
+
+	/**
+	 * Computes a 64-bit FNV-1a hash of the bytes written to this stream, strengthened via the MurmurHash3 finalizer.
+	 */
+	static class HashOutputStream extends OutputStream {
+		private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+		private static final long PRIME = 0x100000001b3L;
+
+		private long hash = OFFSET_BASIS;
+		private long size;
+
+		@Override
+		public void write(int value) {
+			this.hash = (this.hash ^ (value & 0xff)) * PRIME;
+			this.size += 1;
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			long hash = this.hash;
+			for (int i = offset; i < offset + length; ++i) {
+				hash = (hash ^ (bytes[i] & 0xff)) * PRIME;
+			}
+			this.hash = hash;
+			this.size += length;
+		}
+
+		long getHash() {
+			long hash = this.hash ^ this.size;
+			hash ^= hash >>> 33;
+			hash *= 0xff51afd7ed558ccdL;
+			hash ^= hash >>> 33;
+			hash *= 0xc4ceb9fe1a85ec53L;
+			hash ^= hash >>> 33;
+			return hash;
+		}
+	}
+}
@@ -5,6 +5,8 @@
 
 package org.wildfly.clustering.session.cache.attributes;
 
+import java.util.function.Predicate;
+
 import org.wildfly.clustering.marshalling.ByteBufferMarshalledValueFactory;
 import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
 import org.wildfly.clustering.marshalling.MarshalledValue;
@@ -17,12 +19,30 @@ import org.wildfly.clustering.session.SessionManagerFactoryConfiguration;
  * @param <V> the attributes value type
  */
 public class MarshalledValueMarshallerSessionAttributesFactoryConfiguration<V> extends AbstractSessionAttributesFactoryConfiguration<V, MarshalledValue<V, ByteBufferMarshaller>> {
+	private final SessionAttributeFingerprinter fingerprinter;
+
 	/**
 	 * Creates a session attributes factory configuration
 	 * @param <SC> a session context type
 	 * @param configuration a session manager factory configuration
 	 */
 	public <SC> MarshalledValueMarshallerSessionAttributesFactoryConfiguration(SessionManagerFactoryConfiguration<SC> configuration) {
-		super(configuration, new MarshalledValueMarshaller<>(new ByteBufferMarshalledValueFactory(configuration.getMarshaller())));
+		this(configuration, null);
+	}
+
+	/**
+	 * Creates a session attributes factory configuration whose marshalled values record whether their attributes are marked by the specified predicate.
+	 * @param <SC> a session context type
+	 * @param configuration a session manager factory configuration
+	 * @param marker a predicate indicating whether the attributes value is marked, e.g. whether it requires activation/passivation notification
+	 */
+	public <SC> MarshalledValueMarshallerSessionAttributesFactoryConfiguration(SessionManagerFactoryConfiguration<SC> configuration, Predicate<Object> marker) {
+		super(configuration, new MarshalledValueMarshaller<>(new ByteBufferMarshalledValueFactory(configuration.getMarshaller(), marker)));
+		this.fingerprinter = configuration.isMutableAttributeFingerprintingEnabled() ? new MarshalledSessionAttributeFingerprinter(configuration.getMarshaller()) : SessionAttributeFingerprinter.NONE;
+	}
+
+	@Override
+	public SessionAttributeFingerprinter getFingerprinter() {
+		return this.fingerprinter;
 	}
 }
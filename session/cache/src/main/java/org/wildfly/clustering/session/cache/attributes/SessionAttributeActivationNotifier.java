@@ -5,6 +5,8 @@
 
 package org.wildfly.clustering.session.cache.attributes;
 
+import org.wildfly.clustering.marshalling.ByteBufferMarshalledValue;
+
 /**
  * A notifier of passivation/activation events.
  * @author Paul Ferraro
@@ -36,4 +38,14 @@ public interface SessionAttributeActivationNotifier {
 	 * @param value an attribute value
 	 */
 	void postActivate(Object value);
+
+	/**
+	 * Indicates whether the specified (possibly marshalled) attribute value may require activation/passivation notification.
+	 * Marshalled values created with a marker record whether their wrapped object requires notification, such that notification of values that do not can be skipped without unmarshalling them.
+	 * @param value a session attribute value, or a map of session attribute values
+	 * @return false, if the specified value is known not to require notification, true otherwise.
+	 */
+	static boolean isNotificationRequired(Object value) {
+		return !(value instanceof ByteBufferMarshalledValue<?> marshalledValue) || marshalledValue.isMarked().orElse(Boolean.TRUE);
+	}
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session.cache.attributes;
+
+import java.util.OptionalLong;
+
+/**
+ * Computes a fingerprint of the marshalled form of a session attribute.
+ * Used to determine whether a mutable session attribute was actually modified by a request that read it, and thus needs to be replicated.
+ * @author Paul Ferraro
+ */
+public interface SessionAttributeFingerprinter {
+	/**
+	 * A fingerprinter that never computes a fingerprint, i.e. every mutable session attribute read is presumed to be modified.
+	 */
+	SessionAttributeFingerprinter NONE = new SessionAttributeFingerprinter() {
+		@Override
+		public OptionalLong fingerprint(Object value) {
+			return OptionalLong.empty();
+		}
+	};
+
+	/**
+	 * Computes a fingerprint of the marshalled form of the specified session attribute value.
+	 * @param value a session attribute value
+	 * @return the fingerprint of the specified value, or empty if no fingerprint could be computed.
+	 */
+	OptionalLong fingerprint(Object value);
+}
@@ -26,4 +26,12 @@ public interface SessionAttributesFactoryConfiguration<V, MV> {
 	 * @return the immutability predicate for the attributes of a session.
 	 */
 	Immutability getImmutability();
+
+	/**
+	 * Returns the fingerprinter used to detect whether a mutable session attribute was modified.
+	 * @return a session attribute fingerprinter
+	 */
+	default SessionAttributeFingerprinter getFingerprinter() {
+		return SessionAttributeFingerprinter.NONE;
+	}
 }
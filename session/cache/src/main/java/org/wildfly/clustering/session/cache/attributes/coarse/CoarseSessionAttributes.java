@@ -5,8 +5,10 @@
 package org.wildfly.clustering.session.cache.attributes.coarse;
 
 import java.io.NotSerializableException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.wildfly.clustering.function.BooleanSupplier;
@@ -18,6 +20,7 @@ import org.wildfly.clustering.function.UnaryOperator;
 import org.wildfly.clustering.server.util.BlockingMapReference;
 import org.wildfly.clustering.session.cache.attributes.AbstractSessionAttributes;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributeActivationNotifier;
+import org.wildfly.clustering.session.cache.attributes.SessionAttributeFingerprinter;
 
 /**
  * Exposes session attributes for a coarse granularity session.
@@ -29,10 +32,12 @@ public class CoarseSessionAttributes extends AbstractSessionAttributes {
 	private final java.util.function.Predicate<Object> marshallable;
 	private final java.util.function.Predicate<Object> mutable;
 	private final SessionAttributeActivationNotifier notifier;
+	private final SessionAttributeFingerprinter fingerprinter;
 	private final BooleanSupplier isDirty;
 	private final Runner setDirty;
-	private final UnaryOperator<Object> setDirtyOnMutableRead;
 	private final UnaryOperator<Object> setDirtyOnRemove;
+	// Fingerprints of mutable attributes, as of their first read; guarded by attributes
+	private final Map<String, Long> fingerprints = new HashMap<>();
 
 	/**
 	 * Creates a coarse-granularity session attributes object.
@@ -43,22 +48,35 @@ public class CoarseSessionAttributes extends AbstractSessionAttributes {
 	 * @param notifier a notifier of session activation/passivation
 	 */
 	public CoarseSessionAttributes(Map<String, Object> attributes, Runnable mutator, java.util.function.Predicate<Object> marshallable, java.util.function.Predicate<Object> immutable, SessionAttributeActivationNotifier notifier) {
-		this(BlockingMapReference.of(attributes), mutator, marshallable, immutable, notifier);
+		this(attributes, mutator, marshallable, immutable, notifier, SessionAttributeFingerprinter.NONE);
+	}
+
+	/**
+	 * Creates a coarse-granularity session attributes object whose mutable attributes only trigger mutation if their fingerprint changed.
+	 * @param attributes a map of session attributes
+	 * @param mutator a mutator for associated cache entry.
+	 * @param marshallable a predicate used to determine whether a given session attribute is marshallable.
+	 * @param immutable a predicate used to determine whether a given session attribute is immutable.
+	 * @param notifier a notifier of session activation/passivation
+	 * @param fingerprinter a fingerprinter of mutable session attributes
+	 */
+	public CoarseSessionAttributes(Map<String, Object> attributes, Runnable mutator, java.util.function.Predicate<Object> marshallable, java.util.function.Predicate<Object> immutable, SessionAttributeActivationNotifier notifier, SessionAttributeFingerprinter fingerprinter) {
+		this(BlockingMapReference.of(attributes), mutator, marshallable, immutable, notifier, fingerprinter);
 		attributes.values().forEach(this.notifier::postActivate);
 	}
 
-	private CoarseSessionAttributes(BlockingMapReference<String, Object> attributes, Runnable mutator, java.util.function.Predicate<Object> marshallable, java.util.function.Predicate<Object> immutable, SessionAttributeActivationNotifier notifier) {
+	private CoarseSessionAttributes(BlockingMapReference<String, Object> attributes, Runnable mutator, java.util.function.Predicate<Object> marshallable, java.util.function.Predicate<Object> immutable, SessionAttributeActivationNotifier notifier, SessionAttributeFingerprinter fingerprinter) {
 		super(attributes);
 		this.attributes = attributes;
 		this.marshallable = marshallable;
 		this.notifier = notifier;
+		this.fingerprinter = fingerprinter;
 		AtomicBoolean dirty = new AtomicBoolean(false);
 		this.mutator = mutator;
 		this.isDirty = dirty::get;
 		this.setDirty = BooleanSupplier.of(true).thenAccept(dirty::set);
 		// Bypass immutability check if session is already dirty
 		this.mutable = Predicate.and(Predicate.and(Objects::nonNull, Predicate.of(Consumer.of(), this.isDirty).negate()), Predicate.not(immutable));
-		this.setDirtyOnMutableRead = UnaryOperator.when(Objects::nonNull, UnaryOperator.identity().thenRun(this.setDirty), UnaryOperator.identity());
 		this.setDirtyOnRemove = UnaryOperator.when(Objects::nonNull, UnaryOperator.of(null).compose(this.setDirty), UnaryOperator.of(null));
 	}
 
@@ -67,7 +85,31 @@ public class CoarseSessionAttributes extends AbstractSessionAttributes {
 		if (!(key instanceof String name)) return null;
 
 		// If the object is mutable, we need to mutate this value on close
-		return this.attributes.getReference(name).getWriter(this.mutable).getAndUpdate(this.setDirtyOnMutableRead);
+		// If the object can be fingerprinted, defer this decision until close
+		return this.attributes.getReference(name).getWriter(this.mutable).getAndUpdate(value -> this.fingerprint(name, value));
+	}
+
+	private Object fingerprint(String name, Object value) {
+		if ((value != null) && !this.fingerprints.containsKey(name)) {
+			OptionalLong fingerprint = this.fingerprinter.fingerprint(value);
+			if (fingerprint.isPresent()) {
+				this.fingerprints.put(name, fingerprint.getAsLong());
+			} else {
+				this.setDirty.run();
+			}
+		}
+		return value;
+	}
+
+	private boolean isModified(Map<String, Object> attributes) {
+		for (Map.Entry<String, Long> entry : this.fingerprints.entrySet()) {
+			Object value = attributes.get(entry.getKey());
+			OptionalLong fingerprint = (value != null) ? this.fingerprinter.fingerprint(value) : OptionalLong.empty();
+			if (fingerprint.isEmpty() || (fingerprint.getAsLong() != entry.getValue().longValue())) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
@@ -93,7 +135,7 @@ public class CoarseSessionAttributes extends AbstractSessionAttributes {
 	public void close() {
 		this.attributes.getReader().read(attributes -> {
 			attributes.values().forEach(this.notifier::prePassivate);
-			if (this.isDirty.getAsBoolean()) {
+			if (this.isDirty.getAsBoolean() || this.isModified(attributes)) {
 				this.mutator.run();
 			}
 		});
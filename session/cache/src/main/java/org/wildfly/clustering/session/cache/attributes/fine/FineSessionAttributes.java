@@ -7,16 +7,20 @@ package org.wildfly.clustering.session.cache.attributes.fine;
 
 import java.io.IOException;
 import java.io.NotSerializableException;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.TreeMap;
 
 import org.wildfly.clustering.cache.CacheEntryMutatorFactory;
 import org.wildfly.clustering.function.Predicate;
+import org.wildfly.clustering.function.Supplier;
 import org.wildfly.clustering.marshalling.Marshaller;
 import org.wildfly.clustering.server.util.BlockingMapReference;
 import org.wildfly.clustering.session.cache.attributes.AbstractSessionAttributes;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributeActivationNotifier;
+import org.wildfly.clustering.session.cache.attributes.SessionAttributeFingerprinter;
 
 /**
  * Exposes session attributes for a fine granularity sessions.
@@ -31,11 +35,16 @@ public class FineSessionAttributes<K, V> extends AbstractSessionAttributes {
 	private final CacheEntryMutatorFactory<K, Map<String, V>> mutatorFactory;
 	private final Predicate<Object> mutable;
 	private final SessionAttributeActivationNotifier notifier;
+	private final Supplier<Collection<Object>> passivatingValues;
+	private final SessionAttributeFingerprinter fingerprinter;
 	// Guarded by attributes
 	private final Map<String, Object> updates = new TreeMap<>();
+	// Fingerprints of mutable attributes, as of their first read; guarded by attributes
+	private final Map<String, Long> fingerprints = new TreeMap<>();
 
 	/**
 	 * Creates a fine-granularity session attributes implementation.
+	 * If the specified attributes are a {@link LazySessionAttributeMap}, only those attribute values actually unmarshalled will be activated or passivated.
 	 * @param key the session attributes cache key
 	 * @param attributes a map of session attributes
 	 * @param mutatorFactory a factory for creating a mutator of the session attributes cache entry
@@ -44,12 +53,34 @@ public class FineSessionAttributes<K, V> extends AbstractSessionAttributes {
 	 * @param notifier a notifier of session attribute activation/passivation
 	 */
 	public FineSessionAttributes(K key, Map<String, Object> attributes, CacheEntryMutatorFactory<K, Map<String, V>> mutatorFactory, Marshaller<Object, V> marshaller, java.util.function.Predicate<Object> immutable, SessionAttributeActivationNotifier notifier) {
-		this(key, BlockingMapReference.of(attributes), mutatorFactory, marshaller, immutable, notifier);
-		attributes.values().forEach(this.notifier::postActivate);
+		this(key, attributes, mutatorFactory, marshaller, immutable, notifier, SessionAttributeFingerprinter.NONE);
 	}
 
-	private FineSessionAttributes(K key, BlockingMapReference<String, Object> attributes, CacheEntryMutatorFactory<K, Map<String, V>> mutatorFactory, Marshaller<Object, V> marshaller, java.util.function.Predicate<Object> immutable, SessionAttributeActivationNotifier notifier) {
+	/**
+	 * Creates a fine-granularity session attributes implementation whose mutable attributes are only updated if their fingerprint changed.
+	 * If the specified attributes are a {@link LazySessionAttributeMap}, only those attribute values actually unmarshalled will be activated or passivated.
+	 * @param key the session attributes cache key
+	 * @param attributes a map of session attributes
+	 * @param mutatorFactory a factory for creating a mutator of the session attributes cache entry
+	 * @param marshaller a marshaller of session attributes
+	 * @param immutable a predicate used to determine whether a given session attribute is immutable
+	 * @param notifier a notifier of session attribute activation/passivation
+	 * @param fingerprinter a fingerprinter of mutable session attributes
+	 */
+	public FineSessionAttributes(K key, Map<String, Object> attributes, CacheEntryMutatorFactory<K, Map<String, V>> mutatorFactory, Marshaller<Object, V> marshaller, java.util.function.Predicate<Object> immutable, SessionAttributeActivationNotifier notifier, SessionAttributeFingerprinter fingerprinter) {
+		this(key, BlockingMapReference.of(attributes), (attributes instanceof LazySessionAttributeMap<?> lazyAttributes) ? lazyAttributes::getMaterializedValues : attributes::values, mutatorFactory, marshaller, immutable, notifier, fingerprinter);
+		if (attributes instanceof LazySessionAttributeMap<?> lazyAttributes) {
+			// Activate attribute values as they are unmarshalled
+			lazyAttributes.setUnmarshalListener(this.notifier::postActivate);
+		} else {
+			attributes.values().forEach(this.notifier::postActivate);
+		}
+	}
+
+	private FineSessionAttributes(K key, BlockingMapReference<String, Object> attributes, Supplier<Collection<Object>> passivatingValues, CacheEntryMutatorFactory<K, Map<String, V>> mutatorFactory, Marshaller<Object, V> marshaller, java.util.function.Predicate<Object> immutable, SessionAttributeActivationNotifier notifier, SessionAttributeFingerprinter fingerprinter) {
 		super(attributes);
+		this.passivatingValues = passivatingValues;
+		this.fingerprinter = fingerprinter;
 		this.key = key;
 		this.attributes = attributes;
 		this.mutatorFactory = mutatorFactory;
@@ -66,6 +97,10 @@ public class FineSessionAttributes<K, V> extends AbstractSessionAttributes {
 		// Bypass immutability check if attribute already updates on close
 		return this.attributes.getReference(name).getWriter(this.mutable).getAndUpdate(value -> {
 			if (value != null) {
+				// Fingerprint value upon first read, so we can determine whether it was actually modified on close
+				if (!this.updates.containsKey(name)) {
+					this.fingerprinter.fingerprint(value).ifPresent(fingerprint -> this.fingerprints.put(name, fingerprint));
+				}
 				this.updates.put(name, value);
 			}
 			return value;
@@ -79,6 +114,7 @@ public class FineSessionAttributes<K, V> extends AbstractSessionAttributes {
 		return this.attributes.getReference(name).getWriter().getAndUpdate(value -> {
 			if (value != null) {
 				this.updates.put(name, null);
+				this.fingerprints.remove(name);
 			}
 			return null;
 		});
@@ -95,6 +131,7 @@ public class FineSessionAttributes<K, V> extends AbstractSessionAttributes {
 		// Always trigger attribute update, even if called with an existing reference
 		return this.attributes.getReference(name).getWriter().getAndSet(() -> {
 			this.updates.put(name, value);
+			this.fingerprints.remove(name);
 			return value;
 		});
 	}
@@ -102,19 +139,31 @@ public class FineSessionAttributes<K, V> extends AbstractSessionAttributes {
 	@Override
 	public void close() {
 		this.attributes.getReader().read(attributes -> {
-			attributes.values().forEach(this.notifier::prePassivate);
+			// Attribute values that were never unmarshalled do not need to be passivated
+			this.passivatingValues.get().forEach(this.notifier::prePassivate);
 			if (!this.updates.isEmpty()) {
 				Map<String, V> updates = new TreeMap<>();
 				for (Map.Entry<String, Object> entry : this.updates.entrySet()) {
 					String name = entry.getKey();
 					Object value = entry.getValue();
-					updates.put(name, (value != null) ? this.write(value) : null);
+					if ((value == null) || this.isModified(name, value)) {
+						updates.put(name, (value != null) ? this.write(value) : null);
+					}
+				}
+				if (!updates.isEmpty()) {
+					this.mutatorFactory.createMutator(this.key, updates).run();
 				}
-				this.mutatorFactory.createMutator(this.key, updates).run();
 			}
 		});
 	}
 
+	private boolean isModified(String name, Object value) {
+		Long fingerprint = this.fingerprints.get(name);
+		if (fingerprint == null) return true;
+		OptionalLong currentFingerprint = this.fingerprinter.fingerprint(value);
+		return currentFingerprint.isEmpty() || (currentFingerprint.getAsLong() != fingerprint.longValue());
+	}
+
 	private V write(Object value) {
 		try {
 			return this.marshaller.write(value);
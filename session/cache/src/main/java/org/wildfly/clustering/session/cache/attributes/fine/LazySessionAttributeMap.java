@@ -0,0 +1,227 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session.cache.attributes.fine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import org.wildfly.clustering.marshalling.Marshaller;
+
+/**
+ * A map of session attributes whose values are unmarshalled lazily, i.e. upon first access.
+ * Attribute values that are never accessed are never unmarshalled.
+ * Structural modifications of this map are not thread-safe, and require external synchronization, but concurrent unmarshalling of a given attribute value is.
+ * @param <V> the marshalled attribute value type
+ * @author Paul Ferraro
+ */
+public class LazySessionAttributeMap<V> extends AbstractMap<String, Object> {
+
+	private final Map<String, Object> attributes = new TreeMap<>();
+	private final Marshaller<Object, V> marshaller;
+	private final Set<Map.Entry<String, Object>> entries = new AbstractSet<>() {
+		@Override
+		public Iterator<Map.Entry<String, Object>> iterator() {
+			Iterator<Map.Entry<String, Object>> entries = LazySessionAttributeMap.this.attributes.entrySet().iterator();
+			return new Iterator<>() {
+				@Override
+				public boolean hasNext() {
+					return entries.hasNext();
+				}
+
+				@Override
+				public Map.Entry<String, Object> next() {
+					Map.Entry<String, Object> entry = entries.next();
+					return new Map.Entry<>() {
+						@Override
+						public String getKey() {
+							return entry.getKey();
+						}
+
+						@Override
+						public Object getValue() {
+							return unmarshal(entry.getValue());
+						}
+
+						@Override
+						public Object setValue(Object value) {
+							return unmarshal(entry.setValue(value));
+						}
+
+						@Override
+						public boolean equals(Object object) {
+							return (object instanceof Map.Entry<?, ?> other) && this.getKey().equals(other.getKey()) && this.getValue().equals(other.getValue());
+						}
+
+						@Override
+						public int hashCode() {
+							return this.getKey().hashCode() ^ this.getValue().hashCode();
+						}
+
+						@Override
+						public String toString() {
+							return this.getKey() + "=" + this.getValue();
+						}
+					};
+				}
+
+				@Override
+				public void remove() {
+					entries.remove();
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return LazySessionAttributeMap.this.attributes.size();
+		}
+	};
+	private volatile Consumer<Object> listener = org.wildfly.clustering.function.Consumer.of();
+
+	/**
+	 * Creates an empty lazy session attribute map.
+	 * @param marshaller a session attribute marshaller
+	 */
+	public LazySessionAttributeMap(Marshaller<Object, V> marshaller) {
+		this.marshaller = marshaller;
+	}
+
+	/**
+	 * Creates a lazy session attribute map from the specified marshalled attributes.
+	 * @param attributes a map of marshalled session attribute values
+	 * @param marshaller a session attribute marshaller
+	 */
+	public LazySessionAttributeMap(Map<String, V> attributes, Marshaller<Object, V> marshaller) {
+		this(marshaller);
+		for (Map.Entry<String, V> entry : attributes.entrySet()) {
+			this.attributes.put(entry.getKey(), new MarshalledAttribute(entry.getKey(), entry.getValue()));
+		}
+	}
+
+	/**
+	 * Registers a listener to be notified of every attribute value unmarshalled by this map, including those already unmarshalled.
+	 * @param listener a consumer of unmarshalled attribute values
+	 */
+	public void setUnmarshalListener(Consumer<Object> listener) {
+		this.listener = listener;
+		for (Object value : this.attributes.values()) {
+			if ((value instanceof LazySessionAttributeMap<?>.MarshalledAttribute attribute) && attribute.isUnmarshalled()) {
+				listener.accept(attribute.get());
+			}
+		}
+	}
+
+	/**
+	 * Returns the attribute values materialized by this map thus far, i.e. excluding any values not yet unmarshalled.
+	 * @return a collection of attribute values.
+	 */
+	public Collection<Object> getMaterializedValues() {
+		List<Object> result = new ArrayList<>(this.attributes.size());
+		for (Object value : this.attributes.values()) {
+			if (value instanceof LazySessionAttributeMap<?>.MarshalledAttribute attribute) {
+				if (attribute.isUnmarshalled()) {
+					result.add(attribute.get());
+				}
+			} else {
+				result.add(value);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public int size() {
+		return this.attributes.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.attributes.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return this.attributes.containsKey(key);
+	}
+
+	@Override
+	public Object get(Object key) {
+		return unmarshal(this.attributes.get(key));
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		return unmarshal(this.attributes.put(key, value));
+	}
+
+	@Override
+	public Object remove(Object key) {
+		return unmarshal(this.attributes.remove(key));
+	}
+
+	@Override
+	public void clear() {
+		this.attributes.clear();
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return this.attributes.keySet();
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet() {
+		return this.entries;
+	}
+
+	private static Object unmarshal(Object value) {
+		return (value instanceof LazySessionAttributeMap<?>.MarshalledAttribute attribute) ? attribute.get() : value;
+	}
+
+	private class MarshalledAttribute {
+		private final String name;
+		private final V value;
+		private volatile Object unmarshalled;
+
+		MarshalledAttribute(String name, V value) {
+			this.name = name;
+			this.value = value;
+		}
+
+		boolean isUnmarshalled() {
+			return this.unmarshalled != null;
+		}
+
+		Object get() {
+			Object result = this.unmarshalled;
+			if (result == null) {
+				synchronized (this) {
+					result = this.unmarshalled;
+					if (result == null) {
+						try {
+							result = LazySessionAttributeMap.this.marshaller.read(this.value);
+						} catch (IOException e) {
+							throw new UncheckedIOException(this.name, e);
+						}
+						this.unmarshalled = result;
+						LazySessionAttributeMap.this.listener.accept(result);
+					}
+				}
+			}
+			return result;
+		}
+	}
+}
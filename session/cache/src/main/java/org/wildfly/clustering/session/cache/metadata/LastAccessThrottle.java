@@ -0,0 +1,119 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session.cache.metadata;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.wildfly.clustering.session.ImmutableSessionMetaData;
+
+/**
+ * Throttles the persistence of session last access times.
+ * A last access time need only be persisted if it drifted from its persisted value by at least a given fraction of the maximum idle duration of its session.
+ * Otherwise, the last access time is retained locally, such that expiration decisions made by this member may consult it.
+ * @author Paul Ferraro
+ */
+public class LastAccessThrottle {
+	private static final int MINIMUM_PURGE_SIZE = 1024;
+
+	private final double threshold;
+	private final Map<String, ImmutableSessionMetaData> unpersisted = new ConcurrentHashMap<>();
+	private volatile int purgeSize = MINIMUM_PURGE_SIZE;
+
+	/**
+	 * Creates a throttle for session last access times.
+	 * @param threshold the fraction of the maximum idle duration of a session below which changes to its last access time are not persisted.  A non-positive value disables throttling.
+	 */
+	public LastAccessThrottle(double threshold) {
+		this.threshold = Math.min(threshold, 1d);
+	}
+
+	/**
+	 * Indicates whether the last access time of the specified session must be persisted.
+	 * If not, the last access time of the specified session is retained locally.
+	 * @param id a session identifier
+	 * @param persisted the persisted metadata of the session
+	 * @param metaData the current metadata of the session
+	 * @return true, if the last access time of the session must be persisted, false otherwise.
+	 */
+	public boolean isPersistRequired(String id, ImmutableSessionMetaData persisted, ImmutableSessionMetaData metaData) {
+		if (this.threshold > 0) {
+			Optional<Instant> persistedLastAccessEndTime = persisted.getLastAccessEndTime();
+			Optional<Instant> lastAccessEndTime = metaData.getLastAccessEndTime();
+			Optional<Duration> maxIdle = metaData.getMaxIdle();
+			// New and immortal sessions are always persisted
+			if (persistedLastAccessEndTime.isPresent() && lastAccessEndTime.isPresent() && maxIdle.isPresent()) {
+				Duration tolerance = Duration.ofMillis((long) (maxIdle.get().toMillis() * this.threshold));
+				if (Duration.between(persistedLastAccessEndTime.get(), lastAccessEndTime.get()).compareTo(tolerance) < 0) {
+					this.unpersisted.put(id, new SimpleImmutableSessionMetaData(metaData));
+					if (this.unpersisted.size() > this.purgeSize) {
+						this.purge();
+					}
+					return false;
+				}
+			}
+			this.unpersisted.remove(id);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns a view of the specified session metadata that reflects any last access time retained locally by this throttle.
+	 * @param id a session identifier
+	 * @param metaData the persisted metadata of a session
+	 * @return a view of the specified session metadata that reflects any unpersisted last access time.
+	 */
+	public ImmutableSessionMetaData apply(String id, ImmutableSessionMetaData metaData) {
+		ImmutableSessionMetaData retained = this.unpersisted.get(id);
+		if (retained == null) return metaData;
+		Optional<Instant> lastAccessStartTime = retained.getLastAccessStartTime();
+		Optional<Instant> lastAccessEndTime = retained.getLastAccessEndTime();
+		Optional<Instant> persistedLastAccessEndTime = metaData.getLastAccessEndTime();
+		// Discard retained last access time if superseded by a persisted last access, e.g. by another member
+		if (persistedLastAccessEndTime.isPresent() && !persistedLastAccessEndTime.get().isBefore(lastAccessEndTime.get())) {
+			this.unpersisted.remove(id, retained);
+			return metaData;
+		}
+		return new AbstractImmutableSessionMetaData() {
+			@Override
+			public Instant getCreationTime() {
+				return metaData.getCreationTime();
+			}
+
+			@Override
+			public Optional<Instant> getLastAccessStartTime() {
+				return lastAccessStartTime;
+			}
+
+			@Override
+			public Optional<Instant> getLastAccessEndTime() {
+				return lastAccessEndTime;
+			}
+
+			@Override
+			public Optional<Duration> getMaxIdle() {
+				return metaData.getMaxIdle();
+			}
+		};
+	}
+
+	/**
+	 * Discards any last access time retained for the specified session.
+	 * @param id a session identifier
+	 */
+	public void remove(String id) {
+		this.unpersisted.remove(id);
+	}
+
+	private void purge() {
+		// Discard retained last access times of sessions that since expired, e.g. that were removed by another member
+		this.unpersisted.values().removeIf(ImmutableSessionMetaData::isExpired);
+		this.purgeSize = Math.max(this.unpersisted.size() * 2, MINIMUM_PURGE_SIZE);
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.wildfly.clustering.cache.batch.Batch;
+import org.wildfly.clustering.function.Supplier;
+import org.wildfly.clustering.server.immutable.Immutability;
+import org.wildfly.clustering.server.util.Reference;
+import org.wildfly.clustering.session.ImmutableSession;
+import org.wildfly.clustering.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.session.Session;
+import org.wildfly.clustering.session.SessionManager;
+import org.wildfly.clustering.session.SessionMetaData;
+
+/**
+ * Unit test for {@link SessionAccessCoalescer}.
+ * @author Paul Ferraro
+ */
+public class SessionAccessCoalescerTestCase {
+	private final SessionManager<Void> manager = mock(SessionManager.class);
+	private final Batch batch = mock(Batch.class);
+	private final ImmutableSession snapshot = mock(ImmutableSession.class);
+	private final ImmutableSessionMetaData snapshotMetaData = mock(ImmutableSessionMetaData.class);
+	private final Session<Void> session = mock(Session.class);
+	private final SessionMetaData metaData = mock(SessionMetaData.class);
+	private final Map<String, Object> attributes = mock(Map.class);
+	private final String id = "foo";
+
+	private SessionAccessCoalescer<Void> createCoalescer(Duration window, Map<String, Object> snapshotAttributes) {
+		doReturn(Supplier.of(this.batch)).when(this.manager).getBatchFactory();
+		doReturn(this.snapshot).when(this.manager).findImmutableSession(this.id);
+		doReturn(this.session).when(this.manager).findSession(this.id);
+		doReturn(this.id).when(this.snapshot).getId();
+		doReturn(true).when(this.snapshot).isValid();
+		doReturn(this.snapshotMetaData).when(this.snapshot).getMetaData();
+		doReturn(snapshotAttributes).when(this.snapshot).getAttributes();
+		doReturn(this.id).when(this.session).getId();
+		doReturn(true).when(this.session).isValid();
+		doReturn(this.metaData).when(this.session).getMetaData();
+		doReturn(this.attributes).when(this.session).getAttributes();
+		doReturn(Optional.of(Duration.ofMinutes(30))).when(this.metaData).getMaxIdle();
+		return new SessionAccessCoalescer<>(this.manager, window, Immutability.getDefault(), Runnable::run);
+	}
+
+	@Test
+	public void coalesce() {
+		SessionAccessCoalescer<Void> coalescer = this.createCoalescer(Duration.ofMinutes(1), Map.of("foo", "bar"));
+		Reference<Session<Void>> reference = coalescer.apply(this.id);
+
+		Consumer<Session<Void>> reader = session -> {
+			assertThat(session.getId()).isSameAs(this.id);
+			assertThat(session.isValid()).isTrue();
+		};
+
+		reference.getReader().read(reader);
+
+		// First access opens window and touches session
+		verify(this.manager).findSession(this.id);
+		verify(this.metaData).setLastAccess(any());
+		verify(this.session).close();
+		verify(this.manager).findImmutableSession(this.id);
+
+		reference.getReader().read(session -> assertThat(session.getAttributes()).containsEntry("foo", "bar"));
+		coalescer.apply(this.id).getReader().read(reader);
+
+		// Accesses within window should share a single snapshot, and should not find the session
+		verify(this.manager).findSession(this.id);
+		verify(this.manager).findImmutableSession(this.id);
+		verifyNoInteractions(this.attributes);
+
+		coalescer.flush();
+
+		ArgumentCaptor<Map.Entry<Instant, Instant>> lastAccess = ArgumentCaptor.forClass(Map.Entry.class);
+		verify(this.manager, times(2)).findSession(this.id);
+		verify(this.metaData, times(2)).setLastAccess(lastAccess.capture());
+		assertThat(lastAccess.getAllValues().get(0).getValue()).isBeforeOrEqualTo(lastAccess.getAllValues().get(1).getKey());
+		assertThat(lastAccess.getAllValues().get(1).getKey()).isBeforeOrEqualTo(lastAccess.getAllValues().get(1).getValue());
+		verify(this.session, times(2)).close();
+
+		// Flush should be idempotent
+		coalescer.flush();
+
+		verify(this.manager, times(2)).findSession(this.id);
+
+		// Access after flush should open a new window
+		reference.getReader().read(reader);
+
+		verify(this.manager, times(3)).findSession(this.id);
+		verify(this.manager, times(2)).findImmutableSession(this.id);
+	}
+
+	@Test
+	public void flushWithoutCoalescedAccess() {
+		SessionAccessCoalescer<Void> coalescer = this.createCoalescer(Duration.ofMinutes(1), Map.of());
+
+		coalescer.apply(this.id).getReader().read(session -> assertThat(session.getId()).isSameAs(this.id));
+
+		coalescer.flush();
+
+		// Nothing to flush, since the only access was not coalesced
+		verify(this.manager).findSession(this.id);
+		verify(this.metaData).setLastAccess(any());
+	}
+
+	@Test
+	public void window() {
+		SessionAccessCoalescer<Void> coalescer = this.createCoalescer(Duration.ofMillis(10), Map.of());
+		Reference<Session<Void>> reference = coalescer.apply(this.id);
+
+		reference.getReader().read(session -> assertThat(session.getId()).isSameAs(this.id));
+		reference.getReader().read(session -> assertThat(session.getId()).isSameAs(this.id));
+
+		verify(this.metaData, timeout(1000).times(2)).setLastAccess(any());
+		verify(this.session, timeout(1000).times(2)).close();
+	}
+
+	@Test
+	public void readMutableAttribute() {
+		List<Object> value = new ArrayList<>();
+		SessionAccessCoalescer<Void> coalescer = this.createCoalescer(Duration.ofMinutes(1), Map.of("foo", "bar", "list", value));
+		Reference<Session<Void>> reference = coalescer.apply(this.id);
+		List<Object> expected = new ArrayList<>();
+
+		doReturn(expected).when(this.attributes).get("list");
+
+		reference.getReader().read(session -> assertThat(session.getId()).isSameAs(this.id));
+
+		reference.getReader().read(session -> {
+			// Immutable attribute should be read from snapshot
+			assertThat(session.getAttributes().get("foo")).isEqualTo("bar");
+			verify(this.manager).findSession(this.id);
+
+			// Mutable attribute must be read from session
+			assertThat(session.getAttributes().get("list")).isSameAs(expected);
+			verify(this.manager, times(2)).findSession(this.id);
+		});
+
+		verify(this.metaData, times(2)).setLastAccess(any());
+		verify(this.session, times(2)).close();
+		verify(this.batch, times(3)).close();
+
+		// Finding the session should have ended the window
+		coalescer.flush();
+
+		verify(this.manager, times(2)).findSession(this.id);
+	}
+
+	@Test
+	public void mutate() {
+		SessionAccessCoalescer<Void> coalescer = this.createCoalescer(Duration.ofMinutes(1), Map.of("foo", "bar"));
+		Reference<Session<Void>> reference = coalescer.apply(this.id);
+
+		doReturn("bar").when(this.attributes).put("foo", "baz");
+		doReturn(true).when(this.attributes).containsKey("foo");
+
+		reference.getReader().read(session -> assertThat(session.getId()).isSameAs(this.id));
+
+		reference.getReader().read(session -> {
+			assertThat(session.getAttributes().put("foo", "baz")).isEqualTo("bar");
+			// Subsequent reads should be served by the session
+			assertThat(session.getAttributes().containsKey("foo")).isTrue();
+			verify(this.attributes).containsKey("foo");
+		});
+
+		verify(this.manager, times(2)).findSession(this.id);
+		verify(this.metaData, times(2)).setLastAccess(any());
+		verify(this.session, times(2)).close();
+
+		// Mutation should have ended the window
+		coalescer.flush();
+
+		verify(this.manager, times(2)).findSession(this.id);
+
+		reference.getReader().read(session -> assertThat(session.getId()).isSameAs(this.id));
+
+		verify(this.manager, times(3)).findSession(this.id);
+	}
+
+	@Test
+	public void end() {
+		SessionAccessCoalescer<Void> coalescer = this.createCoalescer(Duration.ofMinutes(1), Map.of());
+		Reference<Session<Void>> reference = coalescer.apply(this.id);
+
+		reference.getReader().read(session -> assertThat(session.getId()).isSameAs(this.id));
+
+		// Window ended while access is in progress
+		reference.getReader().read(session -> coalescer.end(this.id));
+
+		// Access should not be lost
+		verify(this.manager, times(2)).findSession(this.id);
+		verify(this.metaData, times(2)).setLastAccess(any());
+
+		coalescer.flush();
+
+		verify(this.manager, times(2)).findSession(this.id);
+
+		reference.getReader().read(session -> assertThat(session.getId()).isSameAs(this.id));
+
+		// Window was ended, so access should open a new window
+		verify(this.manager, times(3)).findSession(this.id);
+	}
+
+	@Test
+	public void shortMaxIdle() {
+		SessionAccessCoalescer<Void> coalescer = this.createCoalescer(Duration.ofMinutes(1), Map.of());
+		Reference<Session<Void>> reference = coalescer.apply(this.id);
+
+		doReturn(Optional.of(Duration.ofSeconds(30))).when(this.metaData).getMaxIdle();
+
+		reference.getReader().read(session -> assertThat(session.getId()).isSameAs(this.id));
+		reference.getReader().read(session -> assertThat(session.getId()).isSameAs(this.id));
+
+		// Session could expire within window, so accesses should not be coalesced
+		verify(this.manager, times(2)).findSession(this.id);
+		verify(this.manager, never()).findImmutableSession(this.id);
+	}
+
+	@Test
+	public void missing() {
+		SessionAccessCoalescer<Void> coalescer = this.createCoalescer(Duration.ofMinutes(1), Map.of());
+		Consumer<Session<Void>> reader = mock(Consumer.class);
+
+		doReturn(null).when(this.manager).findSession(this.id);
+
+		coalescer.apply(this.id).getReader().read(reader);
+
+		verify(reader).accept(null);
+		verify(this.batch).close();
+		verify(this.manager, never()).findImmutableSession(this.id);
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session.cache.attributes;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+
+/**
+ * Unit test for {@link MarshalledSessionAttributeFingerprinter}.
+ * @author Paul Ferraro
+ */
+public class MarshalledSessionAttributeFingerprinterTestCase {
+
+	private final ByteBufferMarshaller marshaller = mock(ByteBufferMarshaller.class);
+	private final SessionAttributeFingerprinter fingerprinter = new MarshalledSessionAttributeFingerprinter(this.marshaller);
+
+	@Test
+	public void test() throws IOException {
+		doAnswer(invocation -> {
+			OutputStream output = invocation.getArgument(0);
+			output.write(invocation.getArgument(1, String.class).getBytes(StandardCharsets.UTF_8));
+			return null;
+		}).when(this.marshaller).writeTo(any(), any(String.class));
+
+		OptionalLong foo = this.fingerprinter.fingerprint("foo");
+		OptionalLong bar = this.fingerprinter.fingerprint("bar");
+
+		assertThat(foo).isPresent();
+		assertThat(bar).isPresent();
+		assertThat(this.fingerprinter.fingerprint("foo")).isEqualTo(foo);
+		assertThat(bar).isNotEqualTo(foo);
+		// Verify trailing zeros affect fingerprint
+		assertThat(this.fingerprinter.fingerprint("foo\0")).isNotEqualTo(foo);
+	}
+
+	@Test
+	public void failure() throws IOException {
+		Object value = new Object();
+
+		doThrow(IOException.class).when(this.marshaller).writeTo(any(), same(value));
+
+		assertThat(this.fingerprinter.fingerprint(value)).isEmpty();
+	}
+}
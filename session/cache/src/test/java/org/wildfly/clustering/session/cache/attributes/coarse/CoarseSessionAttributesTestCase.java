@@ -9,12 +9,14 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.TreeMap;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.wildfly.clustering.function.Predicate;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributeActivationNotifier;
+import org.wildfly.clustering.session.cache.attributes.SessionAttributeFingerprinter;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributes;
 
 /**
@@ -236,6 +238,53 @@ public class CoarseSessionAttributesTestCase {
 		verifyNoMoreInteractions(notifier);
 	}
 
+	@Test
+	public void getUnmodifiedFingerprintedAttribute() {
+		this.getFingerprintedAttribute(OptionalLong.of(1L), false);
+	}
+
+	@Test
+	public void getModifiedFingerprintedAttribute() {
+		this.getFingerprintedAttribute(OptionalLong.of(2L), true);
+	}
+
+	@Test
+	public void getUnfingerprintableAttribute() {
+		this.getFingerprintedAttribute(OptionalLong.empty(), true);
+	}
+
+	private void getFingerprintedAttribute(OptionalLong fingerprint, boolean dirty) {
+		UUID exists = UUID.randomUUID();
+		Map<String, Object> map = new TreeMap<>(Map.of("exists", exists));
+		Runnable mutator = mock(Runnable.class);
+		Predicate<Object> marshallable = mock(Predicate.class);
+		Predicate<Object> immutable = mock(Predicate.class);
+		SessionAttributeActivationNotifier notifier = mock(SessionAttributeActivationNotifier.class);
+		SessionAttributeFingerprinter fingerprinter = mock(SessionAttributeFingerprinter.class);
+
+		try (SessionAttributes attributes = new CoarseSessionAttributes(map, mutator, marshallable, immutable, notifier, fingerprinter)) {
+
+			verifyNoInteractions(mutator);
+			verifyNoInteractions(fingerprinter);
+
+			doReturn(false).when(immutable).test(exists);
+			doReturn(OptionalLong.of(1L), fingerprint).when(fingerprinter).fingerprint(exists);
+
+			assertThat(attributes.get("exists")).isSameAs(exists);
+			assertThat(attributes.get("exists")).isSameAs(exists);
+
+			// Verify attribute is only fingerprinted on first read
+			verify(fingerprinter).fingerprint(exists);
+			verifyNoInteractions(mutator);
+		}
+
+		// Session should only be dirty if fingerprint changed
+		verify(fingerprinter, times(2)).fingerprint(exists);
+		verify(mutator, times(dirty ? 1 : 0)).run();
+		verifyNoMoreInteractions(mutator);
+		verifyNoInteractions(marshallable);
+	}
+
 	@Test
 	public void getImmutableAttribute() {
 		UUID exists = UUID.randomUUID();
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.TreeMap;
 import java.util.UUID;
 
@@ -21,6 +22,7 @@ import org.wildfly.clustering.cache.CacheEntryMutatorFactory;
 import org.wildfly.clustering.marshalling.Marshaller;
 import org.wildfly.clustering.server.immutable.Immutability;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributeActivationNotifier;
+import org.wildfly.clustering.session.cache.attributes.SessionAttributeFingerprinter;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributes;
 
 /**
@@ -33,6 +35,7 @@ public class FineSessionAttributesTestCase {
 	private final Marshaller<Object, Object> marshaller = mock(Marshaller.class);
 	private final Immutability immutability = mock(Immutability.class);
 	private final SessionAttributeActivationNotifier notifier = mock(SessionAttributeActivationNotifier.class);
+	private final SessionAttributeFingerprinter fingerprinter = mock(SessionAttributeFingerprinter.class);
 
 	private SessionAttributes createSessionAttributes(String id, Map<String, Object> map) {
 		SessionAttributes attribute = new FineSessionAttributes<>(id, new TreeMap<>(map), this.mutatorFactory, this.marshaller, this.immutability, this.notifier);
@@ -47,7 +50,7 @@ public class FineSessionAttributesTestCase {
 
 	@AfterEach
 	public void resetMocks() {
-		reset(this.mutatorFactory, this.marshaller, this.immutability, this.notifier);
+		reset(this.mutatorFactory, this.marshaller, this.immutability, this.notifier, this.fingerprinter);
 	}
 
 	@Test
@@ -122,6 +125,50 @@ public class FineSessionAttributesTestCase {
 		assertThat(updates.get("mutable")).isSameAs(marshalledMutable);
 	}
 
+	@Test
+	public void getFingerprintedAttribute() throws IOException {
+		UUID unmodified = UUID.randomUUID();
+		UUID modified = UUID.randomUUID();
+		Map<String, Object> map = Map.of("unmodified", unmodified, "modified", modified);
+
+		doReturn(false).when(this.immutability).test(any());
+		doReturn(OptionalLong.of(1L)).when(this.fingerprinter).fingerprint(unmodified);
+		doReturn(OptionalLong.of(1L), OptionalLong.of(2L)).when(this.fingerprinter).fingerprint(modified);
+
+		UUID marshalledModified = UUID.randomUUID();
+		ArgumentCaptor<Map<String, Object>> capturedUpdates = ArgumentCaptor.captor();
+		CacheEntryMutator mutator = mock(CacheEntryMutator.class);
+		try (SessionAttributes attributes = new FineSessionAttributes<>("id", new TreeMap<>(map), this.mutatorFactory, this.marshaller, this.immutability, this.notifier, this.fingerprinter)) {
+			doReturn(marshalledModified).when(this.marshaller).write(modified);
+			doReturn(mutator).when(this.mutatorFactory).createMutator(eq("id"), capturedUpdates.capture());
+
+			assertThat(attributes.get("unmodified")).isSameAs(unmodified);
+			assertThat(attributes.get("unmodified")).isSameAs(unmodified);
+			assertThat(attributes.get("modified")).isSameAs(modified);
+
+			// Verify attributes are only fingerprinted on first read
+			verify(this.fingerprinter).fingerprint(unmodified);
+			verify(this.fingerprinter).fingerprint(modified);
+		}
+
+		verify(mutator).run();
+
+		// Only modified attributes should have been updated
+		Map<String, Object> updates = capturedUpdates.getValue();
+		assertThat(updates.keySet()).containsExactly("modified");
+		assertThat(updates.get("modified")).isSameAs(marshalledModified);
+		verify(this.marshaller, never()).write(unmodified);
+
+		reset(this.mutatorFactory);
+
+		// Verify no write if no attributes were modified
+		try (SessionAttributes attributes = new FineSessionAttributes<>("id", new TreeMap<>(map), this.mutatorFactory, this.marshaller, this.immutability, this.notifier, this.fingerprinter)) {
+			assertThat(attributes.get("unmodified")).isSameAs(unmodified);
+		}
+
+		verifyNoInteractions(this.mutatorFactory);
+	}
+
 	@Test
 	public void removeAttribute() {
 		UUID foo = UUID.randomUUID();
@@ -0,0 +1,108 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session.cache.attributes.fine;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.wildfly.clustering.marshalling.Marshaller;
+
+/**
+ * Unit test for {@link LazySessionAttributeMap}.
+ * @author Paul Ferraro
+ */
+public class LazySessionAttributeMapTestCase {
+
+	private final Marshaller<Object, Object> marshaller = mock(Marshaller.class);
+
+	@Test
+	public void lazy() throws IOException {
+		Object marshalledFoo = new Object();
+		Object marshalledBar = new Object();
+		UUID foo = UUID.randomUUID();
+		UUID bar = UUID.randomUUID();
+		Consumer<Object> listener = mock(Consumer.class);
+
+		doReturn(foo).when(this.marshaller).read(marshalledFoo);
+		doReturn(bar).when(this.marshaller).read(marshalledBar);
+
+		LazySessionAttributeMap<Object> map = new LazySessionAttributeMap<>(Map.of("foo", marshalledFoo, "bar", marshalledBar), this.marshaller);
+		map.setUnmarshalListener(listener);
+
+		// Structural queries must not unmarshal
+		assertThat(map).hasSize(2);
+		assertThat(map.keySet()).containsExactly("bar", "foo");
+		assertThat(map.containsKey("foo")).isTrue();
+		assertThat(map.getMaterializedValues()).isEmpty();
+
+		verifyNoInteractions(this.marshaller);
+		verifyNoInteractions(listener);
+
+		assertThat(map.get("foo")).isSameAs(foo);
+		assertThat(map.get("foo")).isSameAs(foo);
+
+		verify(this.marshaller).read(marshalledFoo);
+		verify(listener).accept(foo);
+		verifyNoMoreInteractions(this.marshaller);
+		verifyNoMoreInteractions(listener);
+
+		assertThat(map.getMaterializedValues()).containsExactly(foo);
+
+		UUID baz = UUID.randomUUID();
+		assertThat(map.put("baz", baz)).isNull();
+		assertThat(map.getMaterializedValues()).containsExactlyInAnyOrder(foo, baz);
+
+		// Unmarshals remaining values
+		assertThat(map).containsOnly(entry("foo", foo), entry("bar", bar), entry("baz", baz));
+
+		verify(this.marshaller).read(marshalledBar);
+		verify(listener).accept(bar);
+		verifyNoMoreInteractions(this.marshaller);
+		verifyNoMoreInteractions(listener);
+
+		assertThat(map.remove("bar")).isSameAs(bar);
+		assertThat(map.getMaterializedValues()).containsExactlyInAnyOrder(foo, baz);
+	}
+
+	@Test
+	public void listener() throws IOException {
+		Object marshalled = new Object();
+		UUID value = UUID.randomUUID();
+		Consumer<Object> listener = mock(Consumer.class);
+
+		doReturn(value).when(this.marshaller).read(marshalled);
+
+		LazySessionAttributeMap<Object> map = new LazySessionAttributeMap<>(Map.of("foo", marshalled), this.marshaller);
+
+		assertThat(map.get("foo")).isSameAs(value);
+
+		// Listener should be notified of previously unmarshalled values
+		map.setUnmarshalListener(listener);
+
+		verify(listener).accept(value);
+		verifyNoMoreInteractions(listener);
+	}
+
+	@Test
+	public void failure() throws IOException {
+		Object marshalled = new Object();
+		IOException exception = new IOException();
+
+		doThrow(exception).when(this.marshaller).read(marshalled);
+
+		LazySessionAttributeMap<Object> map = new LazySessionAttributeMap<>(Map.of("foo", marshalled), this.marshaller);
+
+		assertThat(map.keySet()).containsExactly("foo");
+		assertThatThrownBy(() -> map.get("foo")).isInstanceOf(UncheckedIOException.class).hasCause(exception);
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session.cache.metadata;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.wildfly.clustering.session.ImmutableSessionMetaData;
+
+/**
+ * Unit test for {@link LastAccessThrottle}.
+ * @author Paul Ferraro
+ */
+public class LastAccessThrottleTestCase {
+
+	private final Instant creationTime = Instant.now().minus(Duration.ofMinutes(5));
+	private final Duration maxIdle = Duration.ofMinutes(10);
+
+	@Test
+	public void disabled() {
+		LastAccessThrottle throttle = new LastAccessThrottle(0);
+		ImmutableSessionMetaData persisted = this.createMetaData(Duration.ofMinutes(1));
+		ImmutableSessionMetaData metaData = this.createMetaData(Duration.ofMinutes(1).plusSeconds(1));
+
+		assertThat(throttle.isPersistRequired("foo", persisted, metaData)).isTrue();
+		assertThat(throttle.apply("foo", persisted)).isSameAs(persisted);
+	}
+
+	@Test
+	public void enabled() {
+		LastAccessThrottle throttle = new LastAccessThrottle(0.1);
+		ImmutableSessionMetaData persisted = this.createMetaData(Duration.ofMinutes(1));
+		ImmutableSessionMetaData metaData = this.createMetaData(Duration.ofMinutes(1).plusSeconds(30));
+
+		// New sessions are always persisted
+		assertThat(throttle.isPersistRequired("foo", this.createMetaData(null), metaData)).isTrue();
+
+		// Drift within threshold should not be persisted, but retained locally
+		assertThat(throttle.isPersistRequired("foo", persisted, metaData)).isFalse();
+
+		ImmutableSessionMetaData result = throttle.apply("foo", persisted);
+		assertThat(result.getCreationTime()).isEqualTo(this.creationTime);
+		assertThat(result.getMaxIdle()).contains(this.maxIdle);
+		assertThat(result.getLastAccessStartTime()).isEqualTo(metaData.getLastAccessStartTime());
+		assertThat(result.getLastAccessEndTime()).isEqualTo(metaData.getLastAccessEndTime());
+
+		// Unrelated sessions are unaffected
+		assertThat(throttle.apply("bar", persisted)).isSameAs(persisted);
+
+		// Drift beyond threshold must be persisted, discarding retained last access
+		assertThat(throttle.isPersistRequired("foo", persisted, this.createMetaData(Duration.ofMinutes(2)))).isTrue();
+		assertThat(throttle.apply("foo", persisted)).isSameAs(persisted);
+
+		// Retained last access superseded by a more recent persisted last access is discarded
+		assertThat(throttle.isPersistRequired("foo", persisted, metaData)).isFalse();
+		ImmutableSessionMetaData updated = this.createMetaData(Duration.ofMinutes(3));
+		assertThat(throttle.apply("foo", updated)).isSameAs(updated);
+		assertThat(throttle.apply("foo", persisted)).isSameAs(persisted);
+
+		// Removal discards retained last access
+		assertThat(throttle.isPersistRequired("foo", persisted, metaData)).isFalse();
+		throttle.remove("foo");
+		assertThat(throttle.apply("foo", persisted)).isSameAs(persisted);
+	}
+
+	private ImmutableSessionMetaData createMetaData(Duration sinceCreation) {
+		ImmutableSessionMetaData metaData = mock(ImmutableSessionMetaData.class);
+		Optional<Instant> lastAccessStartTime = Optional.ofNullable(sinceCreation).map(this.creationTime::plus);
+		Optional<Instant> lastAccessEndTime = lastAccessStartTime.map(time -> time.plusSeconds(1));
+		doReturn(this.creationTime).when(metaData).getCreationTime();
+		doReturn(Optional.of(this.maxIdle)).when(metaData).getMaxIdle();
+		doReturn(lastAccessStartTime).when(metaData).getLastAccessStartTime();
+		doReturn(lastAccessEndTime).when(metaData).getLastAccessEndTime();
+		return metaData;
+	}
+}
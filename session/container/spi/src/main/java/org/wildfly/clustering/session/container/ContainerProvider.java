@@ -28,6 +28,11 @@ public interface ContainerProvider<CC, S, L, SC> {
 	 * @param <SC> the session context type
 	 */
 	interface VoidEventListener<CC, S, SC> extends ContainerProvider<CC, S, Void, SC> {
+		@Override
+		default boolean isSessionEventListener(Object attribute) {
+			return false;
+		}
+
 		@Override
 		default Optional<Void> getSessionEventListener(S session, Object attribute) {
 			return Optional.empty();
@@ -52,6 +57,11 @@ public interface ContainerProvider<CC, S, L, SC> {
 	 * @param <SC> the session context type
 	 */
 	interface SessionAttributeEventListener<CC, S, L, SC> extends ContainerProvider<CC, S, L, SC> {
+		@Override
+		default boolean isSessionEventListener(Object attribute) {
+			return this.getSessionEventListenerClass().isInstance(attribute);
+		}
+
 		@Override
 		default Optional<L> getSessionEventListener(S session, Object attribute) {
 			Class<L> listenerClass = this.getSessionEventListenerClass();
@@ -99,6 +109,16 @@ public interface ContainerProvider<CC, S, L, SC> {
 	 */
 	S getSession(SessionManager<SC> manager, Session<SC> session, CC context);
 
+	/**
+	 * Indicates whether the specified session attribute might be a container specific activation/passivation listener for any session.
+	 * Used to determine, without a session, whether a session attribute requires activation/passivation notification.
+	 * @param attribute a session attribute
+	 * @return false, if the specified session attribute is never an activation/passivation listener, true otherwise.
+	 */
+	default boolean isSessionEventListener(Object attribute) {
+		return true;
+	}
+
 	/**
 	 * Returns the container specific activation/passivation listener for the specified attribute of the specified session, if one exists.
 	 * @param session the session event source
@@ -39,6 +39,7 @@ public class InfinispanSessionManager<DC, MV, AV, SC> extends AbstractSessionMan
 	private final Cache<Key<String>, ?> cache;
 	private final CacheProperties properties;
 	private final Scheduler<String, ExpirationMetaData> scheduler;
+	private final SegmentedSessionCounter counter;
 
 	interface Configuration<DC, MV, AV, SC> extends AbstractSessionManager.Configuration<DC, MV, AV, SC> {
 		@Override
@@ -69,6 +70,12 @@ public class InfinispanSessionManager<DC, MV, AV, SC> extends AbstractSessionMan
 		 * @return the scheduler used to expire sessions.
 		 */
 		Scheduler<String, ExpirationMetaData> getExpirationScheduler();
+
+		/**
+		 * Returns the counter of locally stored sessions.
+		 * @return the counter of locally stored sessions.
+		 */
+		SegmentedSessionCounter getSessionCounter();
 	}
 
 	/**
@@ -80,6 +87,7 @@ public class InfinispanSessionManager<DC, MV, AV, SC> extends AbstractSessionMan
 		this.cache = configuration.getCacheConfiguration().getCache();
 		this.properties = configuration.getCacheConfiguration().getCacheProperties();
 		this.scheduler = configuration.getExpirationScheduler();
+		this.counter = configuration.getSessionCounter();
 	}
 
 	@Override
@@ -114,6 +122,16 @@ public class InfinispanSessionManager<DC, MV, AV, SC> extends AbstractSessionMan
 		return getLocalSessions(this.cache);
 	}
 
+	@Override
+	public long getActiveSessionCount() {
+		return this.counter.getActiveSessionCount();
+	}
+
+	@Override
+	public long getSessionCount() {
+		return this.counter.getSessionCount();
+	}
+
 	private static Set<String> getLocalSessions(Cache<Key<String>, ?> cache) {
 		CacheStreamFilter<Key<String>> filter = CacheStreamFilter.local(cache);
 		try (Stream<Key<String>> keys = filter.apply(cache.keySet().stream())) {
@@ -19,6 +19,7 @@ import org.infinispan.Cache;
 import org.wildfly.clustering.cache.CacheProperties;
 import org.wildfly.clustering.cache.infinispan.embedded.EmbeddedCacheConfiguration;
 import org.wildfly.clustering.cache.infinispan.embedded.distribution.CacheStreamFilter;
+import org.wildfly.clustering.cache.infinispan.embedded.listener.ListenerRegistration;
 import org.wildfly.clustering.context.DefaultThreadFactory;
 import org.wildfly.clustering.function.BiFunction;
 import org.wildfly.clustering.function.Consumer;
@@ -29,6 +30,7 @@ import org.wildfly.clustering.server.Registrar;
 import org.wildfly.clustering.server.Registration;
 import org.wildfly.clustering.server.cache.CacheStrategy;
 import org.wildfly.clustering.server.expiration.ExpirationMetaData;
+import org.wildfly.clustering.server.immutable.Immutability;
 import org.wildfly.clustering.server.infinispan.dispatcher.CacheContainerCommandDispatcherFactory;
 import org.wildfly.clustering.server.infinispan.expiration.ScheduleExpirationCommand;
 import org.wildfly.clustering.server.infinispan.manager.AffinityIdentifierFactoryService;
@@ -37,7 +39,6 @@ import org.wildfly.clustering.server.infinispan.scheduler.CacheEntrySchedulerSer
 import org.wildfly.clustering.server.infinispan.scheduler.CacheKeysTask;
 import org.wildfly.clustering.server.infinispan.scheduler.PrimaryOwnerCommand;
 import org.wildfly.clustering.server.infinispan.scheduler.PrimaryOwnerSchedulerService;
-import org.wildfly.clustering.server.listener.ConsumerRegistry;
 import org.wildfly.clustering.server.local.scheduler.LocalSchedulerService;
 import org.wildfly.clustering.server.manager.IdentifierFactoryService;
 import org.wildfly.clustering.server.scheduler.Scheduler;
@@ -49,13 +50,16 @@ import org.wildfly.clustering.session.SessionManagerFactory;
 import org.wildfly.clustering.session.SessionManagerFactoryConfiguration;
 import org.wildfly.clustering.session.cache.CachedSessionManager;
 import org.wildfly.clustering.session.cache.CompositeSessionFactory;
+import org.wildfly.clustering.session.cache.SessionExpirationListenerRegistry;
 import org.wildfly.clustering.session.cache.SessionFactory;
 import org.wildfly.clustering.session.cache.SessionFactoryConfiguration;
+import org.wildfly.clustering.session.cache.SessionLifecycleCounters;
 import org.wildfly.clustering.session.cache.attributes.ContainerSessionAttributeActivationNotifier;
 import org.wildfly.clustering.session.cache.attributes.IdentityMarshallerSessionAttributesFactoryConfiguration;
 import org.wildfly.clustering.session.cache.attributes.MarshalledValueMarshallerSessionAttributesFactoryConfiguration;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributeActivationNotifier;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributesFactory;
+import org.wildfly.clustering.session.cache.metadata.LastAccessThrottle;
 import org.wildfly.clustering.session.cache.metadata.SessionMetaDataFactory;
 import org.wildfly.clustering.session.cache.metadata.coarse.ContextualSessionMetaDataEntry;
 import org.wildfly.clustering.session.container.ContainerProvider;
@@ -101,8 +105,13 @@ public class InfinispanSessionManagerFactory<CC, SC> implements SessionManagerFa
 	}
 
 	private final SchedulerService<String, ExpirationMetaData> scheduler;
+	private final SessionLifecycleCounters counters = new SessionLifecycleCounters();
+	private final SegmentedSessionCounter sessionCounter;
+	private final ListenerRegistration sessionCounterRegistration;
 	private final SessionFactory<CC, ContextualSessionMetaDataEntry<SC>, Object, SC> factory;
 	private final EmbeddedCacheConfiguration configuration;
+	private final Duration accessCoalescingWindow;
+	private final Immutability immutability;
 	private final Function<SessionManagerConfiguration<CC>, Registrar<SessionManager<SC>>> managerRegistrarFactory;
 	private final Function<CC, String> contextIdentifier;
 	private final AtomicInteger counter = new AtomicInteger();
@@ -120,7 +129,9 @@ public class InfinispanSessionManagerFactory<CC, SC> implements SessionManagerFa
 		this.contextIdentifier = provider::getId;
 		EmbeddedCacheConfiguration cacheConfiguration = configuration.getCacheConfiguration();
 		this.configuration = cacheConfiguration;
-		SessionMetaDataFactory<ContextualSessionMetaDataEntry<SC>> metaDataFactory = new InfinispanSessionMetaDataFactory<>(this.configuration);
+		this.accessCoalescingWindow = configuration.getSessionManagerFactoryConfiguration().getAccessCoalescingWindow();
+		this.immutability = configuration.getSessionManagerFactoryConfiguration().getImmutability();
+		SessionMetaDataFactory<ContextualSessionMetaDataEntry<SC>> metaDataFactory = new InfinispanSessionMetaDataFactory<>(this.configuration, new LastAccessThrottle(configuration.getSessionManagerFactoryConfiguration().getLastAccessPersistenceThreshold()));
 		@SuppressWarnings("unchecked")
 		SessionAttributesFactory<CC, Object> attributesFactory = (SessionAttributesFactory<CC, Object>) this.createSessionAttributesFactory(configuration, provider);
 		this.factory = new CompositeSessionFactory<>(new SessionFactoryConfiguration<>() {
@@ -144,7 +155,7 @@ public class InfinispanSessionManagerFactory<CC, SC> implements SessionManagerFa
 				return configuration.getSessionManagerFactoryConfiguration().getSessionContextFactory();
 			}
 		});
-		ConsumerRegistry<ImmutableSession> expirationListenerRegistry = ConsumerRegistry.newInstance();
+		SessionExpirationListenerRegistry expirationListenerRegistry = new SessionExpirationListenerRegistry(this.counters);
 		Predicate<String> expirationTask = new SessionExpirationTask<>(this.factory, cacheConfiguration.getBatchFactory(), expirationListenerRegistry);
 		this.managerRegistrarFactory = new Function<>() {
 			@Override
@@ -163,6 +174,8 @@ public class InfinispanSessionManagerFactory<CC, SC> implements SessionManagerFa
 			}
 		};
 		Cache<SessionMetaDataKey, ContextualSessionMetaDataEntry<SC>> cache = cacheConfiguration.getCache();
+		this.sessionCounter = new SegmentedSessionCounter(cacheConfiguration.getCache(), this.counters);
+		this.sessionCounterRegistration = this.sessionCounter.register();
 		@SuppressWarnings("resource")
 		SchedulerService<String, Instant> localScheduler = new LocalSchedulerService<>(new LocalSchedulerService.Configuration<>() {
 			@Override
@@ -184,6 +197,11 @@ public class InfinispanSessionManagerFactory<CC, SC> implements SessionManagerFa
 			public ThreadFactory getThreadFactory() {
 				return THREAD_FACTORY;
 			}
+
+			@Override
+			public int getConcurrency() {
+				return configuration.getSessionManagerFactoryConfiguration().getExpirationConcurrency();
+			}
 		});
 		CacheEntrySchedulerService<String, SessionMetaDataKey, ContextualSessionMetaDataEntry<SC>, ExpirationMetaData> cacheEntryScheduler = new CacheEntrySchedulerService<>(localScheduler.compose(Function.identity(), ExpirationMetaData::getExpirationTime), metaDataFactory::createImmutableSessionMetaData) {
 			@Override
@@ -196,6 +214,9 @@ public class InfinispanSessionManagerFactory<CC, SC> implements SessionManagerFa
 		CacheContainerCommandDispatcherFactory dispatcherFactory = configuration.getCommandDispatcherFactory();
 		Consumer<CacheStreamFilter<Map.Entry<SessionMetaDataKey, ContextualSessionMetaDataEntry<SC>>>> scheduleTask = CacheEntriesTask.schedule(cache, SessionCacheEntryFilter.META_DATA.cast(), cacheEntryScheduler);
 		Consumer<CacheStreamFilter<SessionMetaDataKey>> cancelTask = CacheKeysTask.cancel(cache, SessionCacheKeyFilter.META_DATA, cacheEntryScheduler);
+		boolean asynchronous = configuration.getSessionManagerFactoryConfiguration().isAsynchronousExpirationSchedulingEnabled();
+		// Expiration task only removes sessions that are not in use, i.e. whose lock can be acquired
+		boolean remoteCancelRequired = !asynchronous || !cacheConfiguration.getCacheProperties().isLockOnRead();
 		this.scheduler = !dispatcherFactory.getGroup().isSingleton() ? new PrimaryOwnerSchedulerService<>(new PrimaryOwnerSchedulerService.Configuration<String, ExpirationMetaData, Map.Entry<SessionMetaDataKey, ContextualSessionMetaDataEntry<SC>>, SessionMetaDataKey>() {
 			@Override
 			public SchedulerService<String, ExpirationMetaData> getScheduler() {
@@ -217,6 +238,16 @@ public class InfinispanSessionManagerFactory<CC, SC> implements SessionManagerFa
 				return ScheduleExpirationCommand::new;
 			}
 
+			@Override
+			public boolean isAsynchronous() {
+				return asynchronous;
+			}
+
+			@Override
+			public boolean isRemoteCancelRequired() {
+				return remoteCancelRequired;
+			}
+
 			@Override
 			public Consumer<CacheStreamFilter<Map.Entry<SessionMetaDataKey, ContextualSessionMetaDataEntry<SC>>>> getScheduleTask() {
 				return scheduleTask;
@@ -241,6 +272,8 @@ public class InfinispanSessionManagerFactory<CC, SC> implements SessionManagerFa
 		IdentifierFactoryService<String> identifierFactory = new AffinityIdentifierFactoryService<>(configuration.getIdentifierFactory(), cacheConfiguration.getCache());
 		Registrar<SessionManager<SC>> registrar = this.managerRegistrarFactory.apply(configuration);
 		SchedulerService<String, ExpirationMetaData> scheduler = this.scheduler;
+		SessionLifecycleCounters counters = this.counters;
+		SegmentedSessionCounter sessionCounter = this.sessionCounter;
 		return new CachedSessionManager<>(new InfinispanSessionManager<>(new InfinispanSessionManager.Configuration<CC, ContextualSessionMetaDataEntry<SC>, Object, SC>() {
 			@Override
 			public IdentifierFactoryService<String> getIdentifierFactory() {
@@ -276,7 +309,17 @@ public class InfinispanSessionManagerFactory<CC, SC> implements SessionManagerFa
 			public Scheduler<String, ExpirationMetaData> getExpirationScheduler() {
 				return scheduler;
 			}
-		}), CacheStrategy.CONCURRENT) {
+
+			@Override
+			public SessionLifecycleCounters getSessionLifecycleCounters() {
+				return counters;
+			}
+
+			@Override
+			public SegmentedSessionCounter getSessionCounter() {
+				return sessionCounter;
+			}
+		}), CacheStrategy.CONCURRENT, this.accessCoalescingWindow, this.immutability, cacheConfiguration.getExecutor()) {
 			private final AtomicReference<Registration> registration = new AtomicReference<>();
 
 			@Override
@@ -309,14 +352,18 @@ public class InfinispanSessionManagerFactory<CC, SC> implements SessionManagerFa
 		boolean marshalling = configuration.getCacheConfiguration().getCacheProperties().isMarshalling();
 		BiFunction<ImmutableSession, CC, SessionAttributeActivationNotifier> persistenceNotifierFactory = (session, context) -> Optional.ofNullable(this.findSessionManager(context)).<SessionAttributeActivationNotifier>map(manager -> new ContainerSessionAttributeActivationNotifier<>(provider, provider.getSession(manager, session, context))).orElse(SessionAttributeActivationNotifier.SILENT);
 		Function<String, SessionAttributeActivationNotifier> passivationNotifierFactory = sessionId -> new CompositeContainerSessionAttributeActivationNotifier<>(provider, this.managers.values(), sessionId);
+		// Mark marshalled attributes that require activation/passivation notification, see SessionAttributeActivationNotifier.isNotificationRequired(Object)
+		Predicate<Object> listener = provider::isSessionEventListener;
+		Predicate<Object> listeners = attributes -> ((Map<?, ?>) attributes).values().stream().anyMatch(listener);
 		return switch (configuration.getSessionManagerFactoryConfiguration().getAttributePersistenceStrategy()) {
-			case FINE -> marshalling ? new FineSessionAttributesFactory<>(new MarshalledValueMarshallerSessionAttributesFactoryConfiguration<>(configuration.getSessionManagerFactoryConfiguration()), persistenceNotifierFactory, passivationNotifierFactory, configuration.getCacheConfiguration()) : new FineSessionAttributesFactory<>(new IdentityMarshallerSessionAttributesFactoryConfiguration<>(configuration.getSessionManagerFactoryConfiguration()), persistenceNotifierFactory, passivationNotifierFactory, configuration.getCacheConfiguration());
-			case COARSE -> marshalling ? new CoarseSessionAttributesFactory<>(new MarshalledValueMarshallerSessionAttributesFactoryConfiguration<>(configuration.getSessionManagerFactoryConfiguration()), persistenceNotifierFactory, passivationNotifierFactory, configuration.getCacheConfiguration()) : new CoarseSessionAttributesFactory<>(new IdentityMarshallerSessionAttributesFactoryConfiguration<>(configuration.getSessionManagerFactoryConfiguration()), persistenceNotifierFactory, passivationNotifierFactory, configuration.getCacheConfiguration());
+			case FINE -> marshalling ? new FineSessionAttributesFactory<>(new MarshalledValueMarshallerSessionAttributesFactoryConfiguration<>(configuration.getSessionManagerFactoryConfiguration(), listener), persistenceNotifierFactory, passivationNotifierFactory, configuration.getCacheConfiguration()) : new FineSessionAttributesFactory<>(new IdentityMarshallerSessionAttributesFactoryConfiguration<>(configuration.getSessionManagerFactoryConfiguration()), persistenceNotifierFactory, passivationNotifierFactory, configuration.getCacheConfiguration());
+			case COARSE -> marshalling ? new CoarseSessionAttributesFactory<>(new MarshalledValueMarshallerSessionAttributesFactoryConfiguration<>(configuration.getSessionManagerFactoryConfiguration(), listeners), persistenceNotifierFactory, passivationNotifierFactory, configuration.getCacheConfiguration()) : new CoarseSessionAttributesFactory<>(new IdentityMarshallerSessionAttributesFactoryConfiguration<>(configuration.getSessionManagerFactoryConfiguration()), persistenceNotifierFactory, passivationNotifierFactory, configuration.getCacheConfiguration());
 		};
 	}
 
 	@Override
 	public void close() {
+		this.sessionCounterRegistration.close();
 		this.scheduler.close();
 		this.factory.close();
 	}
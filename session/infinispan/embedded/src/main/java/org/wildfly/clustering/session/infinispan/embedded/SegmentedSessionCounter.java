@@ -0,0 +1,241 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session.infinispan.embedded;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+import org.infinispan.Cache;
+import org.infinispan.commons.util.IntSet;
+import org.infinispan.commons.util.IntSets;
+import org.infinispan.commons.util.concurrent.CompletableFutures;
+import org.infinispan.context.Flag;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.LocalizedCacheTopology;
+import org.infinispan.distribution.ch.ConsistentHash;
+import org.infinispan.factories.GlobalComponentRegistry;
+import org.infinispan.notifications.Listener;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryActivated;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryCreated;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryPassivated;
+import org.infinispan.notifications.cachelistener.annotation.CacheEntryRemoved;
+import org.infinispan.notifications.cachelistener.annotation.DataRehashed;
+import org.infinispan.notifications.cachelistener.event.CacheEntryActivatedEvent;
+import org.infinispan.notifications.cachelistener.event.CacheEntryCreatedEvent;
+import org.infinispan.notifications.cachelistener.event.CacheEntryPassivatedEvent;
+import org.infinispan.notifications.cachelistener.event.CacheEntryRemovedEvent;
+import org.infinispan.notifications.cachelistener.event.DataRehashedEvent;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.util.concurrent.BlockingManager;
+import org.wildfly.clustering.cache.Key;
+import org.wildfly.clustering.cache.infinispan.embedded.distribution.CacheStreamFilter;
+import org.wildfly.clustering.cache.infinispan.embedded.listener.ListenerRegistrar;
+import org.wildfly.clustering.cache.infinispan.embedded.listener.ListenerRegistration;
+import org.wildfly.clustering.session.cache.SessionLifecycleCounters;
+import org.wildfly.clustering.session.infinispan.embedded.metadata.SessionMetaDataKey;
+
+/**
+ * Maintains per-segment counts of the sessions stored locally, so that session counts do not require a scan of the cache.
+ * Counts are maintained by cache entry listeners, and are reconciled, per segment, with the local data container whenever this member acquires new segments.
+ * Reconciliation is applied as a delta relative to the counts observed prior to counting, so that concurrent listener updates are preserved.
+ * Counts are maintained for all locally owned segments, so that they remain accurate if this member is promoted to primary owner, but only primary owned segments contribute to the reported counts.
+ * Since the cache contains other entries per session, the size of the data container itself is not indicative of the number of sessions.
+ * @author Paul Ferraro
+ */
+@Listener(observation = Listener.Observation.POST)
+public class SegmentedSessionCounter implements ListenerRegistrar {
+	private static final System.Logger LOGGER = System.getLogger(SegmentedSessionCounter.class.getName());
+
+	private final Cache<Key<String>, ?> cache;
+	private final SessionLifecycleCounters counters;
+	private final Executor executor;
+	// Number of locally stored sessions, per segment
+	private final AtomicLongArray sessions;
+	// Number of locally stored sessions that are passivated, per segment
+	private final AtomicLongArray passiveSessions;
+
+	/**
+	 * Creates a session counter for the specified cache.
+	 * @param cache an embedded cache
+	 * @param counters the counters of session lifecycle events
+	 */
+	public SegmentedSessionCounter(Cache<Key<String>, ?> cache, SessionLifecycleCounters counters) {
+		this.cache = cache;
+		this.counters = counters;
+		this.executor = GlobalComponentRegistry.componentOf(cache.getCacheManager(), BlockingManager.class).asExecutor(this.getClass().getName());
+		int segments = (cache.getAdvancedCache().getDistributionManager() != null) ? cache.getCacheConfiguration().clustering().hash().numSegments() : 1;
+		this.sessions = new AtomicLongArray(segments);
+		this.passiveSessions = new AtomicLongArray(segments);
+	}
+
+	@Override
+	public ListenerRegistration register() {
+		this.cache.addListener(this);
+		DistributionManager distribution = this.cache.getAdvancedCache().getDistributionManager();
+		LocalizedCacheTopology topology = (distribution != null) ? distribution.getCacheTopology() : null;
+		this.reconcile((topology != null) ? segments(topology.getWriteConsistentHash(), topology.getLocalAddress()) : IntSets.immutableSet(0));
+		return () -> this.cache.removeListener(this);
+	}
+
+	/**
+	 * Returns the number of sessions for which this member is the primary owner.
+	 * @return the number of sessions for which this member is the primary owner.
+	 */
+	public long getSessionCount() {
+		return this.primarySegments().intStream().mapToLong(this.sessions::get).sum();
+	}
+
+	/**
+	 * Returns the number of non-passivated sessions for which this member is the primary owner.
+	 * @return the number of non-passivated sessions for which this member is the primary owner.
+	 */
+	public long getActiveSessionCount() {
+		return this.primarySegments().intStream().mapToLong(segment -> this.sessions.get(segment) - this.passiveSessions.get(segment)).sum();
+	}
+
+	/**
+	 * Handles session creation events.
+	 * @param event a cache entry created event
+	 * @return a completion stage
+	 */
+	@CacheEntryCreated
+	public CompletionStage<Void> created(CacheEntryCreatedEvent<Key<String>, ?> event) {
+		if (event.getKey() instanceof SessionMetaDataKey) {
+			this.sessions.incrementAndGet(this.segment(event.getKey()));
+		}
+		return CompletableFutures.completedNull();
+	}
+
+	/**
+	 * Handles session removal events.
+	 * @param event a cache entry removed event
+	 * @return a completion stage
+	 */
+	@CacheEntryRemoved
+	public CompletionStage<Void> removed(CacheEntryRemovedEvent<Key<String>, ?> event) {
+		if (event.getKey() instanceof SessionMetaDataKey) {
+			this.sessions.decrementAndGet(this.segment(event.getKey()));
+		}
+		return CompletableFutures.completedNull();
+	}
+
+	/**
+	 * Handles session passivation events.
+	 * @param event a cache entry passivated event
+	 * @return a completion stage
+	 */
+	@CacheEntryPassivated
+	public CompletionStage<Void> passivated(CacheEntryPassivatedEvent<Key<String>, ?> event) {
+		if (event.getKey() instanceof SessionMetaDataKey) {
+			this.passiveSessions.incrementAndGet(this.segment(event.getKey()));
+			// Each owner passivates its own copy of a session, so only count passivation by the primary owner
+			if (this.isPrimaryOwner(event.getKey())) {
+				this.counters.passivated();
+			}
+		}
+		return CompletableFutures.completedNull();
+	}
+
+	/**
+	 * Handles session activation events.
+	 * @param event a cache entry activated event
+	 * @return a completion stage
+	 */
+	@CacheEntryActivated
+	public CompletionStage<Void> activated(CacheEntryActivatedEvent<Key<String>, ?> event) {
+		if (event.getKey() instanceof SessionMetaDataKey) {
+			this.passiveSessions.decrementAndGet(this.segment(event.getKey()));
+		}
+		return CompletableFutures.completedNull();
+	}
+
+	/**
+	 * Handles rehash events, resetting the counts of segments that are no longer stored locally, and reconciling the counts of segments that are newly stored locally.
+	 * @param event a data rehashed event
+	 * @return a completion stage
+	 */
+	@DataRehashed
+	public CompletionStage<Void> rehashed(DataRehashedEvent<Key<String>, ?> event) {
+		Address address = event.getCache().getCacheManager().getAddress();
+		IntSet oldSegments = segments(event.getConsistentHashAtStart(), address);
+		IntSet newSegments = segments(event.getConsistentHashAtEnd(), address);
+		IntSet formerSegments = IntSets.mutableCopyFrom(oldSegments);
+		formerSegments.removeAll(newSegments);
+		formerSegments.forEach((int segment) -> {
+			this.sessions.set(segment, 0);
+			this.passiveSessions.set(segment, 0);
+		});
+		IntSet acquiredSegments = IntSets.mutableCopyFrom(newSegments);
+		acquiredSegments.removeAll(oldSegments);
+		if (!acquiredSegments.isEmpty()) {
+			this.reconcile(acquiredSegments);
+		}
+		return CompletableFutures.completedNull();
+	}
+
+	private void reconcile(IntSet segments) {
+		try {
+			this.executor.execute(() -> {
+				LOGGER.log(System.Logger.Level.DEBUG, "Counting sessions of cache {0} for segments {1}", this.cache.getName(), segments);
+				// Snapshot current counts prior to counting, so that reconciliation does not discard concurrent updates from listeners
+				long[] sessionSnapshot = new long[this.sessions.length()];
+				long[] passiveSessionSnapshot = new long[this.passiveSessions.length()];
+				segments.forEach((int segment) -> {
+					sessionSnapshot[segment] = this.sessions.get(segment);
+					passiveSessionSnapshot[segment] = this.passiveSessions.get(segment);
+				});
+				long[] sessions = this.count(this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL), segments);
+				long[] activeSessions = this.count(this.cache.getAdvancedCache().withFlags(Flag.CACHE_MODE_LOCAL, Flag.SKIP_CACHE_LOAD), segments);
+				segments.forEach((int segment) -> {
+					this.sessions.addAndGet(segment, sessions[segment] - sessionSnapshot[segment]);
+					this.passiveSessions.addAndGet(segment, sessions[segment] - activeSessions[segment] - passiveSessionSnapshot[segment]);
+				});
+			});
+		} catch (RejectedExecutionException e) {
+			// Ignore
+		}
+	}
+
+	private long[] count(Cache<Key<String>, ?> cache, IntSet segments) {
+		long[] counts = new long[this.sessions.length()];
+		CacheStreamFilter<Key<String>> filter = (cache.getAdvancedCache().getDistributionManager() != null) ? CacheStreamFilter.segments(segments) : CacheStreamFilter.identity();
+		try (Stream<Key<String>> keys = filter.apply(cache.keySet().stream()).filter(SessionCacheKeyFilter.META_DATA)) {
+			Iterator<Key<String>> iterator = keys.iterator();
+			while (iterator.hasNext()) {
+				counts[this.segment(iterator.next())] += 1;
+			}
+		}
+		return counts;
+	}
+
+	private int segment(Object key) {
+		DistributionManager distribution = this.cache.getAdvancedCache().getDistributionManager();
+		return (distribution != null) ? distribution.getCacheTopology().getSegment(key) : 0;
+	}
+
+	private boolean isPrimaryOwner(Object key) {
+		DistributionManager distribution = this.cache.getAdvancedCache().getDistributionManager();
+		return (distribution == null) || distribution.getCacheTopology().getDistribution(key).isPrimary();
+	}
+
+	private IntSet primarySegments() {
+		DistributionManager distribution = this.cache.getAdvancedCache().getDistributionManager();
+		if (distribution == null) {
+			return IntSets.immutableSet(0);
+		}
+		LocalizedCacheTopology topology = distribution.getCacheTopology();
+		ConsistentHash hash = topology.getWriteConsistentHash();
+		return hash.getMembers().contains(topology.getLocalAddress()) ? IntSets.from(hash.getPrimarySegmentsForOwner(topology.getLocalAddress())) : IntSets.immutableEmptySet();
+	}
+
+	private static IntSet segments(ConsistentHash hash, Address address) {
+		return (hash != null) && hash.getMembers().contains(address) ? IntSets.from(hash.getSegmentsForOwner(address)) : IntSets.immutableEmptySet();
+	}
+}
@@ -6,6 +6,7 @@ package org.wildfly.clustering.session.infinispan.embedded;
 
 import java.time.Instant;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CancellationException;
 
 import org.wildfly.clustering.cache.batch.Batch;
@@ -14,7 +15,9 @@ import org.wildfly.clustering.function.Predicate;
 import org.wildfly.clustering.function.Supplier;
 import org.wildfly.clustering.session.ImmutableSession;
 import org.wildfly.clustering.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.session.SessionExpirationListener;
 import org.wildfly.clustering.session.cache.SessionFactory;
+import org.wildfly.clustering.session.cache.attributes.DeferredSessionAttributes;
 
 /**
  * Session remover that removes a session if and only if it is expired.
@@ -53,9 +56,10 @@ public class SessionExpirationTask<SC, MV, AV, LC> implements Predicate<String>
 					ImmutableSessionMetaData metaData = this.sessionFactory.getSessionMetaDataFactory().createImmutableSessionMetaData(id, metaDataValue);
 					if (metaData.isExpired()) {
 						LOGGER.log(System.Logger.Level.TRACE, "Removing expired session {0}.", id);
-						AV attributesValue = this.sessionFactory.getSessionAttributesFactory().findValue(id);
-						if (attributesValue != null) {
-							Map<String, Object> attributes = this.sessionFactory.getSessionAttributesFactory().createImmutableSessionAttributes(id, attributesValue);
+						// Defer loading of session attributes, unless required by our listener
+						// If deferred, our listener is notified even if the attributes of this session are missing, since determining this would require loading them
+						Map<String, Object> attributes = SessionExpirationListener.isAttributeAccessRequired(this.expirationListener) ? this.findAttributes(id) : new DeferredSessionAttributes(() -> Objects.requireNonNullElse(this.findAttributes(id), Map.of()));
+						if (attributes != null) {
 							ImmutableSession session = this.sessionFactory.createImmutableSession(id, metaData, attributes);
 							this.expirationListener.accept(session);
 						}
@@ -84,4 +88,9 @@ public class SessionExpirationTask<SC, MV, AV, LC> implements Predicate<String>
 			return false;
 		}
 	}
+
+	private Map<String, Object> findAttributes(String id) {
+		AV attributesValue = this.sessionFactory.getSessionAttributesFactory().findValue(id);
+		return (attributesValue != null) ? this.sessionFactory.getSessionAttributesFactory().createImmutableSessionAttributes(id, attributesValue) : null;
+	}
 }
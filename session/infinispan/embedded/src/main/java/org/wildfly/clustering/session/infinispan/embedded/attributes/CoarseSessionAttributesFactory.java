@@ -30,6 +30,7 @@ import org.wildfly.clustering.session.ImmutableSession;
 import org.wildfly.clustering.session.ImmutableSessionMetaData;
 import org.wildfly.clustering.session.cache.CompositeImmutableSession;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributeActivationNotifier;
+import org.wildfly.clustering.session.cache.attributes.SessionAttributeFingerprinter;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributes;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributesFactory;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributesFactoryConfiguration;
@@ -52,6 +53,7 @@ public class CoarseSessionAttributesFactory<C, V> implements SessionAttributesFa
 	private final Marshaller<Map<String, Object>, V> marshaller;
 	private final CacheProperties properties;
 	private final Immutability immutability;
+	private final SessionAttributeFingerprinter fingerprinter;
 	private final CacheEntryMutatorFactory<SessionAttributesKey, V> mutatorFactory;
 	private final BiFunction<ImmutableSession, C, SessionAttributeActivationNotifier> persistenceNotifierFactory;
 	private final Function<String, SessionAttributeActivationNotifier> passivationNotifierFactory;
@@ -71,6 +73,7 @@ public class CoarseSessionAttributesFactory<C, V> implements SessionAttributesFa
 		this.silentCache = infinispan.getSilentWriteCache();
 		this.marshaller = configuration.getMarshaller();
 		this.immutability = configuration.getImmutability();
+		this.fingerprinter = configuration.getFingerprinter();
 		this.properties = infinispan.getCacheProperties();
 		this.mutatorFactory = infinispan.getCacheEntryMutatorFactory();
 		this.persistenceNotifierFactory = persistenceNotifierFactory;
@@ -144,7 +147,7 @@ public class CoarseSessionAttributesFactory<C, V> implements SessionAttributesFa
 		try {
 			Runnable mutator = (this.properties.isTransactional() && metaData.getLastAccessTime().isEmpty()) ? CacheEntryMutator.EMPTY : this.mutatorFactory.createMutator(new SessionAttributesKey(id), this.marshaller.write(attributes));
 			SessionAttributeActivationNotifier notifier = this.properties.isPersistent() ? this.persistenceNotifierFactory.apply(new CompositeImmutableSession(id, metaData, attributes), context) : SessionAttributeActivationNotifier.SILENT;
-			return new CoarseSessionAttributes(attributes, mutator, this.properties.isMarshalling() ? this.marshaller : Predicate.of(true) , this.immutability, notifier);
+			return new CoarseSessionAttributes(attributes, mutator, this.properties.isMarshalling() ? this.marshaller : Predicate.of(true), this.immutability, notifier, this.fingerprinter);
 		} catch (IOException e) {
 			throw new IllegalStateException(e);
 		}
@@ -163,6 +166,7 @@ public class CoarseSessionAttributesFactory<C, V> implements SessionAttributesFa
 	}
 
 	private void notify(SessionAttributesKey key, V value, BiConsumer<SessionAttributeActivationNotifier, Object> notification) {
+		if (!SessionAttributeActivationNotifier.isNotificationRequired(value)) return;
 		String id = key.getId();
 		SessionAttributeActivationNotifier notifier = this.passivationNotifierFactory.apply(id);
 		if (notifier != null) {
@@ -8,7 +8,6 @@ package org.wildfly.clustering.session.infinispan.embedded.attributes;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Map;
-import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
@@ -29,10 +28,12 @@ import org.wildfly.clustering.session.ImmutableSession;
 import org.wildfly.clustering.session.ImmutableSessionMetaData;
 import org.wildfly.clustering.session.cache.CompositeImmutableSession;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributeActivationNotifier;
+import org.wildfly.clustering.session.cache.attributes.SessionAttributeFingerprinter;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributes;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributesFactory;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributesFactoryConfiguration;
 import org.wildfly.clustering.session.cache.attributes.fine.FineSessionAttributes;
+import org.wildfly.clustering.session.cache.attributes.fine.LazySessionAttributeMap;
 import org.wildfly.clustering.session.cache.attributes.fine.SessionAttributeMapComputeFunction;
 import org.wildfly.clustering.session.infinispan.embedded.metadata.SessionMetaDataKey;
 
@@ -52,6 +53,7 @@ public class FineSessionAttributesFactory<C, V> implements SessionAttributesFact
 	private final Cache<SessionAttributesKey, Map<String, V>> silentCache;
 	private final Marshaller<Object, V> marshaller;
 	private final Predicate<Object> immutability;
+	private final SessionAttributeFingerprinter fingerprinter;
 	private final CacheProperties properties;
 	private final CacheEntryMutatorFactory<SessionAttributesKey, Map<String, V>> mutatorFactory;
 	private final BiFunction<ImmutableSession, C, SessionAttributeActivationNotifier> persistenceNotifierFactory;
@@ -72,6 +74,7 @@ public class FineSessionAttributesFactory<C, V> implements SessionAttributesFact
 		this.silentCache = infinispan.getSilentWriteCache();
 		this.marshaller = configuration.getMarshaller();
 		this.immutability = configuration.getImmutability();
+		this.fingerprinter = configuration.getFingerprinter();
 		this.properties = infinispan.getCacheProperties();
 		this.mutatorFactory = infinispan.getCacheEntryMutatorFactory(SessionAttributeMapComputeFunction::new);
 		this.persistenceNotifierFactory = persistenceNotifierFactory;
@@ -93,7 +96,7 @@ public class FineSessionAttributesFactory<C, V> implements SessionAttributesFact
 
 	@Override
 	public Map<String, Object> createValue(String id, Void context) {
-		return new TreeMap<>();
+		return new LazySessionAttributeMap<>(this.marshaller);
 	}
 
 	@Override
@@ -111,18 +114,8 @@ public class FineSessionAttributesFactory<C, V> implements SessionAttributesFact
 	}
 
 	private Map<String, Object> readAttributes(Map<String, V> attributes) {
-		Map<String, Object> result = this.createValue(null, null);
-		if (attributes != null) {
-			for (Map.Entry<String, V> entry : attributes.entrySet()) {
-				String attributeName = entry.getKey();
-				try {
-					result.put(attributeName, this.marshaller.read(entry.getValue()));
-				} catch (IOException e) {
-					throw new UncheckedIOException(attributeName, e);
-				}
-			}
-		}
-		return result;
+		// Defer unmarshalling of attribute values until first access
+		return (attributes != null) ? new LazySessionAttributeMap<>(attributes, this.marshaller) : this.createValue(null, null);
 	}
 
 	@Override
@@ -147,7 +140,7 @@ public class FineSessionAttributesFactory<C, V> implements SessionAttributesFact
 	@Override
 	public SessionAttributes createSessionAttributes(String id, Map<String, Object> attributes, ImmutableSessionMetaData metaData, C context) {
 		SessionAttributeActivationNotifier notifier = this.properties.isPersistent() ? this.persistenceNotifierFactory.apply(new CompositeImmutableSession(id, metaData, attributes), context) : SessionAttributeActivationNotifier.SILENT;
-		return new FineSessionAttributes<>(new SessionAttributesKey(id), attributes, this.mutatorFactory, this.marshaller, this.immutability, notifier);
+		return new FineSessionAttributes<>(new SessionAttributesKey(id), attributes, this.mutatorFactory, this.marshaller, this.immutability, notifier, this.fingerprinter);
 	}
 
 	private void cascadeEvict(SessionMetaDataKey key) {
@@ -167,8 +160,10 @@ public class FineSessionAttributesFactory<C, V> implements SessionAttributesFact
 		SessionAttributeActivationNotifier notifier = this.passivationNotifierFactory.apply(id);
 		if (notifier != null) {
 			for (Map.Entry<String, V> entry : attributes.entrySet()) {
+				V value = entry.getValue();
+				if (!SessionAttributeActivationNotifier.isNotificationRequired(value)) continue;
 				try {
-					notification.accept(notifier, this.marshaller.read(entry.getValue()));
+					notification.accept(notifier, this.marshaller.read(value));
 				} catch (IOException e) {
 					LOGGER.log(System.Logger.Level.WARNING, e.getLocalizedMessage(), e);
 				}
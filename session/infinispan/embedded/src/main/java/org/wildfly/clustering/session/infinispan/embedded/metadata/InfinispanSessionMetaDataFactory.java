@@ -20,6 +20,7 @@ import org.wildfly.clustering.function.Consumer;
 import org.wildfly.clustering.function.Function;
 import org.wildfly.clustering.session.ImmutableSessionMetaData;
 import org.wildfly.clustering.session.cache.metadata.InvalidatableSessionMetaData;
+import org.wildfly.clustering.session.cache.metadata.LastAccessThrottle;
 import org.wildfly.clustering.session.cache.metadata.SessionMetaDataFactory;
 import org.wildfly.clustering.session.cache.metadata.coarse.ContextualSessionMetaDataEntry;
 import org.wildfly.clustering.session.cache.metadata.coarse.DefaultImmutableSessionMetaData;
@@ -42,18 +43,29 @@ public class InfinispanSessionMetaDataFactory<C> implements SessionMetaDataFacto
 	private final Cache<SessionMetaDataKey, ContextualSessionMetaDataEntry<C>> silentWriteCache;
 	private final CacheProperties properties;
 	private final CacheEntryMutatorFactory<SessionMetaDataKey, MutableSessionMetaDataOffsetValues> mutatorFactory;
+	private final LastAccessThrottle throttle;
 
 	/**
 	 * Creates a session metadata factory.
 	 * @param configuration the configuration of the associated cache
 	 */
 	public InfinispanSessionMetaDataFactory(EmbeddedCacheConfiguration configuration) {
+		this(configuration, new LastAccessThrottle(0));
+	}
+
+	/**
+	 * Creates a session metadata factory whose persistence of last access times is throttled.
+	 * @param configuration the configuration of the associated cache
+	 * @param throttle a throttle for the persistence of session last access times
+	 */
+	public InfinispanSessionMetaDataFactory(EmbeddedCacheConfiguration configuration, LastAccessThrottle throttle) {
 		this.readForUpdateCache = configuration.getReadForUpdateCache();
 		this.tryReadForUpdateCache = configuration.getTryReadForUpdateCache();
 		this.writeOnlyCache = configuration.getWriteOnlyCache();
 		this.silentWriteCache = configuration.getSilentWriteCache();
 		this.properties = configuration.getCacheProperties();
 		this.mutatorFactory = configuration.getCacheEntryMutatorFactory(SessionMetaDataEntryFunction::new);
+		this.throttle = throttle;
 	}
 
 	@Override
@@ -75,11 +87,13 @@ public class InfinispanSessionMetaDataFactory<C> implements SessionMetaDataFacto
 
 	@Override
 	public CompletionStage<Void> removeAsync(String id) {
+		this.throttle.remove(id);
 		return this.deleteAsync(this.writeOnlyCache, id);
 	}
 
 	@Override
 	public CompletionStage<Void> purgeAsync(String id) {
+		this.throttle.remove(id);
 		return this.deleteAsync(this.silentWriteCache, id);
 	}
 
@@ -89,14 +103,21 @@ public class InfinispanSessionMetaDataFactory<C> implements SessionMetaDataFacto
 
 	@Override
 	public ImmutableSessionMetaData createImmutableSessionMetaData(String id, ContextualSessionMetaDataEntry<C> entry) {
-		return new DefaultImmutableSessionMetaData(entry);
+		return this.throttle.apply(id, new DefaultImmutableSessionMetaData(entry));
 	}
 
 	@Override
 	public InvalidatableSessionMetaData createSessionMetaData(String id, ContextualSessionMetaDataEntry<C> entry) {
 		MutableSessionMetaDataOffsetValues offsetValues = !this.properties.isTransactional() || !entry.isNew() ? MutableSessionMetaDataOffsetValues.from(entry) : null;
-		Runnable mutator = (offsetValues != null) ? this.mutatorFactory.createMutator(new SessionMetaDataKey(id), offsetValues) : CacheEntryMutator.EMPTY;
-		return new DefaultSessionMetaData((offsetValues != null) ? new MutableSessionMetaDataEntry(entry, offsetValues) : entry, mutator);
+		if (offsetValues == null) {
+			return new DefaultSessionMetaData(entry, CacheEntryMutator.EMPTY);
+		}
+		MutableSessionMetaDataEntry mutableEntry = new MutableSessionMetaDataEntry(entry, offsetValues);
+		ImmutableSessionMetaData persisted = new DefaultImmutableSessionMetaData(entry);
+		ImmutableSessionMetaData metaData = new DefaultImmutableSessionMetaData(mutableEntry);
+		// Mutation is only required if timeout was modified, or if last access time drifted beyond the throttle threshold
+		Runnable mutator = CacheEntryMutator.when(() -> !offsetValues.getMaxIdle().getOffset().isZero() || this.throttle.isPersistRequired(id, persisted, metaData), this.mutatorFactory.createMutator(new SessionMetaDataKey(id), offsetValues));
+		return new DefaultSessionMetaData(mutableEntry, mutator);
 	}
 
 	@Override
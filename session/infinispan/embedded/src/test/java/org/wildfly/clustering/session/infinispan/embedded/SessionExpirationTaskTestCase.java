@@ -14,12 +14,14 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.wildfly.clustering.cache.batch.Batch;
 import org.wildfly.clustering.function.Consumer;
 import org.wildfly.clustering.function.Predicate;
 import org.wildfly.clustering.function.Supplier;
 import org.wildfly.clustering.session.ImmutableSession;
 import org.wildfly.clustering.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.session.SessionExpirationListener;
 import org.wildfly.clustering.session.cache.SessionFactory;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributesFactory;
 import org.wildfly.clustering.session.cache.metadata.SessionMetaDataFactory;
@@ -90,4 +92,107 @@ public class SessionExpirationTaskTestCase {
 		verify(listener).accept(expiredSession);
 		verifyNoMoreInteractions(listener);
 	}
+
+	@Test
+	public void deferAttributes() {
+		SessionFactory<Object, UUID, UUID, Object> sessionFactory = mock(SessionFactory.class);
+		Supplier<Batch> batchFactory = mock(Supplier.class);
+		SessionMetaDataFactory<UUID> metaDataFactory = mock(SessionMetaDataFactory.class);
+		SessionAttributesFactory<Object, UUID> attributesFactory = mock(SessionAttributesFactory.class);
+		SessionExpirationListener listener = mock(SessionExpirationListener.class);
+		ImmutableSessionMetaData expiredMetaData = mock(ImmutableSessionMetaData.class);
+		ImmutableSession expiredSession = mock(ImmutableSession.class);
+		String expiredSessionId = "expired";
+		UUID expiredMetaDataValue = UUID.randomUUID();
+		UUID expiredAttributesValue = UUID.randomUUID();
+		Map<String, Object> expiredAttributes = Map.of("foo", "bar");
+		ArgumentCaptor<Map<String, Object>> capturedAttributes = ArgumentCaptor.forClass(Map.class);
+
+		Predicate<String> task = new SessionExpirationTask<>(sessionFactory, batchFactory, listener);
+
+		doReturn(false).when(listener).isAttributeAccessRequired();
+		doReturn(metaDataFactory).when(sessionFactory).getSessionMetaDataFactory();
+		doReturn(attributesFactory).when(sessionFactory).getSessionAttributesFactory();
+		doReturn(expiredMetaDataValue).when(metaDataFactory).tryValue(expiredSessionId);
+		doReturn(expiredMetaData).when(metaDataFactory).createImmutableSessionMetaData(expiredSessionId, expiredMetaDataValue);
+		doReturn(true).when(expiredMetaData).isExpired();
+		doReturn(expiredAttributesValue).when(attributesFactory).findValue(expiredSessionId);
+		doReturn(expiredAttributes).when(attributesFactory).createImmutableSessionAttributes(expiredSessionId, expiredAttributesValue);
+		doReturn(expiredSession).when(sessionFactory).createImmutableSession(same(expiredSessionId), same(expiredMetaData), capturedAttributes.capture());
+
+		assertThat(task.test(expiredSessionId)).isTrue();
+
+		verify(sessionFactory).remove(expiredSessionId);
+		verify(listener).accept(expiredSession);
+
+		// Attributes should not have been loaded, since our listener does not require them
+		verify(attributesFactory, never()).findValue(expiredSessionId);
+
+		// Attributes should load on demand
+		assertThat(capturedAttributes.getValue()).isEqualTo(expiredAttributes);
+
+		verify(attributesFactory).findValue(expiredSessionId);
+	}
+
+	@Test
+	public void missingAttributes() {
+		SessionFactory<Object, UUID, UUID, Object> sessionFactory = mock(SessionFactory.class);
+		Supplier<Batch> batchFactory = mock(Supplier.class);
+		SessionMetaDataFactory<UUID> metaDataFactory = mock(SessionMetaDataFactory.class);
+		SessionAttributesFactory<Object, UUID> attributesFactory = mock(SessionAttributesFactory.class);
+		Consumer<ImmutableSession> listener = mock(Consumer.class);
+		ImmutableSessionMetaData expiredMetaData = mock(ImmutableSessionMetaData.class);
+		String expiredSessionId = "expired";
+		UUID expiredMetaDataValue = UUID.randomUUID();
+
+		Predicate<String> task = new SessionExpirationTask<>(sessionFactory, batchFactory, listener);
+
+		doReturn(metaDataFactory).when(sessionFactory).getSessionMetaDataFactory();
+		doReturn(attributesFactory).when(sessionFactory).getSessionAttributesFactory();
+		doReturn(expiredMetaDataValue).when(metaDataFactory).tryValue(expiredSessionId);
+		doReturn(expiredMetaData).when(metaDataFactory).createImmutableSessionMetaData(expiredSessionId, expiredMetaDataValue);
+		doReturn(true).when(expiredMetaData).isExpired();
+		doReturn(null).when(attributesFactory).findValue(expiredSessionId);
+
+		assertThat(task.test(expiredSessionId)).isTrue();
+
+		// Session should be removed, but listener requiring attributes should not be notified
+		verify(sessionFactory).remove(expiredSessionId);
+		verify(sessionFactory, never()).createImmutableSession(any(), any(), any());
+		verifyNoInteractions(listener);
+	}
+
+	@Test
+	public void deferMissingAttributes() {
+		SessionFactory<Object, UUID, UUID, Object> sessionFactory = mock(SessionFactory.class);
+		Supplier<Batch> batchFactory = mock(Supplier.class);
+		SessionMetaDataFactory<UUID> metaDataFactory = mock(SessionMetaDataFactory.class);
+		SessionAttributesFactory<Object, UUID> attributesFactory = mock(SessionAttributesFactory.class);
+		SessionExpirationListener listener = mock(SessionExpirationListener.class);
+		ImmutableSessionMetaData expiredMetaData = mock(ImmutableSessionMetaData.class);
+		ImmutableSession expiredSession = mock(ImmutableSession.class);
+		String expiredSessionId = "expired";
+		UUID expiredMetaDataValue = UUID.randomUUID();
+		ArgumentCaptor<Map<String, Object>> capturedAttributes = ArgumentCaptor.forClass(Map.class);
+
+		Predicate<String> task = new SessionExpirationTask<>(sessionFactory, batchFactory, listener);
+
+		doReturn(false).when(listener).isAttributeAccessRequired();
+		doReturn(metaDataFactory).when(sessionFactory).getSessionMetaDataFactory();
+		doReturn(attributesFactory).when(sessionFactory).getSessionAttributesFactory();
+		doReturn(expiredMetaDataValue).when(metaDataFactory).tryValue(expiredSessionId);
+		doReturn(expiredMetaData).when(metaDataFactory).createImmutableSessionMetaData(expiredSessionId, expiredMetaDataValue);
+		doReturn(true).when(expiredMetaData).isExpired();
+		doReturn(null).when(attributesFactory).findValue(expiredSessionId);
+		doReturn(expiredSession).when(sessionFactory).createImmutableSession(same(expiredSessionId), same(expiredMetaData), capturedAttributes.capture());
+
+		assertThat(task.test(expiredSessionId)).isTrue();
+
+		// Listener not requiring attributes is notified, since whether attributes exist is not known without loading them
+		verify(sessionFactory).remove(expiredSessionId);
+		verify(listener).accept(expiredSession);
+
+		// Missing attributes should load as empty
+		assertThat(capturedAttributes.getValue()).isEmpty();
+	}
 }
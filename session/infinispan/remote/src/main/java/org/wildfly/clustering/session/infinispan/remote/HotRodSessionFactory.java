@@ -8,7 +8,12 @@ package org.wildfly.clustering.session.infinispan.remote;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 import org.infinispan.client.hotrod.RemoteCache;
@@ -16,18 +21,27 @@ import org.infinispan.client.hotrod.annotation.ClientCacheEntryExpired;
 import org.infinispan.client.hotrod.annotation.ClientListener;
 import org.infinispan.client.hotrod.event.ClientCacheEntryExpiredEvent;
 import org.wildfly.clustering.cache.CacheProperties;
+import org.wildfly.clustering.cache.CoalescingCacheEntryMutator;
 import org.wildfly.clustering.cache.infinispan.remote.RemoteCacheConfiguration;
 import org.wildfly.clustering.session.ImmutableSession;
 import org.wildfly.clustering.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.session.Session;
+import org.wildfly.clustering.session.SessionExpirationListener;
+import org.wildfly.clustering.session.cache.CompositeSession;
 import org.wildfly.clustering.session.cache.CompositeSessionFactory;
 import org.wildfly.clustering.session.cache.SessionFactoryConfiguration;
-import org.wildfly.clustering.session.cache.attributes.SessionAttributesFactory;
+import org.wildfly.clustering.session.cache.attributes.DeferredSessionAttributes;
+import org.wildfly.clustering.session.cache.attributes.SessionAttributes;
 import org.wildfly.clustering.session.cache.metadata.ImmutableSessionMetaDataFactory;
+import org.wildfly.clustering.session.cache.metadata.InvalidatableSessionMetaData;
 import org.wildfly.clustering.session.cache.metadata.fine.DefaultSessionAccessMetaDataEntry;
 import org.wildfly.clustering.session.cache.metadata.fine.DefaultSessionMetaDataEntry;
 import org.wildfly.clustering.session.cache.metadata.fine.SessionAccessMetaDataEntry;
 import org.wildfly.clustering.session.cache.metadata.fine.SessionCreationMetaDataEntry;
 import org.wildfly.clustering.session.cache.metadata.fine.SessionMetaDataEntry;
+import org.wildfly.clustering.session.infinispan.remote.attributes.HotRodSessionAttributesFactory;
+import org.wildfly.clustering.session.infinispan.remote.attributes.SessionAttributesKey;
+import org.wildfly.clustering.session.infinispan.remote.metadata.HotRodSessionMetaDataFactory;
 import org.wildfly.clustering.session.infinispan.remote.metadata.SessionAccessMetaDataKey;
 import org.wildfly.clustering.session.infinispan.remote.metadata.SessionCreationMetaDataKey;
 
@@ -45,6 +59,12 @@ public class HotRodSessionFactory<DC, AV, SC> extends CompositeSessionFactory<DC
 	interface Configuration<DC, AV, SC> extends SessionFactoryConfiguration<DC, SessionMetaDataEntry<SC>, AV, SC> {
 		RemoteCacheConfiguration getCacheConfiguration();
 
+		@Override
+		HotRodSessionMetaDataFactory<SC> getSessionMetaDataFactory();
+
+		@Override
+		HotRodSessionAttributesFactory<DC, AV> getSessionAttributesFactory();
+
 		@Override
 		default CacheProperties getCacheProperties() {
 			return this.getCacheConfiguration().getCacheProperties();
@@ -54,10 +74,14 @@ public class HotRodSessionFactory<DC, AV, SC> extends CompositeSessionFactory<DC
 	}
 
 	private final RemoteCache<SessionCreationMetaDataKey, SessionCreationMetaDataEntry<SC>> creationMetaDataCache;
-	private final ImmutableSessionMetaDataFactory<SessionMetaDataEntry<SC>> metaDataFactory;
-	private final SessionAttributesFactory<DC, AV> attributesFactory;
+	// Used to read all entries of a session in a single round trip, if cache does not lock on read and is not near-cached
+	private final RemoteCache<Object, Object> bulkReadCache;
+	private final HotRodSessionMetaDataFactory<SC> metaDataFactory;
+	private final HotRodSessionAttributesFactory<DC, AV> attributesFactory;
 	private final Consumer<ImmutableSession> expirationListener;
 	private final Executor executor;
+	// Number of sessions created, less the number of sessions removed, via this session factory
+	private final LongAdder sessions = new LongAdder();
 
 	/**
 	 * Constructs a new session factory.
@@ -69,6 +93,7 @@ public class HotRodSessionFactory<DC, AV, SC> extends CompositeSessionFactory<DC
 		this.attributesFactory = configuration.getSessionAttributesFactory();
 		this.expirationListener = configuration.getSessionExpirationListener();
 		this.creationMetaDataCache = configuration.getCacheConfiguration().getForceReturnCache();
+		this.bulkReadCache = !configuration.getCacheProperties().isLockOnRead() && !configuration.getCacheConfiguration().getNearCacheMode().enabled() ? configuration.getCacheConfiguration().getCache() : null;
 		this.executor = configuration.getCacheConfiguration().getExecutor();
 		this.creationMetaDataCache.addClientListener(this);
 	}
@@ -79,6 +104,94 @@ public class HotRodSessionFactory<DC, AV, SC> extends CompositeSessionFactory<DC
 		super.close();
 	}
 
+	/**
+	 * Returns the number of sessions created, less the number of sessions removed, via this session factory.
+	 * This does not require notification of the creation or removal of sessions by other clients.
+	 * Consequently, a session created by one client, but removed by another, is only deducted from the count of the latter, i.e. the total number of sessions is approximated by the sum of this number across all clients.
+	 * @return the number of sessions created, less the number of sessions removed, via this session factory
+	 */
+	long getSessionCount() {
+		return Math.max(0L, this.sessions.sum());
+	}
+
+	@Override
+	public CompletionStage<Map.Entry<SessionMetaDataEntry<SC>, AV>> createValueAsync(String id, Map.Entry<Instant, Optional<Duration>> context) {
+		return super.createValueAsync(id, context).thenApply(entry -> {
+			if (entry != null) {
+				this.sessions.increment();
+			}
+			return entry;
+		});
+	}
+
+	@Override
+	public CompletionStage<Void> removeAsync(String id) {
+		this.sessions.decrement();
+		return super.removeAsync(id);
+	}
+
+	@Override
+	public CompletionStage<Void> purgeAsync(String id) {
+		this.sessions.decrement();
+		return super.purgeAsync(id);
+	}
+
+	@Override
+	public Map.Entry<CompletionStage<SessionMetaDataEntry<SC>>, CompletionStage<AV>> findEntry(String id) {
+		if (this.bulkReadCache == null) return super.findEntry(id);
+
+		Map.Entry<CompletionStage<SessionMetaDataEntry<SC>>, CompletionStage<Object>> entry = this.getEntriesAsync(id);
+		return Map.entry(entry.getKey(), this.attributesFactory.findValueAsync(id, entry.getValue()));
+	}
+
+	@Override
+	public Map.Entry<CompletionStage<SessionMetaDataEntry<SC>>, CompletionStage<AV>> tryEntry(String id) {
+		if (this.bulkReadCache == null) return super.tryEntry(id);
+
+		Map.Entry<CompletionStage<SessionMetaDataEntry<SC>>, CompletionStage<Object>> entry = this.getEntriesAsync(id);
+		return Map.entry(entry.getKey(), this.attributesFactory.tryValueAsync(id, entry.getValue()));
+	}
+
+	@Override
+	public Session<SC> createSession(String id, Map.Entry<SessionMetaDataEntry<SC>, AV> entry, DC context) {
+		SessionMetaDataEntry<SC> metaDataValue = entry.getKey();
+		AV attributesValue = entry.getValue();
+		if ((metaDataValue == null) || (attributesValue == null)) return null;
+		// Coalesce all cache entry mutations of this session, such that they are issued together on close
+		CoalescingCacheEntryMutator mutator = new CoalescingCacheEntryMutator();
+		InvalidatableSessionMetaData metaData = this.metaDataFactory.createSessionMetaData(id, metaDataValue, mutator);
+		SessionAttributes attributes = this.attributesFactory.createSessionAttributes(id, attributesValue, metaData, context, mutator);
+		return new CompositeSession<>(id, metaData, attributes, metaDataValue.getContext(), this.getSessionContextFactory(), this) {
+			@Override
+			public void close() {
+				try {
+					super.close();
+				} finally {
+					mutator.run();
+				}
+			}
+		};
+	}
+
+	/**
+	 * Reads the creation metadata, access metadata, and attributes entries of a session via a single bulk read.
+	 * @param id a session identifier
+	 * @return a tuple of stages yielding the metadata entry and the raw attributes cache entry value of the session
+	 */
+	private Map.Entry<CompletionStage<SessionMetaDataEntry<SC>>, CompletionStage<Object>> getEntriesAsync(String id) {
+		SessionCreationMetaDataKey creationMetaDataKey = new SessionCreationMetaDataKey(id);
+		SessionAccessMetaDataKey accessMetaDataKey = new SessionAccessMetaDataKey(id);
+		SessionAttributesKey attributesKey = new SessionAttributesKey(id);
+		CompletionStage<Map<Object, Object>> entries = this.bulkReadCache.getAllAsync(Set.of(creationMetaDataKey, accessMetaDataKey, attributesKey));
+		CompletionStage<SessionMetaDataEntry<SC>> metaDataStage = entries.thenApply(values -> {
+			@SuppressWarnings("unchecked")
+			SessionCreationMetaDataEntry<SC> creationMetaDataEntry = (SessionCreationMetaDataEntry<SC>) values.get(creationMetaDataKey);
+			SessionAccessMetaDataEntry accessMetaDataEntry = (SessionAccessMetaDataEntry) values.get(accessMetaDataKey);
+			return (creationMetaDataEntry != null) && (accessMetaDataEntry != null) ? new DefaultSessionMetaDataEntry<>(creationMetaDataEntry, accessMetaDataEntry) : null;
+		});
+		return Map.entry(metaDataStage, entries.thenApply(values -> values.get(attributesKey)));
+	}
+
 	/**
 	 * Handles expiration events from the remote cluster.
 	 * @param event a cache entry expiration event
@@ -88,7 +201,7 @@ public class HotRodSessionFactory<DC, AV, SC> extends CompositeSessionFactory<DC
 		if (event.getKey() instanceof SessionAccessMetaDataKey key) {
 			RemoteCache<SessionCreationMetaDataKey, SessionCreationMetaDataEntry<SC>> creationMetaDataCache = this.creationMetaDataCache;
 			ImmutableSessionMetaDataFactory<SessionMetaDataEntry<SC>> metaDataFactory = this.metaDataFactory;
-			SessionAttributesFactory<DC, AV> attributesFactory = this.attributesFactory;
+			HotRodSessionAttributesFactory<DC, AV> attributesFactory = this.attributesFactory;
 			Consumer<ImmutableSession> expirationListener = this.expirationListener;
 			String id = key.getId();
 			Runnable task = new Runnable() {
@@ -96,8 +209,11 @@ public class HotRodSessionFactory<DC, AV, SC> extends CompositeSessionFactory<DC
 				public void run() {
 					SessionCreationMetaDataEntry<SC> creationMetaDataEntry = creationMetaDataCache.remove(new SessionCreationMetaDataKey(id));
 					if (creationMetaDataEntry != null) {
-						AV attributesValue = attributesFactory.findValue(id);
-						if (attributesValue != null) {
+						HotRodSessionFactory.this.sessions.decrement();
+						// Defer loading of session attributes, unless required by our listener
+						// If deferred, our listener is notified even if the attributes of this session are missing, since determining this would require loading them
+						Map<String, Object> attributes = SessionExpirationListener.isAttributeAccessRequired(expirationListener) ? this.findAttributes() : new DeferredSessionAttributes(() -> Objects.requireNonNullElse(this.findAttributes(), Map.of()));
+						if (attributes != null) {
 							// Fabricate a reasonable SessionAccessMetaData
 							SessionAccessMetaDataEntry accessMetaData = new DefaultSessionAccessMetaDataEntry();
 							Duration lastAccess = Duration.ofSeconds(1);
@@ -106,14 +222,19 @@ public class HotRodSessionFactory<DC, AV, SC> extends CompositeSessionFactory<DC
 
 							// Notify session expiration listeners
 							ImmutableSessionMetaData metaData = metaDataFactory.createImmutableSessionMetaData(id, new DefaultSessionMetaDataEntry<>(creationMetaDataEntry, accessMetaData));
-							Map<String, Object> attributes = attributesFactory.createImmutableSessionAttributes(id, attributesValue);
 							ImmutableSession session = HotRodSessionFactory.this.createImmutableSession(id, metaData, attributes);
 							LOGGER.log(System.Logger.Level.TRACE, "Session {0} has expired.", id);
 							expirationListener.accept(session);
+							// If deferred, the attributes of this session may not exist, in which case this is a no-op
 							attributesFactory.remove(id);
 						}
 					}
 				}
+
+				private Map<String, Object> findAttributes() {
+					AV attributesValue = attributesFactory.findValue(id);
+					return (attributesValue != null) ? attributesFactory.createImmutableSessionAttributes(id, attributesValue) : null;
+				}
 			};
 			this.executor.execute(task);
 		}
@@ -5,6 +5,7 @@
 package org.wildfly.clustering.session.infinispan.remote;
 
 import java.util.Set;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -32,6 +33,7 @@ public class HotRodSessionManager<C, MV, AV, SC> extends AbstractSessionManager<
 
 	private final RemoteCache<Key<String>, ?> cache;
 	private final SessionFactory<C, MV, AV, SC> factory;
+	private final LongSupplier counter;
 
 	interface Configuration<C, MV, AV, SC> extends AbstractSessionManager.Configuration<C, MV, AV, SC> {
 		@Override
@@ -40,13 +42,19 @@ public class HotRodSessionManager<C, MV, AV, SC> extends AbstractSessionManager<
 		@Override
 		default java.util.function.Consumer<ImmutableSession> getExpiredSessionHandler() {
 			Consumer<String> remover = this.getSessionFactory()::removeAsync;
-			return this.getExpirationListener().andThen(remover.compose(ImmutableSession::getId));
+			return this.getExpirationListener().andThen(remover.compose(ImmutableSession::getId)).thenRun(this.getSessionLifecycleCounters()::expired);
 		}
 
 		@Override
 		default java.util.function.Consumer<ImmutableSession> getSessionCloseTask() {
 			return Consumer.of();
 		}
+
+		/**
+		 * Returns a supplier of the number of sessions.
+		 * @return a supplier of the number of sessions.
+		 */
+		LongSupplier getSessionCounter();
 	}
 
 	/**
@@ -57,6 +65,7 @@ public class HotRodSessionManager<C, MV, AV, SC> extends AbstractSessionManager<
 		super(configuration);
 		this.cache = configuration.getCacheConfiguration().getCache();
 		this.factory = configuration.getSessionFactory();
+		this.counter = configuration.getSessionCounter();
 	}
 
 	@Override
@@ -84,4 +93,15 @@ public class HotRodSessionManager<C, MV, AV, SC> extends AbstractSessionManager<
 			return keys.filter(SessionCreationMetaDataKey.class::isInstance).map(Key::getId).collect(Collectors.toUnmodifiableSet());
 		}
 	}
+
+	@Override
+	public long getActiveSessionCount() {
+		// There is no distinction between active vs passive sessions
+		return this.getSessionCount();
+	}
+
+	@Override
+	public long getSessionCount() {
+		return this.counter.getAsLong();
+	}
 }
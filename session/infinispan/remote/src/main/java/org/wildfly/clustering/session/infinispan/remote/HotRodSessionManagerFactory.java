@@ -11,6 +11,7 @@ import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
 
 import org.wildfly.clustering.cache.infinispan.remote.RemoteCacheConfiguration;
 import org.wildfly.clustering.function.BiFunction;
@@ -20,7 +21,7 @@ import org.wildfly.clustering.function.Supplier;
 import org.wildfly.clustering.server.Registrar;
 import org.wildfly.clustering.server.Registration;
 import org.wildfly.clustering.server.cache.CacheStrategy;
-import org.wildfly.clustering.server.listener.ConsumerRegistry;
+import org.wildfly.clustering.server.immutable.Immutability;
 import org.wildfly.clustering.server.local.manager.SimpleIdentifierFactoryService;
 import org.wildfly.clustering.server.manager.IdentifierFactoryService;
 import org.wildfly.clustering.session.ImmutableSession;
@@ -29,16 +30,18 @@ import org.wildfly.clustering.session.SessionManagerConfiguration;
 import org.wildfly.clustering.session.SessionManagerFactory;
 import org.wildfly.clustering.session.SessionManagerFactoryConfiguration;
 import org.wildfly.clustering.session.cache.CachedSessionManager;
+import org.wildfly.clustering.session.cache.SessionExpirationListenerRegistry;
 import org.wildfly.clustering.session.cache.SessionFactory;
+import org.wildfly.clustering.session.cache.SessionLifecycleCounters;
 import org.wildfly.clustering.session.cache.attributes.ContainerSessionAttributeActivationNotifier;
 import org.wildfly.clustering.session.cache.attributes.MarshalledValueMarshallerSessionAttributesFactoryConfiguration;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributeActivationNotifier;
-import org.wildfly.clustering.session.cache.attributes.SessionAttributesFactory;
-import org.wildfly.clustering.session.cache.metadata.SessionMetaDataFactory;
+import org.wildfly.clustering.session.cache.metadata.LastAccessThrottle;
 import org.wildfly.clustering.session.cache.metadata.fine.SessionMetaDataEntry;
 import org.wildfly.clustering.session.container.ContainerProvider;
 import org.wildfly.clustering.session.infinispan.remote.attributes.CoarseSessionAttributesFactory;
 import org.wildfly.clustering.session.infinispan.remote.attributes.FineSessionAttributesFactory;
+import org.wildfly.clustering.session.infinispan.remote.attributes.HotRodSessionAttributesFactory;
 import org.wildfly.clustering.session.infinispan.remote.metadata.HotRodSessionMetaDataFactory;
 
 /**
@@ -70,8 +73,11 @@ public class HotRodSessionManagerFactory<CC, SC> implements SessionManagerFactor
 	}
 
 	private final RemoteCacheConfiguration configuration;
+	private final Duration accessCoalescingWindow;
+	private final Immutability immutability;
 	private final Function<SessionManagerConfiguration<CC>, Registrar<SessionManager<SC>>> managerRegistrarFactory;
-	private final SessionFactory<CC, SessionMetaDataEntry<SC>, Object, SC> sessionFactory;
+	private final HotRodSessionFactory<CC, Object, SC> sessionFactory;
+	private final SessionLifecycleCounters counters = new SessionLifecycleCounters();
 	private final Function<CC, String> contextIdentifier;
 	private final Map<String, SessionManager<SC>> managers = new ConcurrentHashMap<>();
 
@@ -86,18 +92,20 @@ public class HotRodSessionManagerFactory<CC, SC> implements SessionManagerFactor
 		LOGGER.log(System.Logger.Level.DEBUG, "{0} configured for {1} container", this.getClass().getSimpleName(), provider);
 		this.contextIdentifier = provider::getId;
 		this.configuration = configuration.getCacheConfiguration();
-		SessionMetaDataFactory<SessionMetaDataEntry<SC>> metaDataFactory = new HotRodSessionMetaDataFactory<>(this.configuration);
+		this.accessCoalescingWindow = configuration.getSessionManagerFactoryConfiguration().getAccessCoalescingWindow();
+		this.immutability = configuration.getSessionManagerFactoryConfiguration().getImmutability();
+		HotRodSessionMetaDataFactory<SC> metaDataFactory = new HotRodSessionMetaDataFactory<>(this.configuration, new LastAccessThrottle(configuration.getSessionManagerFactoryConfiguration().getLastAccessPersistenceThreshold()));
 		@SuppressWarnings("unchecked")
-		SessionAttributesFactory<CC, Object> attributesFactory = (SessionAttributesFactory<CC, Object>) this.createSessionAttributesFactory(configuration, provider);
-		ConsumerRegistry<ImmutableSession> expirationListenerRegistry = ConsumerRegistry.newInstance();
+		HotRodSessionAttributesFactory<CC, Object> attributesFactory = (HotRodSessionAttributesFactory<CC, Object>) this.createSessionAttributesFactory(configuration, provider);
+		SessionExpirationListenerRegistry expirationListenerRegistry = new SessionExpirationListenerRegistry(this.counters);
 		this.sessionFactory = new HotRodSessionFactory<>(new HotRodSessionFactory.Configuration<>() {
 			@Override
-			public SessionMetaDataFactory<SessionMetaDataEntry<SC>> getSessionMetaDataFactory() {
+			public HotRodSessionMetaDataFactory<SC> getSessionMetaDataFactory() {
 				return metaDataFactory;
 			}
 
 			@Override
-			public SessionAttributesFactory<CC, Object> getSessionAttributesFactory() {
+			public HotRodSessionAttributesFactory<CC, Object> getSessionAttributesFactory() {
 				return attributesFactory;
 			}
 
@@ -141,7 +149,8 @@ public class HotRodSessionManagerFactory<CC, SC> implements SessionManagerFactor
 	@Override
 	public SessionManager<SC> createSessionManager(SessionManagerConfiguration<CC> configuration) {
 		RemoteCacheConfiguration cacheConfiguration = this.configuration;
-		SessionFactory<CC, SessionMetaDataEntry<SC>, Object, SC> sessionFactory = this.sessionFactory;
+		HotRodSessionFactory<CC, Object, SC> sessionFactory = this.sessionFactory;
+		SessionLifecycleCounters counters = this.counters;
 		IdentifierFactoryService<String> identifierFactory = new SimpleIdentifierFactoryService<>(configuration.getIdentifierFactory());
 		Registrar<SessionManager<SC>> registrar = this.managerRegistrarFactory.apply(configuration);
 		return new CachedSessionManager<>(new HotRodSessionManager<>(new HotRodSessionManager.Configuration<CC, SessionMetaDataEntry<SC>, Object, SC>() {
@@ -174,7 +183,17 @@ public class HotRodSessionManagerFactory<CC, SC> implements SessionManagerFactor
 			public RemoteCacheConfiguration getCacheConfiguration() {
 				return cacheConfiguration;
 			}
-		}), CacheStrategy.CONCURRENT) {
+
+			@Override
+			public SessionLifecycleCounters getSessionLifecycleCounters() {
+				return counters;
+			}
+
+			@Override
+			public LongSupplier getSessionCounter() {
+				return sessionFactory::getSessionCount;
+			}
+		}), CacheStrategy.CONCURRENT, this.accessCoalescingWindow, this.immutability, cacheConfiguration.getExecutor()) {
 			private final AtomicReference<Registration> registration = new AtomicReference<>();
 
 			@Override
@@ -199,7 +218,7 @@ public class HotRodSessionManagerFactory<CC, SC> implements SessionManagerFactor
 		this.sessionFactory.close();
 	}
 
-	private <S, L> SessionAttributesFactory<CC, ?> createSessionAttributesFactory(Configuration<SC> configuration, ContainerProvider<CC, S, L, SC> provider) {
+	private <S, L> HotRodSessionAttributesFactory<CC, ?> createSessionAttributesFactory(Configuration<SC> configuration, ContainerProvider<CC, S, L, SC> provider) {
 		BiFunction<ImmutableSession, CC, SessionAttributeActivationNotifier> notifierFactory = (session, context) -> Optional.ofNullable(this.findSessionManager(context)).map(manager -> new ContainerSessionAttributeActivationNotifier<>(provider, provider.getSession(manager, session, context))).orElse(null);
 		return switch (configuration.getSessionManagerFactoryConfiguration().getAttributePersistenceStrategy()) {
 			case FINE -> new FineSessionAttributesFactory<>(new MarshalledValueMarshallerSessionAttributesFactoryConfiguration<>(configuration.getSessionManagerFactoryConfiguration()), notifierFactory, configuration.getCacheConfiguration());
@@ -15,6 +15,7 @@ import java.util.function.BiFunction;
 import org.infinispan.client.hotrod.RemoteCache;
 import org.wildfly.clustering.cache.CacheEntryMutatorFactory;
 import org.wildfly.clustering.cache.CacheProperties;
+import org.wildfly.clustering.cache.CoalescingCacheEntryMutator;
 import org.wildfly.clustering.cache.infinispan.remote.RemoteCacheConfiguration;
 import org.wildfly.clustering.function.Consumer;
 import org.wildfly.clustering.function.Function;
@@ -25,6 +26,7 @@ import org.wildfly.clustering.session.ImmutableSession;
 import org.wildfly.clustering.session.ImmutableSessionMetaData;
 import org.wildfly.clustering.session.cache.CompositeImmutableSession;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributeActivationNotifier;
+import org.wildfly.clustering.session.cache.attributes.SessionAttributeFingerprinter;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributes;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributesFactory;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributesFactoryConfiguration;
@@ -37,13 +39,14 @@ import org.wildfly.clustering.session.cache.attributes.coarse.CoarseSessionAttri
  * @param <V> the cache value type
  * @author Paul Ferraro
  */
-public class CoarseSessionAttributesFactory<C, V> implements SessionAttributesFactory<C, Map<String, Object>> {
+public class CoarseSessionAttributesFactory<C, V> implements HotRodSessionAttributesFactory<C, Map<String, Object>> {
 	private static final System.Logger LOGGER = System.getLogger(CoarseSessionAttributesFactory.class.getName());
 
 	private final RemoteCache<SessionAttributesKey, V> readCache;
 	private final RemoteCache<SessionAttributesKey, V> writeCache;
 	private final Marshaller<Map<String, Object>, V> marshaller;
 	private final Immutability immutability;
+	private final SessionAttributeFingerprinter fingerprinter;
 	private final CacheProperties properties;
 	private final CacheEntryMutatorFactory<SessionAttributesKey, V> mutatorFactory;
 	private final BiFunction<ImmutableSession, C, SessionAttributeActivationNotifier> notifierFactory;
@@ -59,6 +62,7 @@ public class CoarseSessionAttributesFactory<C, V> implements SessionAttributesFa
 		this.writeCache = hotrod.getIgnoreReturnCache();
 		this.marshaller = configuration.getMarshaller();
 		this.immutability = configuration.getImmutability();
+		this.fingerprinter = configuration.getFingerprinter();
 		this.properties = hotrod.getCacheProperties();
 		this.mutatorFactory = hotrod.getCacheEntryMutatorFactory();
 		this.notifierFactory = notifierFactory;
@@ -77,7 +81,17 @@ public class CoarseSessionAttributesFactory<C, V> implements SessionAttributesFa
 
 	@Override
 	public CompletionStage<Map<String, Object>> findValueAsync(String id) {
-		return this.getValueAsync(id).exceptionally(e -> {
+		return this.findValueAsync(id, this.readCache.getAsync(new SessionAttributesKey(id)));
+	}
+
+	@Override
+	public CompletionStage<Map<String, Object>> tryValueAsync(String id) {
+		return this.tryValueAsync(id, this.readCache.getAsync(new SessionAttributesKey(id)));
+	}
+
+	@Override
+	public CompletionStage<Map<String, Object>> findValueAsync(String id, CompletionStage<?> entry) {
+		return this.getValueAsync(id, entry).exceptionally(e -> {
 			LOGGER.log(System.Logger.Level.WARNING, e.getLocalizedMessage(), e);
 			this.removeAsync(id);
 			return null;
@@ -85,14 +99,16 @@ public class CoarseSessionAttributesFactory<C, V> implements SessionAttributesFa
 	}
 
 	@Override
-	public CompletionStage<Map<String, Object>> tryValueAsync(String id) {
-		return this.getValueAsync(id).exceptionally(Function.of(null));
+	public CompletionStage<Map<String, Object>> tryValueAsync(String id, CompletionStage<?> entry) {
+		return this.getValueAsync(id, entry).exceptionally(Function.of(null));
 	}
 
-	private CompletionStage<Map<String, Object>> getValueAsync(String id) {
-		return this.readCache.getAsync(new SessionAttributesKey(id)).thenApply(value -> {
+	private CompletionStage<Map<String, Object>> getValueAsync(String id, CompletionStage<?> entry) {
+		return entry.thenApply(value -> {
 			try {
-				return (value != null) ? this.marshaller.read(value) : null;
+				@SuppressWarnings("unchecked")
+				V attributes = (V) value;
+				return (attributes != null) ? this.marshaller.read(attributes) : null;
 			} catch (IOException e) {
 				throw new UncheckedIOException(id, e);
 			}
@@ -106,10 +122,19 @@ public class CoarseSessionAttributesFactory<C, V> implements SessionAttributesFa
 
 	@Override
 	public SessionAttributes createSessionAttributes(String id, Map<String, Object> attributes, ImmutableSessionMetaData metaData, C context) {
+		return this.createSessionAttributes(id, attributes, metaData, context, this.mutatorFactory);
+	}
+
+	@Override
+	public SessionAttributes createSessionAttributes(String id, Map<String, Object> attributes, ImmutableSessionMetaData metaData, C context, CoalescingCacheEntryMutator mutator) {
+		return this.createSessionAttributes(id, attributes, metaData, context, mutator.defer(this.mutatorFactory));
+	}
+
+	private SessionAttributes createSessionAttributes(String id, Map<String, Object> attributes, ImmutableSessionMetaData metaData, C context, CacheEntryMutatorFactory<SessionAttributesKey, V> mutatorFactory) {
 		try {
-			Runnable mutator = this.mutatorFactory.createMutator(new SessionAttributesKey(id), this.marshaller.write(attributes));
+			Runnable mutator = mutatorFactory.createMutator(new SessionAttributesKey(id), this.marshaller.write(attributes));
 			SessionAttributeActivationNotifier notifier = this.properties.isPersistent() ? this.notifierFactory.apply(new CompositeImmutableSession(id, metaData, attributes), context) : SessionAttributeActivationNotifier.SILENT;
-			return new CoarseSessionAttributes(attributes, mutator, this.properties.isMarshalling() ? this.marshaller : Predicate.of(true), this.immutability, notifier);
+			return new CoarseSessionAttributes(attributes, mutator, this.properties.isMarshalling() ? this.marshaller : Predicate.of(true), this.immutability, notifier, this.fingerprinter);
 		} catch (IOException e) {
 			throw new IllegalStateException(e);
 		}
@@ -5,10 +5,7 @@
 
 package org.wildfly.clustering.session.infinispan.remote.attributes;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.util.Map;
-import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
@@ -16,6 +13,7 @@ import java.util.function.BiFunction;
 import org.infinispan.client.hotrod.RemoteCache;
 import org.wildfly.clustering.cache.CacheEntryMutatorFactory;
 import org.wildfly.clustering.cache.CacheProperties;
+import org.wildfly.clustering.cache.CoalescingCacheEntryMutator;
 import org.wildfly.clustering.cache.infinispan.remote.RemoteCacheConfiguration;
 import org.wildfly.clustering.function.Consumer;
 import org.wildfly.clustering.function.Function;
@@ -25,10 +23,12 @@ import org.wildfly.clustering.session.ImmutableSession;
 import org.wildfly.clustering.session.ImmutableSessionMetaData;
 import org.wildfly.clustering.session.cache.CompositeImmutableSession;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributeActivationNotifier;
+import org.wildfly.clustering.session.cache.attributes.SessionAttributeFingerprinter;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributes;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributesFactory;
 import org.wildfly.clustering.session.cache.attributes.SessionAttributesFactoryConfiguration;
 import org.wildfly.clustering.session.cache.attributes.fine.FineSessionAttributes;
+import org.wildfly.clustering.session.cache.attributes.fine.LazySessionAttributeMap;
 import org.wildfly.clustering.session.cache.attributes.fine.SessionAttributeMapComputeFunction;
 
 /**
@@ -39,13 +39,14 @@ import org.wildfly.clustering.session.cache.attributes.fine.SessionAttributeMapC
  * @param <V> the cache value type
  * @author Paul Ferraro
  */
-public class FineSessionAttributesFactory<C, V> implements SessionAttributesFactory<C, Map<String, Object>> {
+public class FineSessionAttributesFactory<C, V> implements HotRodSessionAttributesFactory<C, Map<String, Object>> {
 	private static final System.Logger LOGGER = System.getLogger(FineSessionAttributesFactory.class.getName());
 
 	private final RemoteCache<SessionAttributesKey, Map<String, V>> readCache;
 	private final RemoteCache<SessionAttributesKey, Map<String, V>> writeCache;
 	private final Marshaller<Object, V> marshaller;
 	private final Immutability immutability;
+	private final SessionAttributeFingerprinter fingerprinter;
 	private final CacheProperties properties;
 	private final CacheEntryMutatorFactory<SessionAttributesKey, Map<String, V>> mutatorFactory;
 	private final BiFunction<ImmutableSession, C, SessionAttributeActivationNotifier> notifierFactory;
@@ -61,6 +62,7 @@ public class FineSessionAttributesFactory<C, V> implements SessionAttributesFact
 		this.writeCache = hotrod.getIgnoreReturnCache();
 		this.marshaller = configuration.getMarshaller();
 		this.immutability = configuration.getImmutability();
+		this.fingerprinter = configuration.getFingerprinter();
 		this.properties = hotrod.getCacheProperties();
 		this.mutatorFactory = hotrod.getCacheEntryMutatorFactory(SessionAttributeMapComputeFunction::new);
 		this.notifierFactory = notifierFactory;
@@ -68,7 +70,7 @@ public class FineSessionAttributesFactory<C, V> implements SessionAttributesFact
 
 	@Override
 	public Map<String, Object> createValue(String id, Void context) {
-		return new TreeMap<>();
+		return new LazySessionAttributeMap<>(this.marshaller);
 	}
 
 	@Override
@@ -78,7 +80,17 @@ public class FineSessionAttributesFactory<C, V> implements SessionAttributesFact
 
 	@Override
 	public CompletionStage<Map<String, Object>> findValueAsync(String id) {
-		return this.getValueAsync(id).exceptionally(e -> {
+		return this.findValueAsync(id, this.readCache.getAsync(new SessionAttributesKey(id)));
+	}
+
+	@Override
+	public CompletionStage<Map<String, Object>> tryValueAsync(String id) {
+		return this.tryValueAsync(id, this.readCache.getAsync(new SessionAttributesKey(id)));
+	}
+
+	@Override
+	public CompletionStage<Map<String, Object>> findValueAsync(String id, CompletionStage<?> entry) {
+		return this.getValueAsync(id, entry).exceptionally(e -> {
 			LOGGER.log(System.Logger.Level.WARNING, e.getLocalizedMessage(), e);
 			this.purgeAsync(id);
 			return null;
@@ -86,24 +98,16 @@ public class FineSessionAttributesFactory<C, V> implements SessionAttributesFact
 	}
 
 	@Override
-	public CompletionStage<Map<String, Object>> tryValueAsync(String id) {
-		return this.getValueAsync(id).exceptionally(Function.of(null));
+	public CompletionStage<Map<String, Object>> tryValueAsync(String id, CompletionStage<?> entry) {
+		return this.getValueAsync(id, entry).exceptionally(Function.of(null));
 	}
 
-	private CompletionStage<Map<String, Object>> getValueAsync(String id) {
-		return this.readCache.getAsync(new SessionAttributesKey(id)).thenApply(values -> {
-			Map<String, Object> attributes = this.createValue(id, null);
-			if (values != null) {
-				for (Map.Entry<String, V> entry : values.entrySet()) {
-					String attributeName = entry.getKey();
-					try {
-						attributes.put(attributeName, this.marshaller.read(entry.getValue()));
-					} catch (IOException e) {
-						throw new UncheckedIOException(attributeName, e);
-					}
-				}
-			}
-			return attributes;
+	private CompletionStage<Map<String, Object>> getValueAsync(String id, CompletionStage<?> entry) {
+		return entry.thenApply(value -> {
+			@SuppressWarnings("unchecked")
+			Map<String, V> values = (Map<String, V>) value;
+			// Defer unmarshalling of attribute values until first access
+			return (values != null) ? new LazySessionAttributeMap<>(values, this.marshaller) : this.createValue(id, null);
 		});
 	}
 
@@ -114,8 +118,17 @@ public class FineSessionAttributesFactory<C, V> implements SessionAttributesFact
 
 	@Override
 	public SessionAttributes createSessionAttributes(String id, Map<String, Object> attributes, ImmutableSessionMetaData metaData, C context) {
+		return this.createSessionAttributes(id, attributes, metaData, context, this.mutatorFactory);
+	}
+
+	@Override
+	public SessionAttributes createSessionAttributes(String id, Map<String, Object> attributes, ImmutableSessionMetaData metaData, C context, CoalescingCacheEntryMutator mutator) {
+		return this.createSessionAttributes(id, attributes, metaData, context, mutator.defer(this.mutatorFactory));
+	}
+
+	private SessionAttributes createSessionAttributes(String id, Map<String, Object> attributes, ImmutableSessionMetaData metaData, C context, CacheEntryMutatorFactory<SessionAttributesKey, Map<String, V>> mutatorFactory) {
 		SessionAttributeActivationNotifier notifier = this.properties.isPersistent() ? this.notifierFactory.apply(new CompositeImmutableSession(id, metaData, attributes), context) : null;
-		return new FineSessionAttributes<>(new SessionAttributesKey(id), attributes, this.mutatorFactory, this.marshaller, this.immutability, notifier);
+		return new FineSessionAttributes<>(new SessionAttributesKey(id), attributes, mutatorFactory, this.marshaller, this.immutability, notifier, this.fingerprinter);
 	}
 
 	@Override
@@ -0,0 +1,50 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session.infinispan.remote.attributes;
+
+import java.util.concurrent.CompletionStage;
+
+import org.wildfly.clustering.cache.CoalescingCacheEntryMutator;
+import org.wildfly.clustering.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.session.cache.attributes.SessionAttributes;
+import org.wildfly.clustering.session.cache.attributes.SessionAttributesFactory;
+
+/**
+ * A {@link SessionAttributesFactory} whose cache entry may be fetched by the caller, e.g. in bulk with the other cache entries of a session.
+ * @param <C> the session manager context type
+ * @param <V> the session attributes value type
+ * @author Paul Ferraro
+ */
+public interface HotRodSessionAttributesFactory<C, V> extends SessionAttributesFactory<C, V> {
+
+	/**
+	 * Locates the session attributes from the specified stage yielding its {@link SessionAttributesKey} cache entry value.
+	 * Unreadable session attributes are removed.
+	 * @param id a session identifier
+	 * @param entry a stage yielding the cache entry value of the session attributes, or null, if no such entry exists
+	 * @return a stage yielding the session attributes, or null, if no such entry exists or if the entry could not be read
+	 */
+	CompletionStage<V> findValueAsync(String id, CompletionStage<?> entry);
+
+	/**
+	 * Locates the session attributes from the specified stage yielding its {@link SessionAttributesKey} cache entry value.
+	 * @param id a session identifier
+	 * @param entry a stage yielding the cache entry value of the session attributes, or null, if no such entry exists
+	 * @return a stage yielding the session attributes, or null, if no such entry exists or if the entry could not be read
+	 */
+	CompletionStage<V> tryValueAsync(String id, CompletionStage<?> entry);
+
+	/**
+	 * Creates a {@link SessionAttributes} object whose mutations are deferred until the specified coalescing mutator is run.
+	 * @param id the identifier of a session
+	 * @param value the session attributes value
+	 * @param metaData the metadata of a session
+	 * @param context the context of a session
+	 * @param mutator a coalescing mutator
+	 * @return a {@link SessionAttributes} object.
+	 */
+	SessionAttributes createSessionAttributes(String id, V value, ImmutableSessionMetaData metaData, C context, CoalescingCacheEntryMutator mutator);
+}
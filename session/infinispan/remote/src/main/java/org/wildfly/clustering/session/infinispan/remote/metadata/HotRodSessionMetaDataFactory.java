@@ -18,6 +18,7 @@ import org.infinispan.client.hotrod.RemoteCache;
 import org.infinispan.commons.util.concurrent.CompletableFutures;
 import org.wildfly.clustering.cache.CacheEntryMutator;
 import org.wildfly.clustering.cache.CacheEntryMutatorFactory;
+import org.wildfly.clustering.cache.CoalescingCacheEntryMutator;
 import org.wildfly.clustering.cache.infinispan.remote.RemoteCacheConfiguration;
 import org.wildfly.clustering.function.BiFunction;
 import org.wildfly.clustering.function.Consumer;
@@ -25,6 +26,7 @@ import org.wildfly.clustering.function.Function;
 import org.wildfly.clustering.server.offset.OffsetValue;
 import org.wildfly.clustering.session.ImmutableSessionMetaData;
 import org.wildfly.clustering.session.cache.metadata.InvalidatableSessionMetaData;
+import org.wildfly.clustering.session.cache.metadata.LastAccessThrottle;
 import org.wildfly.clustering.session.cache.metadata.SessionMetaDataFactory;
 import org.wildfly.clustering.session.cache.metadata.fine.CompositeImmutableSessionMetaData;
 import org.wildfly.clustering.session.cache.metadata.fine.CompositeSessionMetaData;
@@ -56,12 +58,23 @@ public class HotRodSessionMetaDataFactory<C> implements SessionMetaDataFactory<S
 	private final RemoteCache<SessionAccessMetaDataKey, SessionAccessMetaDataEntry> writeAccessMetaDataCache;
 	private final CacheEntryMutatorFactory<SessionCreationMetaDataKey, OffsetValue<Duration>> creationMetaDataMutatorFactory;
 	private final CacheEntryMutatorFactory<SessionAccessMetaDataKey, MutableSessionAccessMetaDataOffsetValues> accessMetaDataMutatorFactory;
+	private final LastAccessThrottle throttle;
 
 	/**
 	 * Creates a session metadata factory.
 	 * @param configuration the configuration of the associated cache
 	 */
 	public HotRodSessionMetaDataFactory(RemoteCacheConfiguration configuration) {
+		this(configuration, new LastAccessThrottle(0));
+	}
+
+	/**
+	 * Creates a session metadata factory whose persistence of last access times is throttled.
+	 * Throttling is disabled if a near cache is enabled, since reads served by the near cache do not reset the maximum idle duration of the remote access metadata entry.
+	 * @param configuration the configuration of the associated cache
+	 * @param throttle a throttle for the persistence of session last access times
+	 */
+	public HotRodSessionMetaDataFactory(RemoteCacheConfiguration configuration, LastAccessThrottle throttle) {
 		this.readCreationMetaDataCache = configuration.getReadForUpdateCache();
 		this.tryReadCreationMetaDataCache = configuration.getTryReadForUpdateCache();
 		this.writeCreationMetaDataCache = configuration.getIgnoreReturnCache();
@@ -69,6 +82,7 @@ public class HotRodSessionMetaDataFactory<C> implements SessionMetaDataFactory<S
 		this.writeAccessMetaDataCache = configuration.getIgnoreReturnCache();
 		this.creationMetaDataMutatorFactory = configuration.getCacheEntryMutatorFactory(SessionCreationMetaDataEntryFunction::new);
 		this.accessMetaDataMutatorFactory = configuration.getCacheEntryMutatorFactory(SessionAccessMetaDataEntryFunction::new);
+		this.throttle = !configuration.getNearCacheMode().enabled() ? throttle : new LastAccessThrottle(0);
 	}
 
 	@Override
@@ -106,6 +120,7 @@ public class HotRodSessionMetaDataFactory<C> implements SessionMetaDataFactory<S
 
 	@Override
 	public CompletionStage<Void> removeAsync(String id) {
+		this.throttle.remove(id);
 		CompletableFuture<?> creationMetaData = this.writeCreationMetaDataCache.removeAsync(new SessionCreationMetaDataKey(id));
 		CompletableFuture<?> accessMetaData = this.writeAccessMetaDataCache.removeAsync(new SessionAccessMetaDataKey(id));
 		return CompletableFuture.allOf(creationMetaData, accessMetaData).thenAccept(Consumer.of());
@@ -113,21 +128,40 @@ public class HotRodSessionMetaDataFactory<C> implements SessionMetaDataFactory<S
 
 	@Override
 	public InvalidatableSessionMetaData createSessionMetaData(String id, SessionMetaDataEntry<C> entry) {
+		return this.createSessionMetaData(id, entry, this.creationMetaDataMutatorFactory, this.accessMetaDataMutatorFactory);
+	}
+
+	/**
+	 * Creates session metadata whose mutations are deferred until the specified coalescing mutator is run.
+	 * @param id a session identifier
+	 * @param entry a session metadata entry
+	 * @param mutator a coalescing mutator
+	 * @return session metadata
+	 */
+	public InvalidatableSessionMetaData createSessionMetaData(String id, SessionMetaDataEntry<C> entry, CoalescingCacheEntryMutator mutator) {
+		return this.createSessionMetaData(id, entry, mutator.defer(this.creationMetaDataMutatorFactory), mutator.defer(this.accessMetaDataMutatorFactory));
+	}
+
+	private InvalidatableSessionMetaData createSessionMetaData(String id, SessionMetaDataEntry<C> entry, CacheEntryMutatorFactory<SessionCreationMetaDataKey, OffsetValue<Duration>> creationMetaDataMutatorFactory, CacheEntryMutatorFactory<SessionAccessMetaDataKey, MutableSessionAccessMetaDataOffsetValues> accessMetaDataMutatorFactory) {
 		OffsetValue<Duration> timeoutOffset = OffsetValue.from(entry.getCreationMetaDataEntry().getMaxIdle());
 		SessionCreationMetaData creationMetaData = new MutableSessionCreationMetaData(entry.getCreationMetaDataEntry(), timeoutOffset);
 
 		MutableSessionAccessMetaDataOffsetValues values = MutableSessionAccessMetaDataOffsetValues.from(entry.getAccessMetaDataEntry());
 		SessionAccessMetaData accessMetaData = new MutableSessionAccessMetaData(entry.getAccessMetaDataEntry(), values);
 
-		CacheEntryMutator creationMetaDataMutator = this.creationMetaDataMutatorFactory.createMutator(new SessionCreationMetaDataKey(id), timeoutOffset);
-		CacheEntryMutator accessMetaDataMutator = this.accessMetaDataMutatorFactory.createMutator(new SessionAccessMetaDataKey(id), values).withMaxIdle(creationMetaData::getMaxIdle);
+		// Creation metadata only needs mutation if its timeout was modified
+		CacheEntryMutator creationMetaDataMutator = CacheEntryMutator.when(() -> !timeoutOffset.getOffset().isZero(), creationMetaDataMutatorFactory.createMutator(new SessionCreationMetaDataKey(id), timeoutOffset));
+		ImmutableSessionMetaData persisted = new CompositeImmutableSessionMetaData(entry.getCreationMetaDataEntry(), entry.getAccessMetaDataEntry());
+		ImmutableSessionMetaData metaData = new CompositeImmutableSessionMetaData(creationMetaData, accessMetaData);
+		// Access metadata only needs mutation if its timeout was modified, or if last access time drifted beyond the throttle threshold
+		CacheEntryMutator accessMetaDataMutator = CacheEntryMutator.when(() -> !timeoutOffset.getOffset().isZero() || this.throttle.isPersistRequired(id, persisted, metaData), accessMetaDataMutatorFactory.createMutator(new SessionAccessMetaDataKey(id), values).withMaxIdle(creationMetaData::getMaxIdle));
 		CacheEntryMutator mutator = CacheEntryMutator.of(List.of(creationMetaDataMutator, accessMetaDataMutator));
 		return new CompositeSessionMetaData(creationMetaData, accessMetaData, mutator);
 	}
 
 	@Override
 	public ImmutableSessionMetaData createImmutableSessionMetaData(String id, SessionMetaDataEntry<C> entry) {
-		return new CompositeImmutableSessionMetaData(entry.getCreationMetaDataEntry(), entry.getAccessMetaDataEntry());
+		return this.throttle.apply(id, new CompositeImmutableSessionMetaData(entry.getCreationMetaDataEntry(), entry.getAccessMetaDataEntry()));
 	}
 
 	@Override
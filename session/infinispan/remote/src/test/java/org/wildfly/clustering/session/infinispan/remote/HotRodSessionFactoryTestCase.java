@@ -0,0 +1,181 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session.infinispan.remote;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.event.ClientCacheEntryExpiredEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.wildfly.clustering.cache.CacheProperties;
+import org.wildfly.clustering.cache.infinispan.remote.RemoteCacheConfiguration;
+import org.wildfly.clustering.session.ImmutableSession;
+import org.wildfly.clustering.session.ImmutableSessionMetaData;
+import org.wildfly.clustering.session.SessionExpirationListener;
+import org.wildfly.clustering.session.cache.metadata.fine.SessionCreationMetaDataEntry;
+import org.wildfly.clustering.session.cache.metadata.fine.SessionMetaDataEntry;
+import org.wildfly.clustering.session.infinispan.remote.attributes.HotRodSessionAttributesFactory;
+import org.wildfly.clustering.session.infinispan.remote.metadata.HotRodSessionMetaDataFactory;
+import org.wildfly.clustering.session.infinispan.remote.metadata.SessionAccessMetaDataKey;
+import org.wildfly.clustering.session.infinispan.remote.metadata.SessionCreationMetaDataKey;
+
+/**
+ * Unit test for {@link HotRodSessionFactory}.
+ * @author Paul Ferraro
+ */
+public class HotRodSessionFactoryTestCase {
+
+	private final HotRodSessionFactory.Configuration<Void, UUID, Void> configuration = mock(HotRodSessionFactory.Configuration.class);
+	private final RemoteCacheConfiguration cacheConfiguration = mock(RemoteCacheConfiguration.class);
+	private final RemoteCache<Object, Object> cache = mock(RemoteCache.class);
+	private final RemoteCache<Object, Object> creationMetaDataCache = mock(RemoteCache.class);
+	private final CacheProperties properties = mock(CacheProperties.class);
+	private final HotRodSessionMetaDataFactory<Void> metaDataFactory = mock(HotRodSessionMetaDataFactory.class);
+	private final HotRodSessionAttributesFactory<Void, UUID> attributesFactory = mock(HotRodSessionAttributesFactory.class);
+	private final SessionCreationMetaDataEntry<Void> creationMetaDataEntry = mock(SessionCreationMetaDataEntry.class);
+	private final ImmutableSessionMetaData metaData = mock(ImmutableSessionMetaData.class);
+	private final ClientCacheEntryExpiredEvent<Object> event = mock(ClientCacheEntryExpiredEvent.class);
+	private final String id = "expired";
+
+	private HotRodSessionFactory<Void, UUID, Void> createSessionFactory(Consumer<ImmutableSession> listener) {
+		doReturn(this.cacheConfiguration).when(this.configuration).getCacheConfiguration();
+		doReturn(this.properties).when(this.configuration).getCacheProperties();
+		doReturn(this.metaDataFactory).when(this.configuration).getSessionMetaDataFactory();
+		doReturn(this.attributesFactory).when(this.configuration).getSessionAttributesFactory();
+		doReturn(listener).when(this.configuration).getSessionExpirationListener();
+		doReturn(true).when(this.properties).isLockOnRead();
+		doReturn(this.cache).when(this.cacheConfiguration).getCache();
+		doReturn((Executor) Runnable::run).when(this.cacheConfiguration).getExecutor();
+		doReturn(this.creationMetaDataCache).when(this.cacheConfiguration).getForceReturnCache();
+
+		doReturn(new SessionAccessMetaDataKey(this.id)).when(this.event).getKey();
+		doReturn(this.creationMetaDataEntry).when(this.creationMetaDataCache).remove(new SessionCreationMetaDataKey(this.id));
+		doReturn(Instant.now().minus(Duration.ofMinutes(2))).when(this.creationMetaDataEntry).getCreationTime();
+		doReturn(Duration.ofMinutes(1)).when(this.creationMetaDataEntry).getMaxIdle();
+		doReturn(this.metaData).when(this.metaDataFactory).createImmutableSessionMetaData(same(this.id), any());
+
+		return new HotRodSessionFactory<>(this.configuration);
+	}
+
+	@Test
+	public void expired() {
+		Consumer<ImmutableSession> listener = mock(Consumer.class);
+		HotRodSessionFactory<Void, UUID, Void> factory = this.createSessionFactory(listener);
+		UUID attributesValue = UUID.randomUUID();
+		Map<String, Object> attributes = Map.of("foo", "bar");
+		ArgumentCaptor<ImmutableSession> capturedSession = ArgumentCaptor.forClass(ImmutableSession.class);
+
+		doReturn(attributesValue).when(this.attributesFactory).findValue(this.id);
+		doReturn(attributes).when(this.attributesFactory).createImmutableSessionAttributes(this.id, attributesValue);
+
+		factory.expired(this.event);
+
+		verify(listener).accept(capturedSession.capture());
+		assertThat(capturedSession.getValue().getId()).isSameAs(this.id);
+		assertThat(factory.getSessionCount()).isZero();
+		assertThat(capturedSession.getValue().getMetaData()).isSameAs(this.metaData);
+		assertThat(capturedSession.getValue().getAttributes()).isEqualTo(attributes);
+		verify(this.attributesFactory).remove(this.id);
+	}
+
+	@Test
+	public void expiredMissingAttributes() {
+		Consumer<ImmutableSession> listener = mock(Consumer.class);
+		HotRodSessionFactory<Void, UUID, Void> factory = this.createSessionFactory(listener);
+
+		doReturn(null).when(this.attributesFactory).findValue(this.id);
+
+		factory.expired(this.event);
+
+		// Listener requiring attributes should not be notified
+		verifyNoInteractions(listener);
+		verify(this.attributesFactory, never()).remove(this.id);
+	}
+
+	@Test
+	public void expiredDeferAttributes() {
+		SessionExpirationListener listener = mock(SessionExpirationListener.class);
+		HotRodSessionFactory<Void, UUID, Void> factory = this.createSessionFactory(listener);
+		UUID attributesValue = UUID.randomUUID();
+		Map<String, Object> attributes = Map.of("foo", "bar");
+		ArgumentCaptor<ImmutableSession> capturedSession = ArgumentCaptor.forClass(ImmutableSession.class);
+
+		doReturn(false).when(listener).isAttributeAccessRequired();
+		doReturn(attributesValue).when(this.attributesFactory).findValue(this.id);
+		doReturn(attributes).when(this.attributesFactory).createImmutableSessionAttributes(this.id, attributesValue);
+
+		factory.expired(this.event);
+
+		verify(listener).accept(capturedSession.capture());
+		verify(this.attributesFactory).remove(this.id);
+
+		// Attributes should not have been loaded, since our listener does not require them
+		verify(this.attributesFactory, never()).findValue(this.id);
+
+		// Attributes should load on demand
+		assertThat(capturedSession.getValue().getAttributes()).isEqualTo(attributes);
+
+		verify(this.attributesFactory).findValue(this.id);
+	}
+
+	@Test
+	public void expiredDeferMissingAttributes() {
+		SessionExpirationListener listener = mock(SessionExpirationListener.class);
+		HotRodSessionFactory<Void, UUID, Void> factory = this.createSessionFactory(listener);
+		ArgumentCaptor<ImmutableSession> capturedSession = ArgumentCaptor.forClass(ImmutableSession.class);
+
+		doReturn(false).when(listener).isAttributeAccessRequired();
+		doReturn(null).when(this.attributesFactory).findValue(this.id);
+
+		factory.expired(this.event);
+
+		// Listener not requiring attributes is notified, since whether attributes exist is not known without loading them
+		verify(listener).accept(capturedSession.capture());
+		// Removal of missing attributes is a no-op
+		verify(this.attributesFactory).remove(this.id);
+
+		// Missing attributes should load as empty
+		assertThat(capturedSession.getValue().getAttributes()).isEmpty();
+	}
+
+	@Test
+	public void sessionCount() {
+		HotRodSessionFactory<Void, UUID, Void> factory = this.createSessionFactory(mock(Consumer.class));
+		Map.Entry<Instant, Optional<Duration>> context = Map.entry(Instant.now(), Optional.empty());
+		UUID attributesValue = UUID.randomUUID();
+
+		doReturn(CompletableFuture.completedStage(mock(SessionMetaDataEntry.class))).when(this.metaDataFactory).createValueAsync(this.id, context);
+		doReturn(CompletableFuture.completedStage(attributesValue)).when(this.attributesFactory).createValueAsync(this.id, null);
+		doReturn(CompletableFuture.completedStage(null)).when(this.metaDataFactory).removeAsync(this.id);
+		doReturn(CompletableFuture.completedStage(null)).when(this.attributesFactory).removeAsync(this.id);
+
+		assertThat(factory.getSessionCount()).isZero();
+
+		factory.createValue(this.id, context);
+
+		assertThat(factory.getSessionCount()).isOne();
+
+		factory.remove(this.id);
+
+		assertThat(factory.getSessionCount()).isZero();
+
+		// Count should never be negative, e.g. if this client expires a session created by another client
+		factory.expired(this.event);
+
+		assertThat(factory.getSessionCount()).isZero();
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.session;
+
+import org.wildfly.clustering.function.Consumer;
+
+/**
+ * A listener for session expiration events, that may declare whether or not it accesses the attributes of an expired session.
+ * @author Paul Ferraro
+ */
+public interface SessionExpirationListener extends Consumer<ImmutableSession> {
+
+	/**
+	 * Indicates whether this listener accesses the attributes of expired sessions.
+	 * If false, the attributes of an expired session are not loaded prior to notifying this listener.
+	 * Instead, the {@link ImmutableSession#getAttributes()} of an expired session loads its attributes upon first access, and only for the duration of the notification.
+	 * Consequently, unlike listeners that access session attributes, such a listener is also notified of an expired session whose attributes no longer exist, in which case the session will have no attributes.
+	 * @return true, if this listener accesses the attributes of expired sessions, false otherwise.
+	 */
+	default boolean isAttributeAccessRequired() {
+		return true;
+	}
+
+	/**
+	 * Indicates whether the specified listener of session expiration events accesses the attributes of expired sessions.
+	 * Listeners that are not a {@link SessionExpirationListener} are assumed to access session attributes.
+	 * @param listener a listener of session expiration events
+	 * @return true, if the specified listener accesses the attributes of expired sessions, false otherwise.
+	 */
+	static boolean isAttributeAccessRequired(java.util.function.Consumer<ImmutableSession> listener) {
+		return !(listener instanceof SessionExpirationListener expirationListener) || expirationListener.isAttributeAccessRequired();
+	}
+}
@@ -4,6 +4,8 @@
  */
 package org.wildfly.clustering.session;
 
+import java.time.Duration;
+
 import org.wildfly.clustering.function.Supplier;
 import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
 import org.wildfly.clustering.server.deployment.DeploymentConfiguration;
@@ -39,4 +41,58 @@ public interface SessionManagerFactoryConfiguration<SC> extends DeploymentConfig
 	 * @return the strategy to use for persisting session attributes.
 	 */
 	SessionAttributePersistenceStrategy getAttributePersistenceStrategy();
+
+	/**
+	 * Indicates whether a mutable session attribute read by a request should only be replicated if its marshalled form has changed, as determined by comparing a fingerprint of its marshalled form before and after the request.
+	 * This trades additional marshalling for reduced replication of read-mostly sessions.
+	 * By default, every read of a mutable session attribute triggers its replication.
+	 * @return true, if mutable session attributes are fingerprinted, false otherwise.
+	 */
+	default boolean isMutableAttributeFingerprintingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Indicates whether the expiration of sessions owned by a remote member is scheduled asynchronously, rather than within the request path.
+	 * When enabled, schedule/cancel operations for a given session are dispatched to the primary owner of the session without blocking the request, and are coalesced while a previous operation is in flight.
+	 * Additionally, if sessions are locked for the duration of a request, cancellation is not dispatched at all, since the primary owner will not expire a session while it is in use.
+	 * By default, requests for sessions owned by a remote member await the dispatching of these operations.
+	 * @return true, if expiration of remotely owned sessions is scheduled asynchronously, false otherwise.
+	 */
+	default boolean isAsynchronousExpirationSchedulingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Returns the fraction of the maximum idle duration of a session within which changes to its last access time need not be persisted.
+	 * When positive, a request that changes only the last access time of a session does not replicate its metadata unless its last access time drifted from its persisted value by at least this fraction of its maximum idle duration.
+	 * The unpersisted last access time is retained by the member that handled the request, and consulted by any expiration decision made by that member.
+	 * By default, the last access time of a session is persisted by every request.
+	 * @return a fraction of the maximum idle duration of a session, or 0 if every change to a last access time is persisted.
+	 */
+	default double getLastAccessPersistenceThreshold() {
+		return 0;
+	}
+
+	/**
+	 * Returns the maximum number of expired sessions to remove concurrently.
+	 * When greater than 1, sessions that expire at once, e.g. following a mass logout or a restart, are removed by a bounded pool of workers, rather than serially.
+	 * By default, expired sessions are removed serially.
+	 * @return the maximum number of expired sessions to remove concurrently.
+	 */
+	default int getExpirationConcurrency() {
+		return 1;
+	}
+
+	/**
+	 * Returns the duration within which accesses to the same session via {@link SessionManager#getSessionReference(String)}, e.g. via a Jakarta Servlet session accessor, are coalesced.
+	 * When positive, the first access to a session opens a window, within which subsequent accesses are served from a shared snapshot of the session, and whose last access time is persisted once the window elapses, rather than per access.
+	 * An access that mutates the session, or that reads a mutable session attribute, is not coalesced, and ends the current window.
+	 * Accesses are only coalesced for sessions whose maximum idle duration exceeds this window.
+	 * By default, accesses are not coalesced.
+	 * @return the duration within which accesses to the same session are coalesced, or zero, if accesses are not coalesced.
+	 */
+	default Duration getAccessCoalescingWindow() {
+		return Duration.ZERO;
+	}
 }
@@ -32,4 +32,39 @@ public interface SessionStatistics {
 	default long getActiveSessionCount() {
 		return this.getActiveSessions().size();
 	}
+
+	/**
+	 * Returns the number of sessions, including passive sessions.
+	 * @return the number of sessions.
+	 */
+	default long getSessionCount() {
+		return this.getSessions().size();
+	}
+
+	/**
+	 * Returns the total number of sessions created.
+	 * By default, created sessions are not counted.
+	 * @return the number of created sessions, or 0, if created sessions are not counted.
+	 */
+	default long getCreatedSessionCount() {
+		return 0L;
+	}
+
+	/**
+	 * Returns the total number of sessions expired.
+	 * By default, expired sessions are not counted.
+	 * @return the number of expired sessions, or 0, if expired sessions are not counted.
+	 */
+	default long getExpiredSessionCount() {
+		return 0L;
+	}
+
+	/**
+	 * Returns the total number of sessions passivated.
+	 * By default, passivated sessions are not counted.
+	 * @return the number of passivated sessions, or 0, if passivated sessions are not counted.
+	 */
+	default long getPassivatedSessionCount() {
+		return 0L;
+	}
 }